@@ -0,0 +1,10 @@
+#!/bin/bash
+# Executado pelo entrypoint do postgres na primeira inicialização do primário:
+# cria o usuário de replicação e libera conexões de replicação para ele.
+set -e
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-EOSQL
+    CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD '${REPLICATION_PASSWORD}';
+EOSQL
+
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -1,13 +1,26 @@
 package br.com.grupo99.customerservice.adapter.controller;
 
+import br.com.grupo99.customerservice.application.dto.ClienteBuscaLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteRequestDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClientePageResponseDTO;
 import br.com.grupo99.customerservice.application.dto.ClienteRequestDTO;
 import br.com.grupo99.customerservice.application.dto.ClienteResponseDTO;
+import br.com.grupo99.customerservice.application.service.ClienteLoteApplicationService;
 import br.com.grupo99.customerservice.application.service.CustomerApplicationService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 
 /**
@@ -18,10 +31,17 @@ import java.util.UUID;
 @RequestMapping("/api/v1/clientes")
 public class ClienteController {
 
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final CustomerApplicationService customerApplicationService;
+    private final ClienteLoteApplicationService clienteLoteApplicationService;
+    private final ObjectMapper objectMapper;
 
-    public ClienteController(CustomerApplicationService customerApplicationService) {
+    public ClienteController(CustomerApplicationService customerApplicationService,
+            ClienteLoteApplicationService clienteLoteApplicationService, ObjectMapper objectMapper) {
         this.customerApplicationService = customerApplicationService;
+        this.clienteLoteApplicationService = clienteLoteApplicationService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -33,22 +53,84 @@ public class ClienteController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
     }
 
+    /**
+     * POST /api/v1/clientes/lote - Criar clientes em lote
+     * <p>
+     * Responde 200 com o resultado de cada pessoaId; itens já existentes ou
+     * repetidos não falham o lote.
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<ClienteLoteResponseDTO> criarEmLote(@RequestBody ClienteLoteRequestDTO requestDTO) {
+        return ResponseEntity.ok(clienteLoteApplicationService.criarClientes(requestDTO));
+    }
+
+    /**
+     * POST /api/v1/clientes/lote/busca - Buscar vários clientes por pessoaId
+     * <p>
+     * Responde 200 com um item por pessoaId, na ordem da requisição; os não
+     * encontrados vêm marcados no item.
+     */
+    @PostMapping("/lote/busca")
+    public ResponseEntity<ClienteBuscaLoteResponseDTO> buscarEmLote(@RequestBody ClienteLoteRequestDTO requestDTO) {
+        return ResponseEntity.ok(customerApplicationService.buscarEmLote(requestDTO));
+    }
+
     /**
      * GET /api/v1/clientes/{id} - Buscar cliente por ID
+     * <p>
+     * A ETag é a versão do cliente, que muda também com seus veículos, e vem
+     * da mesma leitura que o corpo. Com If-None-Match, a versão atual é
+     * consultada antes e, se casar, responde 304 sem ler o corpo.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ClienteResponseDTO> buscarPorId(@PathVariable UUID id) {
+    public ResponseEntity<ClienteResponseDTO> buscarPorId(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = ETags.of(customerApplicationService.versaoDoCliente(id));
+            if (ETags.ifNoneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
         ClienteResponseDTO responseDTO = customerApplicationService.buscarPorId(id);
-        return ResponseEntity.ok(responseDTO);
+        return ResponseEntity.ok().eTag(ETags.of(responseDTO.version())).body(responseDTO);
     }
 
     /**
-     * GET /api/v1/clientes - Listar todos os clientes
+     * GET /api/v1/clientes?cursor=&limit= - Listar clientes paginados por cursor
      */
     @GetMapping
-    public ResponseEntity<List<ClienteResponseDTO>> listarTodos() {
-        List<ClienteResponseDTO> clientes = customerApplicationService.listarTodos();
-        return ResponseEntity.ok(clientes);
+    public ResponseEntity<ClientePageResponseDTO> listar(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ClientePageResponseDTO pagina = customerApplicationService.listarPagina(cursor, limit);
+        return ResponseEntity.ok(pagina);
+    }
+
+    /**
+     * GET /api/v1/clientes/export - Exportar todos os clientes e veículos em NDJSON
+     * <p>
+     * Cada cliente é escrito na resposta assim que lido do banco. A escrita
+     * bloqueia quando o consumidor é lento, o que também pausa a leitura do
+     * cursor. Compressão gzip via {@code server.compression}.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        // sem flush por registro: o buffer da resposta decide quando enviar
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.setRootValueSeparator(null);
+                customerApplicationService.exportarTodos(cliente -> {
+                    try {
+                        writer.writeValue(generator, cliente);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
     }
 
     /**
@@ -56,8 +138,10 @@ public class ClienteController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<ClienteResponseDTO> atualizar(@PathVariable UUID id,
-            @RequestBody ClienteRequestDTO requestDTO) {
-        ClienteResponseDTO responseDTO = customerApplicationService.atualizarCliente(id, requestDTO);
+            @RequestBody ClienteRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ClienteResponseDTO responseDTO = customerApplicationService.atualizarCliente(id, requestDTO,
+                ETags.ifMatchVersion(ifMatch));
         return ResponseEntity.ok(responseDTO);
     }
 
@@ -65,8 +149,9 @@ public class ClienteController {
      * DELETE /api/v1/clientes/{id} - Deletar cliente
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletar(@PathVariable UUID id) {
-        customerApplicationService.deletarCliente(id);
+    public ResponseEntity<Void> deletar(@PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        customerApplicationService.deletarCliente(id, ETags.ifMatchVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,58 @@
+package br.com.grupo99.customerservice.adapter.controller;
+
+import br.com.grupo99.customerservice.application.exception.PreconditionFailedException;
+
+/**
+ * ETags fortes a partir das colunas {@code version}: {@code "<versão>"}.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Se um cabeçalho If-None-Match casa com a ETag, na comparação fraca
+     * que a RFC 9110 define para ele.
+     */
+    static boolean ifNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidata : ifNoneMatch.split(",")) {
+            String tag = candidata.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Versão exigida por um cabeçalho If-Match.
+     *
+     * @return a versão, ou null sem cabeçalho ou com {@code *} (basta existir)
+     * @throws PreconditionFailedException se a ETag é fraca ou não é uma das nossas,
+     *         já que nunca casaria na comparação forte
+     */
+    static Long ifMatchVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            try {
+                return Long.parseLong(etag.substring(1, etag.length() - 1));
+            } catch (NumberFormatException e) {
+                // cai na falha abaixo
+            }
+        }
+        throw new PreconditionFailedException("If-Match não corresponde à versão atual: " + ifMatch);
+    }
+}
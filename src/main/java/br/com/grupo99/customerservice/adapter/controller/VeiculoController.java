@@ -1,14 +1,21 @@
 package br.com.grupo99.customerservice.adapter.controller;
 
+import br.com.grupo99.customerservice.application.dto.ImportacaoVeiculosResponseDTO;
 import br.com.grupo99.customerservice.application.dto.VeiculoRequestDTO;
 import br.com.grupo99.customerservice.application.dto.VeiculoResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculosDoClienteDTO;
 import br.com.grupo99.customerservice.application.service.VeiculoApplicationService;
+import br.com.grupo99.customerservice.application.service.VeiculoImportacaoService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,16 +27,18 @@ import java.util.UUID;
 public class VeiculoController {
 
     private final VeiculoApplicationService veiculoApplicationService;
+    private final VeiculoImportacaoService veiculoImportacaoService;
 
-    public VeiculoController(VeiculoApplicationService veiculoApplicationService) {
+    public VeiculoController(VeiculoApplicationService veiculoApplicationService,
+            VeiculoImportacaoService veiculoImportacaoService) {
         this.veiculoApplicationService = veiculoApplicationService;
+        this.veiculoImportacaoService = veiculoImportacaoService;
     }
 
     /**
      * POST - Criar um novo veículo para um cliente.
      */
     @PostMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'CLIENTE')")
     public ResponseEntity<VeiculoResponseDTO> criarVeiculo(
             @PathVariable UUID pessoaId,
             @Valid @RequestBody VeiculoRequestDTO requestDTO) {
@@ -37,51 +46,92 @@ public class VeiculoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * POST /importacoes - Importar veículos de um CSV (corpo {@code text/csv}).
+     * <p>
+     * Responde 202 assim que o arquivo é recebido; o andamento e os erros por
+     * linha ficam em {@code Location}.
+     */
+    @PostMapping(value = "/importacoes", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ImportacaoVeiculosResponseDTO> importarVeiculos(
+            @PathVariable UUID pessoaId,
+            InputStream csv) {
+        ImportacaoVeiculosResponseDTO response = veiculoImportacaoService.iniciar(pessoaId, csv);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{importacaoId}").buildAndExpand(response.id()).toUri();
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+
+    /**
+     * GET /importacoes/{importacaoId} - Andamento de uma importação.
+     */
+    @GetMapping("/importacoes/{importacaoId}")
+    public ResponseEntity<ImportacaoVeiculosResponseDTO> consultarImportacao(
+            @PathVariable UUID pessoaId,
+            @PathVariable UUID importacaoId) {
+        return ResponseEntity.ok(veiculoImportacaoService.consultar(pessoaId, importacaoId));
+    }
+
     /**
      * GET - Listar todos os veículos de um cliente.
+     * <p>
+     * A ETag é a versão do cliente lida junto com a lista.
      */
     @GetMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'CLIENTE')")
     public ResponseEntity<List<VeiculoResponseDTO>> listarVeiculosDoCliente(
-            @PathVariable UUID pessoaId) {
-        List<VeiculoResponseDTO> response = veiculoApplicationService.listarVeiculosDoCliente(pessoaId);
-        return ResponseEntity.ok(response);
+            @PathVariable UUID pessoaId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = ETags.of(veiculoApplicationService.versaoDosVeiculosDoCliente(pessoaId));
+            if (ETags.ifNoneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        VeiculosDoClienteDTO response = veiculoApplicationService.listarVeiculosDoCliente(pessoaId);
+        return ResponseEntity.ok().eTag(ETags.of(response.version())).body(response.veiculos());
     }
 
     /**
      * GET - Buscar um veículo específico.
      */
     @GetMapping("/{veiculoId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'CLIENTE')")
     public ResponseEntity<VeiculoResponseDTO> buscarVeiculo(
             @PathVariable UUID pessoaId,
-            @PathVariable UUID veiculoId) {
+            @PathVariable UUID veiculoId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = ETags.of(veiculoApplicationService.versaoDoVeiculo(veiculoId));
+            if (ETags.ifNoneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
         VeiculoResponseDTO response = veiculoApplicationService.buscarPorId(veiculoId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(ETags.of(response.version())).body(response);
     }
 
     /**
      * PUT - Atualizar um veículo.
      */
     @PutMapping("/{veiculoId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'CLIENTE')")
     public ResponseEntity<VeiculoResponseDTO> atualizarVeiculo(
             @PathVariable UUID pessoaId,
             @PathVariable UUID veiculoId,
-            @Valid @RequestBody VeiculoRequestDTO requestDTO) {
-        VeiculoResponseDTO response = veiculoApplicationService.atualizarVeiculo(pessoaId, veiculoId, requestDTO);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody VeiculoRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        VeiculoResponseDTO response = veiculoApplicationService.atualizarVeiculo(pessoaId, veiculoId, requestDTO,
+                ETags.ifMatchVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.version())).body(response);
     }
 
     /**
      * DELETE - Deletar um veículo.
      */
     @DeleteMapping("/{veiculoId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'CLIENTE')")
     public ResponseEntity<Void> deletarVeiculo(
             @PathVariable UUID pessoaId,
-            @PathVariable UUID veiculoId) {
-        veiculoApplicationService.deletarVeiculo(pessoaId, veiculoId);
+            @PathVariable UUID veiculoId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        veiculoApplicationService.deletarVeiculo(pessoaId, veiculoId, ETags.ifMatchVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
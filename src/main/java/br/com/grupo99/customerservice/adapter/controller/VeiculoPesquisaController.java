@@ -0,0 +1,38 @@
+package br.com.grupo99.customerservice.adapter.controller;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoFiltroDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoPageResponseDTO;
+import br.com.grupo99.customerservice.application.service.VeiculoPesquisaApplicationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller responsável pela pesquisa de veículos por atributos, sem
+ * precisar do cliente dono.
+ */
+@RestController
+@RequestMapping("/api/v1/veiculos")
+public class VeiculoPesquisaController {
+
+    private final VeiculoPesquisaApplicationService veiculoPesquisaApplicationService;
+
+    public VeiculoPesquisaController(VeiculoPesquisaApplicationService veiculoPesquisaApplicationService) {
+        this.veiculoPesquisaApplicationService = veiculoPesquisaApplicationService;
+    }
+
+    /**
+     * GET /api/v1/veiculos?marca=&modelo=&anoMin=&anoMax=&cor=&renavam=&chassi=&cursor=&limit=
+     * - Pesquisar veículos paginados por cursor
+     * <p>
+     * Exige renavam, chassi ou marca e modelo; sem um deles responde 400.
+     */
+    @GetMapping
+    public ResponseEntity<VeiculoPageResponseDTO> pesquisar(VeiculoFiltroDTO filtro,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(veiculoPesquisaApplicationService.pesquisar(filtro, cursor, limit));
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.grupo99.customerservice.adapter.controller;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoBuscaPlacasResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoComClienteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoPlacasRequestDTO;
+import br.com.grupo99.customerservice.application.service.VeiculoPlacaApplicationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller responsável pela busca de veículos por placa, sem precisar do
+ * cliente dono.
+ */
+@RestController
+@RequestMapping("/api/v1/veiculos/placas")
+public class VeiculoPlacaController {
+
+    private final VeiculoPlacaApplicationService veiculoPlacaApplicationService;
+
+    public VeiculoPlacaController(VeiculoPlacaApplicationService veiculoPlacaApplicationService) {
+        this.veiculoPlacaApplicationService = veiculoPlacaApplicationService;
+    }
+
+    /**
+     * GET /api/v1/veiculos/placas/{placa} - Buscar veículo pela placa
+     * <p>
+     * Aceita a placa em qualquer formato: {@code abc-1234}, {@code ABC1234}
+     * e {@code ABC1C34} encontram o mesmo veículo.
+     */
+    @GetMapping("/{placa}")
+    public ResponseEntity<VeiculoComClienteResponseDTO> buscarPorPlaca(@PathVariable String placa) {
+        return ResponseEntity.ok(veiculoPlacaApplicationService.buscarPorPlaca(placa));
+    }
+
+    /**
+     * POST /api/v1/veiculos/placas/busca - Buscar veículos por várias placas
+     * <p>
+     * Responde 200 com um item por placa, na ordem da requisição; as não
+     * encontradas vêm marcadas no item.
+     */
+    @PostMapping("/busca")
+    public ResponseEntity<VeiculoBuscaPlacasResponseDTO> buscarPorPlacas(
+            @RequestBody VeiculoPlacasRequestDTO requestDTO) {
+        return ResponseEntity.ok(veiculoPlacaApplicationService.buscarPorPlacas(requestDTO));
+    }
+}
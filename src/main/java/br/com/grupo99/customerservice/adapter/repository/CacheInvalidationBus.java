@@ -0,0 +1,250 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.repository.ReadCacheInvalidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Barramento de invalidação do {@link ReadCache} entre as réplicas, sobre o
+ * LISTEN/NOTIFY do PostgreSQL.
+ * <p>
+ * Cada alteração é publicada com {@code pg_notify} na própria transação da
+ * escrita: o PostgreSQL só entrega a notificação depois do commit e a
+ * descarta no rollback. Em cada instância uma thread mantém uma conexão
+ * dedicada (fora do pool) em LISTEN e remove do cache local as chaves
+ * recebidas das outras instâncias.
+ * <p>
+ * Notificações enviadas enquanto essa conexão está fora são perdidas. Por
+ * isso o cache fica pausado desde a queda até o LISTEN ser refeito, e é
+ * esvaziado antes de voltar a ser usado.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "clientes.cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationBus implements ReadCacheInvalidator {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    static final String CHANNEL = "customer_cache_invalidation";
+    static final String PUBLICADAS = "cache.invalidacao.publicadas";
+    static final String RECEBIDAS = "cache.invalidacao.recebidas";
+    static final String RECONEXOES = "cache.invalidacao.reconexoes";
+    private static final int VALID_TIMEOUT_SECONDS = 5;
+
+    /**
+     * Abre a conexão usada para o LISTEN.
+     */
+    @FunctionalInterface
+    interface ListenConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+
+    private final ReadCache readCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final ListenConnectionFactory connectionFactory;
+    private final String origem = UUID.randomUUID().toString();
+    private final int pollMs;
+    private final long keepaliveMs;
+    private final long maxBackoffMs;
+    private final Counter publicadas;
+    private final Counter recebidas;
+    private final Counter reconexoes;
+
+    private volatile boolean running;
+    private volatile Connection conexao;
+    private Thread listener;
+    private long backoffMs;
+
+    @Autowired
+    public CacheInvalidationBus(ReadCache readCache, JdbcTemplate jdbcTemplate, DataSourceProperties dataSource,
+            MeterRegistry registry,
+            @Value("${clientes.cache.invalidation.poll-ms:500}") int pollMs,
+            @Value("${clientes.cache.invalidation.keepalive-ms:10000}") long keepaliveMs,
+            @Value("${clientes.cache.invalidation.max-backoff-ms:30000}") long maxBackoffMs) {
+        this(readCache, jdbcTemplate, () -> DriverManager.getConnection(dataSource.determineUrl(),
+                dataSource.determineUsername(), dataSource.determinePassword()),
+                registry, pollMs, keepaliveMs, maxBackoffMs);
+    }
+
+    CacheInvalidationBus(ReadCache readCache, JdbcTemplate jdbcTemplate, ListenConnectionFactory connectionFactory,
+            MeterRegistry registry, int pollMs, long keepaliveMs, long maxBackoffMs) {
+        this.readCache = readCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.connectionFactory = connectionFactory;
+        this.pollMs = pollMs;
+        this.keepaliveMs = keepaliveMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.backoffMs = pollMs;
+        this.publicadas = Counter.builder(PUBLICADAS)
+                .description("Invalidações de cache publicadas para as outras instâncias")
+                .register(registry);
+        this.recebidas = Counter.builder(RECEBIDAS)
+                .description("Invalidações de cache recebidas de outras instâncias")
+                .register(registry);
+        this.reconexoes = Counter.builder(RECONEXOES)
+                .description("Quedas da conexão de LISTEN das invalidações de cache")
+                .register(registry);
+    }
+
+    @Override
+    public void evictCliente(UUID pessoaId) {
+        readCache.evictCliente(pessoaId);
+        publicar("C:" + pessoaId);
+    }
+
+    @Override
+    public void evictVeiculo(UUID veiculoId, UUID clientePessoaId) {
+        readCache.evictVeiculo(veiculoId, clientePessoaId);
+        publicar(veiculoId == null ? "V:" + clientePessoaId : "V:" + clientePessoaId + ":" + veiculoId);
+    }
+
+    /**
+     * Roda na conexão da transação corrente, se houver: a notificação sai
+     * junto com o commit da escrita.
+     */
+    private void publicar(String chave) {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class, CHANNEL, origem + "|" + chave);
+        publicadas.increment();
+    }
+
+    @PostConstruct
+    void start() {
+        iniciar();
+        listener = new Thread(this::run, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    void iniciar() {
+        running = true;
+        // até o primeiro LISTEN as invalidações das outras instâncias não chegam
+        readCache.pause();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+        Connection atual = conexao;
+        if (atual != null) {
+            try {
+                atual.close();
+            } catch (SQLException e) {
+                logger.debug("Falha ao fechar a conexão de invalidação do cache", e);
+            }
+        }
+    }
+
+    void run() {
+        while (running) {
+            try (Connection connection = connectionFactory.connect()) {
+                conexao = connection;
+                escutar(connection);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                readCache.pause();
+                reconexoes.increment();
+                logger.warn("Conexão de invalidação do cache indisponível, nova tentativa em {} ms: {}", backoffMs,
+                        e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+            } finally {
+                conexao = null;
+            }
+        }
+    }
+
+    /**
+     * Assina o canal, retoma o cache e processa as notificações até a
+     * instância parar ou a conexão cair (SQLException).
+     */
+    void escutar(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        // o que foi publicado antes do LISTEN pode ter se perdido: recomeça com o cache vazio
+        readCache.resume();
+        backoffMs = pollMs;
+        logger.info("Escutando invalidações de cache no canal {}", CHANNEL);
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long ultimaVerificacao = System.currentTimeMillis();
+        while (running) {
+            PGNotification[] notificacoes = pgConnection.getNotifications(pollMs);
+            if (notificacoes != null && notificacoes.length > 0) {
+                for (PGNotification notificacao : notificacoes) {
+                    receber(notificacao.getParameter());
+                }
+                ultimaVerificacao = System.currentTimeMillis();
+            } else if (System.currentTimeMillis() - ultimaVerificacao >= keepaliveMs) {
+                // sem tráfego uma queda de rede não é percebida pelo getNotifications
+                if (!connection.isValid(VALID_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Conexão de invalidação do cache não responde");
+                }
+                ultimaVerificacao = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Aplica uma notificação no formato {@code origem|C:pessoaId} ou
+     * {@code origem|V:pessoaId[:veiculoId]}. As da própria instância já
+     * foram aplicadas localmente e são ignoradas.
+     */
+    void receber(String payload) {
+        int separador = payload.indexOf('|');
+        if (separador < 0) {
+            logger.warn("Notificação de invalidação de cache inválida: {}", payload);
+            return;
+        }
+        if (origem.equals(payload.substring(0, separador))) {
+            return;
+        }
+        String[] chave = payload.substring(separador + 1).split(":");
+        try {
+            switch (chave[0]) {
+                case "C" -> readCache.evictCliente(UUID.fromString(chave[1]));
+                case "V" -> readCache.evictVeiculo(chave.length > 2 ? UUID.fromString(chave[2]) : null,
+                        UUID.fromString(chave[1]));
+                default -> {
+                    logger.warn("Notificação de invalidação de cache inválida: {}", payload);
+                    return;
+                }
+            }
+            recebidas.increment();
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            logger.warn("Notificação de invalidação de cache inválida: {}", payload);
+        }
+    }
+
+    String origem() {
+        return origem;
+    }
+}
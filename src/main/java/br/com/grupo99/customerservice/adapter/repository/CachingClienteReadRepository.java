@@ -0,0 +1,70 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.repository.ClienteDetalheView;
+import br.com.grupo99.customerservice.domain.repository.ClienteKeyset;
+import br.com.grupo99.customerservice.domain.repository.ClienteReadRepository;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Decorator read-through de {@link ClienteRepositoryAdapter}: as buscas por
+ * pessoaId passam pelo {@link ReadCache}. A paginação vai sempre ao banco,
+ * já que a página depende do cursor e de clientes criados depois.
+ */
+@Component
+@Primary
+public class CachingClienteReadRepository implements ClienteReadRepository {
+
+    private final ClienteRepositoryAdapter delegate;
+    private final ReadCache readCache;
+
+    public CachingClienteReadRepository(ClienteRepositoryAdapter delegate, ReadCache readCache) {
+        this.delegate = delegate;
+        this.readCache = readCache;
+    }
+
+    @Override
+    public Optional<ClienteView> findViewById(UUID pessoaId) {
+        return readCache.get(readCache.clientes(), pessoaId, delegate::findViewById);
+    }
+
+    @Override
+    public Optional<ClienteDetalheView> findDetalheById(UUID pessoaId) {
+        return readCache.get(readCache.detalhes(), pessoaId, delegate::findDetalheById);
+    }
+
+    /**
+     * Só os pessoaIds ausentes do cache vão ao banco, numa única chamada ao
+     * delegate. Clientes inexistentes não são guardados.
+     */
+    @Override
+    public List<ClienteView> findViewsByIds(Collection<UUID> pessoaIds) {
+        if (!readCache.isEnabled() || pessoaIds.isEmpty()) {
+            return delegate.findViewsByIds(pessoaIds);
+        }
+        Map<UUID, ClienteView> presentes = readCache.clientes().getAllPresent(pessoaIds);
+        List<ClienteView> resultado = new ArrayList<>(presentes.values());
+        List<UUID> faltantes = pessoaIds.stream().filter(id -> !presentes.containsKey(id)).toList();
+        if (!faltantes.isEmpty()) {
+            List<ClienteView> carregados = readCache.carregar(() -> delegate.findViewsByIds(faltantes));
+            if (readCache.canPopulate()) {
+                carregados.forEach(view -> readCache.clientes().put(view.pessoaId(), view));
+            }
+            resultado.addAll(carregados);
+        }
+        return resultado;
+    }
+
+    @Override
+    public List<ClienteView> findViewPage(ClienteKeyset after, int limit) {
+        return delegate.findViewPage(after, limit);
+    }
+}
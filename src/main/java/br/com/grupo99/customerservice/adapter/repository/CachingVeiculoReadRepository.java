@@ -0,0 +1,116 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.model.Placa;
+import br.com.grupo99.customerservice.domain.repository.VeiculoFiltro;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Decorator read-through de {@link VeiculoRepositoryAdapter}: veículos são
+ * guardados por ID, as listas de veículos por cliente e o ID de cada placa.
+ * Os clientes que faltam no cache são carregados juntos, numa única
+ * consulta IN.
+ */
+@Component
+@Primary
+public class CachingVeiculoReadRepository implements VeiculoReadRepository {
+
+    private final VeiculoRepositoryAdapter delegate;
+    private final ReadCache readCache;
+
+    public CachingVeiculoReadRepository(VeiculoRepositoryAdapter delegate, ReadCache readCache) {
+        this.delegate = delegate;
+        this.readCache = readCache;
+    }
+
+    @Override
+    public Optional<VeiculoView> findViewById(UUID id) {
+        return readCache.getVeiculo(id, delegate::findViewById);
+    }
+
+    @Override
+    public List<VeiculoView> findViewsByClientePessoaIds(Collection<UUID> clientePessoaIds) {
+        if (!readCache.isEnabled() || clientePessoaIds.isEmpty()) {
+            return delegate.findViewsByClientePessoaIds(clientePessoaIds);
+        }
+        Set<UUID> ids = new LinkedHashSet<>(clientePessoaIds);
+        Map<UUID, List<VeiculoView>> porCliente = new HashMap<>(
+                readCache.veiculosPorCliente().getAllPresent(ids));
+
+        List<UUID> faltantes = ids.stream().filter(id -> !porCliente.containsKey(id)).toList();
+        if (!faltantes.isEmpty()) {
+            Map<UUID, List<VeiculoView>> carregados = readCache
+                    .carregar(() -> delegate.findViewsByClientePessoaIds(faltantes)).stream()
+                    .collect(Collectors.groupingBy(VeiculoView::clientePessoaId));
+            boolean canPopulate = readCache.canPopulate();
+            for (UUID id : faltantes) {
+                List<VeiculoView> veiculos = List.copyOf(carregados.getOrDefault(id, List.of()));
+                porCliente.put(id, veiculos);
+                if (canPopulate) {
+                    readCache.veiculosPorCliente().put(id, veiculos);
+                }
+            }
+        }
+
+        List<VeiculoView> resultado = new ArrayList<>();
+        ids.forEach(id -> resultado.addAll(porCliente.get(id)));
+        return resultado;
+    }
+
+    /**
+     * Resolve a placa pelo ID guardado em {@link ReadCache#idsPorPlaca()} e a
+     * projeção em {@link ReadCache#veiculos()}, sem ir ao banco. Placas sem
+     * as duas entradas, ou cujo veículo mudou de placa, são carregadas juntas
+     * numa única chamada ao delegate.
+     */
+    @Override
+    public Map<String, VeiculoView> findViewsByPlacas(Collection<String> placasNormalizadas) {
+        if (!readCache.isEnabled() || placasNormalizadas.isEmpty()) {
+            return delegate.findViewsByPlacas(placasNormalizadas);
+        }
+        Map<String, VeiculoView> porPlaca = new HashMap<>();
+        List<String> faltantes = new ArrayList<>();
+        for (String placa : placasNormalizadas) {
+            UUID id = readCache.idsPorPlaca().getIfPresent(placa);
+            VeiculoView veiculo = id == null ? null : readCache.veiculos().getIfPresent(id);
+            if (veiculo != null && placa.equals(Placa.normalizar(veiculo.placa()))) {
+                porPlaca.put(placa, veiculo);
+            } else {
+                faltantes.add(placa);
+            }
+        }
+
+        if (!faltantes.isEmpty()) {
+            Map<String, VeiculoView> carregados = readCache.carregar(() -> delegate.findViewsByPlacas(faltantes));
+            if (readCache.canPopulate()) {
+                carregados.forEach((placa, veiculo) -> {
+                    readCache.putVeiculo(veiculo);
+                    readCache.idsPorPlaca().put(placa, veiculo.id());
+                });
+            }
+            porPlaca.putAll(carregados);
+        }
+        return porPlaca;
+    }
+
+    /**
+     * A pesquisa vai sempre ao banco, como a paginação de clientes.
+     */
+    @Override
+    public List<VeiculoView> findViewPage(VeiculoFiltro filtro, UUID afterId, int limit) {
+        return delegate.findViewPage(filtro, afterId, limit);
+    }
+}
@@ -2,11 +2,24 @@ package br.com.grupo99.customerservice.adapter.repository;
 
 import br.com.grupo99.customerservice.domain.model.Cliente;
 import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository para Cliente.
@@ -20,9 +33,103 @@ import java.util.UUID;
 @Repository
 public interface ClienteJpaRepository extends JpaRepository<Cliente, UUID> {
 
+    /**
+     * Linhas trazidas por ida ao banco no cursor de exportação.
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Itens por bloco nas operações em lote: tamanho das listas IN e linhas
+     * por INSERT de várias linhas, bem abaixo do limite de parâmetros do
+     * driver.
+     */
+    int BULK_CHUNK_SIZE = 1000;
+
     Optional<Cliente> findByPessoaId(UUID pessoaId);
 
+    @EntityGraph(attributePaths = "veiculos")
+    Optional<Cliente> findWithVeiculosByPessoaId(UUID pessoaId);
+
+    @Override
+    @EntityGraph(attributePaths = "veiculos")
+    List<Cliente> findAll();
+
     boolean existsByPessoaId(UUID pessoaId);
 
-    void deleteByPessoaId(UUID pessoaId);
+    /**
+     * INSERT atômico: devolve 0 quando o pessoaId já existe, inclusive se
+     * outra transação o inseriu em paralelo. Sem alvo no ON CONFLICT (o H2 dos
+     * testes não aceita); a chave primária é a única restrição única da tabela.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO clientes (pessoa_id, created_at, updated_at) "
+            + "VALUES (:pessoaId, :createdAt, :createdAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("pessoaId") UUID pessoaId, @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("SELECT c.pessoaId FROM Cliente c WHERE c.pessoaId IN :pessoaIds")
+    List<UUID> findExistingPessoaIds(@Param("pessoaIds") Collection<UUID> pessoaIds);
+
+    @Query("SELECT c.version FROM Cliente c WHERE c.pessoaId = :pessoaId")
+    Optional<Long> findVersionByPessoaId(@Param("pessoaId") UUID pessoaId);
+
+    @Modifying
+    @Query("UPDATE Cliente c SET c.version = c.version + 1 WHERE c.pessoaId = :pessoaId")
+    int incrementVersion(@Param("pessoaId") UUID pessoaId);
+
+    @Modifying
+    @Query("DELETE FROM Cliente c WHERE c.pessoaId = :pessoaId AND c.version = :version")
+    int deleteByPessoaIdAndVersion(@Param("pessoaId") UUID pessoaId, @Param("version") long version);
+
+    /**
+     * DELETE direto, sem carregar o cliente; os veículos saem pelo
+     * {@code ON DELETE CASCADE} da FK.
+     */
+    @Modifying
+    @Query("DELETE FROM Cliente c WHERE c.pessoaId = :pessoaId")
+    int deleteByPessoaId(@Param("pessoaId") UUID pessoaId);
+
+    @Query("SELECT c FROM Cliente c ORDER BY c.createdAt, c.pessoaId")
+    List<Cliente> findFirstPage(Limit limit);
+
+    @Query("SELECT c FROM Cliente c WHERE (c.createdAt, c.pessoaId) > (:createdAt, :pessoaId) "
+            + "ORDER BY c.createdAt, c.pessoaId")
+    List<Cliente> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("pessoaId") UUID pessoaId,
+            Limit limit);
+
+    @Query("SELECT new br.com.grupo99.customerservice.domain.repository.ClienteView(c.pessoaId, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Cliente c WHERE c.pessoaId = :pessoaId")
+    Optional<ClienteView> findViewByPessoaId(@Param("pessoaId") UUID pessoaId);
+
+    /**
+     * Cliente e veículos numa linha por veículo (uma só, com colunas de
+     * veículo nulas, se não houver nenhum), na ordem dos IDs.
+     */
+    @Query("SELECT c.pessoaId, c.createdAt, c.updatedAt, c.version, v.id, v.placa, v.renavam, v.marca, v.modelo, "
+            + "v.ano, v.cor, v.chassi, v.version FROM Cliente c LEFT JOIN c.veiculos v "
+            + "WHERE c.pessoaId = :pessoaId ORDER BY v.id")
+    List<Object[]> findDetalheRowsByPessoaId(@Param("pessoaId") UUID pessoaId);
+
+    @Query("SELECT new br.com.grupo99.customerservice.domain.repository.ClienteView(c.pessoaId, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Cliente c WHERE c.pessoaId IN :pessoaIds")
+    List<ClienteView> findViewsByPessoaIdIn(@Param("pessoaIds") Collection<UUID> pessoaIds);
+
+    @Query("SELECT new br.com.grupo99.customerservice.domain.repository.ClienteView(c.pessoaId, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Cliente c ORDER BY c.createdAt, c.pessoaId")
+    List<ClienteView> findFirstViewPage(Limit limit);
+
+    @Query("SELECT new br.com.grupo99.customerservice.domain.repository.ClienteView(c.pessoaId, c.createdAt, c.updatedAt, c.version) "
+            + "FROM Cliente c WHERE (c.createdAt, c.pessoaId) > (:createdAt, :pessoaId) "
+            + "ORDER BY c.createdAt, c.pessoaId")
+    List<ClienteView> findViewPageAfter(@Param("createdAt") LocalDateTime createdAt,
+            @Param("pessoaId") UUID pessoaId, Limit limit);
+
+    @Query("SELECT c FROM Cliente c")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Cliente> streamAll();
+
+    @Query("SELECT c FROM Cliente c LEFT JOIN FETCH c.veiculos WHERE c.pessoaId IN :pessoaIds")
+    List<Cliente> fetchVeiculos(@Param("pessoaIds") Collection<UUID> pessoaIds);
 }
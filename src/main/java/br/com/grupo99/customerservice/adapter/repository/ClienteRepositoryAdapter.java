@@ -1,28 +1,48 @@
 package br.com.grupo99.customerservice.adapter.repository;
 
 import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.repository.ClienteDetalheView;
+import br.com.grupo99.customerservice.domain.repository.ClienteKeyset;
+import br.com.grupo99.customerservice.domain.repository.ClienteReadRepository;
 import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter que implementa ClienteRepository (domínio) usando Spring Data JPA.
  * 
  * ✅ CLEAN ARCHITECTURE:
- * - Implementa interface de domínio: ClienteRepository
+ * - Implementa interfaces de domínio: ClienteRepository e ClienteReadRepository (projeções)
  * - Delega para JpaRepository: ClienteJpaRepository
  * - Isolamento de framework em adapter layer
  */
 @Repository
-public class ClienteRepositoryAdapter implements ClienteRepository {
+public class ClienteRepositoryAdapter implements ClienteRepository, ClienteReadRepository {
 
     private final ClienteJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public ClienteRepositoryAdapter(ClienteJpaRepository jpaRepository) {
+    public ClienteRepositoryAdapter(ClienteJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -30,9 +50,19 @@ public class ClienteRepositoryAdapter implements ClienteRepository {
         return jpaRepository.save(cliente);
     }
 
+    @Override
+    public boolean insertIfAbsent(Cliente cliente) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (jpaRepository.insertIfAbsent(cliente.getPessoaId(), agora) == 0) {
+            return false;
+        }
+        cliente.registrarInsercao(agora);
+        return true;
+    }
+
     @Override
     public Optional<Cliente> findByPessoaId(UUID pessoaId) {
-        return jpaRepository.findByPessoaId(pessoaId);
+        return jpaRepository.findWithVeiculosByPessoaId(pessoaId);
     }
 
     @Override
@@ -41,13 +71,91 @@ public class ClienteRepositoryAdapter implements ClienteRepository {
     }
 
     @Override
-    public void deleteByPessoaId(UUID pessoaId) {
-        jpaRepository.deleteByPessoaId(pessoaId);
+    public Set<UUID> findExistingPessoaIds(Collection<UUID> pessoaIds) {
+        List<UUID> ids = List.copyOf(pessoaIds);
+        Set<UUID> existentes = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += ClienteJpaRepository.BULK_CHUNK_SIZE) {
+            int to = Math.min(from + ClienteJpaRepository.BULK_CHUNK_SIZE, ids.size());
+            existentes.addAll(jpaRepository.findExistingPessoaIds(ids.subList(from, to)));
+        }
+        return existentes;
+    }
+
+    /**
+     * Um INSERT ... VALUES de várias linhas com ON CONFLICT DO NOTHING por
+     * bloco, cuja contagem diz se todas as linhas entraram. Se alguma já
+     * existia (outra transação inseriu o mesmo pessoaId depois da checagem do
+     * chamador), o bloco é desfeito até o savepoint e refeito linha a linha,
+     * para saber exatamente quais foram inseridas aqui.
+     */
+    @Override
+    public Set<UUID> insertAllIfAbsent(List<Cliente> clientes) {
+        LocalDateTime agora = LocalDateTime.now();
+        Session session = entityManager.unwrap(Session.class);
+        Set<UUID> inseridos = new HashSet<>();
+        for (int from = 0; from < clientes.size(); from += ClienteJpaRepository.BULK_CHUNK_SIZE) {
+            List<Cliente> bloco = clientes.subList(from, Math.min(from + ClienteJpaRepository.BULK_CHUNK_SIZE,
+                    clientes.size()));
+            Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+            if (inserir(bloco, agora) == bloco.size()) {
+                session.doWork(connection -> connection.releaseSavepoint(savepoint));
+                bloco.forEach(cliente -> inseridos.add(cliente.getPessoaId()));
+            } else {
+                session.doWork(connection -> connection.rollback(savepoint));
+                for (Cliente cliente : bloco) {
+                    if (inserir(List.of(cliente), agora) == 1) {
+                        inseridos.add(cliente.getPessoaId());
+                    }
+                }
+            }
+        }
+        clientes.stream()
+                .filter(cliente -> inseridos.contains(cliente.getPessoaId()))
+                .forEach(cliente -> cliente.registrarInsercao(agora));
+        return inseridos;
+    }
+
+    private int inserir(List<Cliente> clientes, LocalDateTime agora) {
+        StringBuilder sql = new StringBuilder("INSERT INTO clientes (pessoa_id, created_at, updated_at) VALUES ");
+        for (int i = 0; i < clientes.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(:p").append(i).append(", :agora, :agora)");
+        }
+        Query insert = entityManager.createNativeQuery(sql.append(" ON CONFLICT DO NOTHING").toString())
+                .setParameter("agora", agora);
+        for (int i = 0; i < clientes.size(); i++) {
+            insert.setParameter("p" + i, clientes.get(i).getPessoaId());
+        }
+        return insert.executeUpdate();
+    }
+
+    @Override
+    public Optional<Long> findVersion(UUID pessoaId) {
+        return jpaRepository.findVersionByPessoaId(pessoaId);
+    }
+
+    @Override
+    public boolean incrementVersion(UUID pessoaId) {
+        return jpaRepository.incrementVersion(pessoaId) > 0;
+    }
+
+    @Override
+    public boolean deleteByPessoaIdAndVersion(UUID pessoaId, long version) {
+        return jpaRepository.deleteByPessoaIdAndVersion(pessoaId, version) > 0;
+    }
+
+    @Override
+    public boolean deleteByPessoaId(UUID pessoaId) {
+        return jpaRepository.deleteByPessoaId(pessoaId) > 0;
     }
 
     @Override
     public Optional<Cliente> findById(UUID pessoaId) {
-        return jpaRepository.findById(pessoaId);
+        return jpaRepository.findWithVeiculosByPessoaId(pessoaId);
+    }
+
+    @Override
+    public Cliente getReference(UUID pessoaId) {
+        return jpaRepository.getReferenceById(pessoaId);
     }
 
     @Override
@@ -55,6 +163,97 @@ public class ClienteRepositoryAdapter implements ClienteRepository {
         return jpaRepository.findAll();
     }
 
+    /**
+     * Duas consultas por página: os clientes (com LIMIT no banco) e os
+     * veículos de todos eles. Um JOIN FETCH direto na consulta paginada
+     * obrigaria o Hibernate a paginar em memória.
+     */
+    @Override
+    public List<Cliente> findPage(ClienteKeyset after, int limit) {
+        List<Cliente> page = after == null
+                ? jpaRepository.findFirstPage(Limit.of(limit))
+                : jpaRepository.findPageAfter(after.createdAt(), after.pessoaId(), Limit.of(limit));
+        if (!page.isEmpty()) {
+            jpaRepository.fetchVeiculos(page.stream().map(Cliente::getPessoaId).toList());
+        }
+        return page;
+    }
+
+    @Override
+    public Optional<ClienteView> findViewById(UUID pessoaId) {
+        return jpaRepository.findViewByPessoaId(pessoaId);
+    }
+
+    @Override
+    public Optional<ClienteDetalheView> findDetalheById(UUID pessoaId) {
+        List<Object[]> rows = jpaRepository.findDetalheRowsByPessoaId(pessoaId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] primeira = rows.get(0);
+        ClienteView cliente = new ClienteView(pessoaId, (LocalDateTime) primeira[1], (LocalDateTime) primeira[2],
+                (Long) primeira[3]);
+        List<VeiculoView> veiculos = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[4] != null) {
+                veiculos.add(new VeiculoView((UUID) row[4], pessoaId, (String) row[5], (String) row[6],
+                        (String) row[7], (String) row[8], (Integer) row[9], (String) row[10], (String) row[11],
+                        (Long) row[12]));
+            }
+        }
+        return Optional.of(new ClienteDetalheView(cliente, veiculos));
+    }
+
+    @Override
+    public List<ClienteView> findViewsByIds(Collection<UUID> pessoaIds) {
+        List<UUID> ids = List.copyOf(pessoaIds);
+        List<ClienteView> views = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ClienteJpaRepository.BULK_CHUNK_SIZE) {
+            int to = Math.min(from + ClienteJpaRepository.BULK_CHUNK_SIZE, ids.size());
+            views.addAll(jpaRepository.findViewsByPessoaIdIn(ids.subList(from, to)));
+        }
+        return views;
+    }
+
+    @Override
+    public List<ClienteView> findViewPage(ClienteKeyset after, int limit) {
+        if (after == null) {
+            return jpaRepository.findFirstViewPage(Limit.of(limit));
+        }
+        return jpaRepository.findViewPageAfter(after.createdAt(), after.pessoaId(), Limit.of(limit));
+    }
+
+    /**
+     * Percorre os clientes por um cursor no banco em blocos de
+     * {@link ClienteJpaRepository#EXPORT_FETCH_SIZE}. Os veículos de cada bloco
+     * vêm numa única consulta e o contexto de persistência é limpo ao fim do
+     * bloco, então a memória usada não cresce com o total de clientes.
+     */
+    @Override
+    public void forEach(Consumer<Cliente> action) {
+        List<Cliente> chunk = new ArrayList<>(ClienteJpaRepository.EXPORT_FETCH_SIZE);
+        try (Stream<Cliente> clientes = jpaRepository.streamAll()) {
+            clientes.forEach(cliente -> {
+                chunk.add(cliente);
+                if (chunk.size() == ClienteJpaRepository.EXPORT_FETCH_SIZE) {
+                    processChunk(chunk, action);
+                }
+            });
+        }
+        processChunk(chunk, action);
+    }
+
+    private void processChunk(List<Cliente> chunk, Consumer<Cliente> action) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        // inicializa as coleções das instâncias já gerenciadas do bloco
+        jpaRepository.fetchVeiculos(chunk.stream().map(Cliente::getPessoaId).toList());
+        chunk.forEach(action);
+        chunk.clear();
+        entityManager.clear();
+    }
+
     @Override
     public void deleteById(UUID pessoaId) {
         jpaRepository.deleteById(pessoaId);
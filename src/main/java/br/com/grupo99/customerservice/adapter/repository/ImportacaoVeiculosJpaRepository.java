@@ -0,0 +1,50 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.model.ImportacaoVeiculos;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository para ImportacaoVeiculos.
+ * Implementa a interface de domínio ImportacaoVeiculosRepository.
+ */
+@Repository
+public interface ImportacaoVeiculosJpaRepository extends JpaRepository<ImportacaoVeiculos, UUID> {
+
+    @Query("SELECT i FROM ImportacaoVeiculos i LEFT JOIN FETCH i.erros WHERE i.id = :id")
+    Optional<ImportacaoVeiculos> findComErrosById(@Param("id") UUID id);
+
+    /**
+     * DELETE direto, sem carregar a importação: vale também para uma que
+     * acabou de ser persistida na mesma transação.
+     */
+    @Modifying
+    @Query("DELETE FROM ImportacaoVeiculos i WHERE i.id = :id")
+    int deleteImportacaoById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE ImportacaoVeiculos i SET i.atualizadaEm = :agora WHERE i.id = :id AND i.status = :emAndamento")
+    int renovarEmAndamento(@Param("id") UUID id, @Param("agora") LocalDateTime agora,
+            @Param("emAndamento") ImportacaoVeiculos.Status emAndamento);
+
+    @Modifying
+    @Query("UPDATE ImportacaoVeiculos i SET i.status = :falhou, i.mensagem = :mensagem, i.concluidaEm = :agora, "
+            + "i.atualizadaEm = :agora WHERE i.status = :emAndamento AND i.atualizadaEm < :limite")
+    int marcarInterrompidas(@Param("limite") LocalDateTime limite, @Param("mensagem") String mensagem,
+            @Param("agora") LocalDateTime agora, @Param("emAndamento") ImportacaoVeiculos.Status emAndamento,
+            @Param("falhou") ImportacaoVeiculos.Status falhou);
+
+    /**
+     * Os erros saem pelo ON DELETE CASCADE da tabela de erros.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM importacoes_veiculos WHERE concluida_em < :limite", nativeQuery = true)
+    int deleteConcluidasAntesDe(@Param("limite") LocalDateTime limite);
+}
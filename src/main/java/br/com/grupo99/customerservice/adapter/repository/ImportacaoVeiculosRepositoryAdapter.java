@@ -0,0 +1,53 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.model.ImportacaoVeiculos;
+import br.com.grupo99.customerservice.domain.repository.ImportacaoVeiculosRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter que implementa ImportacaoVeiculosRepository (domínio) usando Spring Data JPA.
+ */
+@Repository
+public class ImportacaoVeiculosRepositoryAdapter implements ImportacaoVeiculosRepository {
+
+    private final ImportacaoVeiculosJpaRepository jpaRepository;
+
+    public ImportacaoVeiculosRepositoryAdapter(ImportacaoVeiculosJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public ImportacaoVeiculos save(ImportacaoVeiculos importacao) {
+        return jpaRepository.save(importacao);
+    }
+
+    @Override
+    public Optional<ImportacaoVeiculos> findById(UUID id) {
+        return jpaRepository.findComErrosById(id);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        jpaRepository.deleteImportacaoById(id);
+    }
+
+    @Override
+    public boolean renovarEmAndamento(UUID id) {
+        return jpaRepository.renovarEmAndamento(id, LocalDateTime.now(), ImportacaoVeiculos.Status.EM_ANDAMENTO) > 0;
+    }
+
+    @Override
+    public int marcarInterrompidas(LocalDateTime limite, String mensagem) {
+        return jpaRepository.marcarInterrompidas(limite, mensagem, LocalDateTime.now(),
+                ImportacaoVeiculos.Status.EM_ANDAMENTO, ImportacaoVeiculos.Status.FALHOU);
+    }
+
+    @Override
+    public int deleteConcluidasAntesDe(LocalDateTime limite) {
+        return jpaRepository.deleteConcluidasAntesDe(limite);
+    }
+}
@@ -0,0 +1,279 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.repository.ClienteDetalheView;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import br.com.grupo99.customerservice.domain.repository.ReadCacheInvalidator;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import br.com.grupo99.customerservice.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches em memória das projeções de leitura de Cliente e Veículo, usados
+ * pelos decorators {@link CachingClienteReadRepository} e
+ * {@link CachingVeiculoReadRepository}.
+ * Cada cache é limitado em tamanho e em tempo de vida
+ * ({@code clientes.cache.*}) e publica no Micrometer as métricas
+ * {@code cache.*{cache=...}} e {@code cache.hit.ratio}.
+ * <p>
+ * Só projeções encontradas são guardadas, e apenas quando lidas fora de uma
+ * transação de escrita: uma leitura que enxerga dados ainda não confirmados
+ * não pode ficar visível para as outras requisições. Nem quando lidas da
+ * réplica: atrasada, ela recolocaria no cache o valor que uma invalidação
+ * acabou de remover. Por isso as cargas de cache miss pedem o primário
+ * ({@link #carregar(Supplier)}).
+ */
+@Component
+public class ReadCache implements ReadCacheInvalidator {
+    static final String CLIENTES = "clientes.views";
+    static final String DETALHES = "clientes.detalhes";
+    static final String VEICULOS = "veiculos.views";
+    static final String VEICULOS_POR_CLIENTE = "veiculos.views-por-cliente";
+    static final String IDS_POR_PLACA = "veiculos.ids-por-placa";
+    static final String HIT_RATIO = "cache.hit.ratio";
+
+    private final boolean enabled;
+    private volatile boolean paused;
+    private final Cache<UUID, ClienteView> clientes;
+    private final Cache<UUID, ClienteDetalheView> detalhes;
+    private final Cache<UUID, VeiculoView> veiculos;
+    private final Cache<UUID, List<VeiculoView>> veiculosPorCliente;
+    private final Cache<String, UUID> idsPorPlaca;
+    private final Cache<UUID, Set<UUID>> idsPorCliente;
+
+    @Autowired
+    public ReadCache(@Value("${clientes.cache.enabled:true}") boolean enabled,
+            @Value("${clientes.cache.max-size:10000}") long maxSize,
+            @Value("${clientes.cache.ttl-ms:60000}") long ttlMs, MeterRegistry meterRegistry) {
+        this(enabled, maxSize, ttlMs, meterRegistry, Ticker.systemTicker());
+    }
+
+    ReadCache(boolean enabled, long maxSize, long ttlMs, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = enabled;
+        this.clientes = build(maxSize, ttlMs, ticker, CLIENTES, meterRegistry);
+        this.detalhes = build(maxSize, ttlMs, ticker, DETALHES, meterRegistry);
+        this.veiculos = build(maxSize, ttlMs, ticker, VEICULOS, meterRegistry);
+        this.veiculosPorCliente = build(maxSize, ttlMs, ticker, VEICULOS_POR_CLIENTE, meterRegistry);
+        this.idsPorPlaca = build(maxSize, ttlMs, ticker, IDS_POR_PLACA, meterRegistry);
+        // sem limite de tamanho para nunca perder a entrada de um veículo ainda
+        // em cache; o dobro do TTL cobre o intervalo entre gravar o índice e o veículo
+        this.idsPorCliente = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs).multipliedBy(2))
+                .ticker(ticker)
+                .build();
+    }
+
+    private static <K, V> Cache<K, V> build(long maxSize, long ttlMs, Ticker ticker, String name,
+            MeterRegistry meterRegistry) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        Gauge.builder(HIT_RATIO, cache, c -> c.stats().hitRate())
+                .description("Fração das leituras atendidas pelo cache")
+                .tag("cache", name)
+                .register(meterRegistry);
+        return cache;
+    }
+
+    boolean isEnabled() {
+        return enabled && !paused;
+    }
+
+    /**
+     * Deixa de usar o cache até {@link #resume()}: as leituras vão direto ao
+     * banco. Usado enquanto as invalidações de outras instâncias não chegam.
+     */
+    void pause() {
+        paused = true;
+    }
+
+    /**
+     * Descarta todas as entradas e volta a usar o cache.
+     */
+    void resume() {
+        invalidateAll();
+        paused = false;
+    }
+
+    void invalidateAll() {
+        clientes.invalidateAll();
+        detalhes.invalidateAll();
+        veiculos.invalidateAll();
+        veiculosPorCliente.invalidateAll();
+        idsPorPlaca.invalidateAll();
+        idsPorCliente.invalidateAll();
+    }
+
+    Cache<UUID, ClienteView> clientes() {
+        return clientes;
+    }
+
+    /**
+     * Cliente com a lista de veículos, lidos juntos: base da resposta e da
+     * ETag de {@code GET /clientes/{id}} e {@code /clientes/{id}/veiculos}.
+     */
+    Cache<UUID, ClienteDetalheView> detalhes() {
+        return detalhes;
+    }
+
+    /**
+     * Somente leitura: veículos entram pelo {@link #putVeiculo(VeiculoView)},
+     * que mantém o índice por cliente.
+     */
+    Cache<UUID, VeiculoView> veiculos() {
+        return veiculos;
+    }
+
+    /**
+     * Guarda o veículo e o registra no índice cliente → IDs de veículos usado
+     * por {@link #evictCliente(UUID)}. O índice é gravado antes, para que uma
+     * remoção concorrente sempre encontre o veículo que já está no cache.
+     */
+    void putVeiculo(VeiculoView veiculo) {
+        idsPorCliente.asMap().compute(veiculo.clientePessoaId(), (pessoaId, ids) -> {
+            Set<UUID> atual = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            atual.add(veiculo.id());
+            return atual;
+        });
+        veiculos.put(veiculo.id(), veiculo);
+    }
+
+    Cache<UUID, List<VeiculoView>> veiculosPorCliente() {
+        return veiculosPorCliente;
+    }
+
+    /**
+     * Placa normalizada → ID do veículo. Não é invalidado nas escritas: a
+     * entrada só é usada se o veículo ainda estiver em {@link #veiculos()}
+     * com a mesma placa, e esse sim é invalidado.
+     */
+    Cache<String, UUID> idsPorPlaca() {
+        return idsPorPlaca;
+    }
+
+    /**
+     * Devolve a projeção do cache ou a carrega pelo {@code loader}, guardando
+     * o resultado se ele existir e puder ser compartilhado.
+     */
+    <V> Optional<V> get(Cache<UUID, V> cache, UUID key, Function<UUID, Optional<V>> loader) {
+        return get(cache, key, loader, cache::put);
+    }
+
+    /**
+     * {@link #get} para {@link #veiculos()}, guardando pelo {@link #putVeiculo(VeiculoView)}.
+     */
+    Optional<VeiculoView> getVeiculo(UUID id, Function<UUID, Optional<VeiculoView>> loader) {
+        return get(veiculos, id, loader, (key, veiculo) -> putVeiculo(veiculo));
+    }
+
+    private <V> Optional<V> get(Cache<UUID, V> cache, UUID key, Function<UUID, Optional<V>> loader,
+            BiConsumer<UUID, V> put) {
+        if (!isEnabled()) {
+            return loader.apply(key);
+        }
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<V> loaded = carregar(() -> loader.apply(key));
+        if (canPopulate()) {
+            loaded.ifPresent(value -> put.accept(key, value));
+        }
+        return loaded;
+    }
+
+    /**
+     * Carrega do banco o que faltou no cache, no primário se a transação
+     * ainda não tiver aberto a conexão, para que o resultado possa ser guardado.
+     */
+    <T> T carregar(Supplier<T> loader) {
+        return ReplicaRoutingDataSource.noPrimario(loader);
+    }
+
+    /**
+     * Fora de transação, ou em transação somente leitura que não leu da
+     * réplica, o resultado já está confirmado no primário e pode ser guardado.
+     * Sem sincronização de transação não há como saber de onde veio a leitura.
+     */
+    boolean canPopulate() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return true;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && TransactionSynchronizationManager.isSynchronizationActive()
+                && !ReplicaRoutingDataSource.leuDaReplica();
+    }
+
+    @Override
+    public void evictCliente(UUID pessoaId) {
+        evict(() -> {
+            clientes.invalidate(pessoaId);
+            detalhes.invalidate(pessoaId);
+            veiculosPorCliente.invalidate(pessoaId);
+            // a remoção do cliente apaga os veículos em cascata; o índice fica,
+            // para a nova remoção ao fim da transação achar o que for recolocado
+            Set<UUID> ids = idsPorCliente.getIfPresent(pessoaId);
+            if (ids != null) {
+                veiculos.invalidateAll(ids);
+            }
+        });
+    }
+
+    @Override
+    public void evictVeiculo(UUID veiculoId, UUID clientePessoaId) {
+        evict(() -> {
+            if (veiculoId != null) {
+                veiculos.invalidate(veiculoId);
+            }
+            // o ID continua no índice do cliente: sobrar é inofensivo, faltar não
+            veiculosPorCliente.invalidate(clientePessoaId);
+            // a versão do cliente muda junto com qualquer veículo dele
+            clientes.invalidate(clientePessoaId);
+            detalhes.invalidate(clientePessoaId);
+        });
+    }
+
+    /**
+     * Remove já e, se houver transação, de novo ao fim dela: uma leitura
+     * concorrente pode ter recolocado o valor antigo antes do commit.
+     * Também remove com o cache pausado, já que a transação pode terminar
+     * depois do {@link #resume()}.
+     */
+    private void evict(Runnable remocao) {
+        if (!enabled) {
+            return;
+        }
+        remocao.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remocao.run();
+                }
+            });
+        }
+    }
+}
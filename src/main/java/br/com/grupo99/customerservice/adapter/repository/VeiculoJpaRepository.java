@@ -1,9 +1,14 @@
 package br.com.grupo99.customerservice.adapter.repository;
 
 import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,4 +30,49 @@ public interface VeiculoJpaRepository extends JpaRepository<Veiculo, UUID> {
     List<Veiculo> findByClientePessoaId(UUID clientePessoaId);
 
     boolean existsByPlaca(String placa);
+
+    /**
+     * Grava todos os campos do veículo se ele ainda estiver na versão
+     * {@code version}, incrementando-a. Conflitos de placa/renavam saem pela
+     * restrição única.
+     */
+    @Modifying
+    @Query("UPDATE Veiculo v SET v.placa = :placa, v.placaNormalizada = :placaNormalizada, v.renavam = :renavam, v.marca = :marca, v.modelo = :modelo, "
+            + "v.ano = :ano, v.cor = :cor, v.chassi = :chassi, v.version = v.version + 1 "
+            + "WHERE v.id = :id AND v.cliente.pessoaId = :clientePessoaId AND v.version = :version")
+    int updateIfVersion(@Param("id") UUID id, @Param("clientePessoaId") UUID clientePessoaId,
+            @Param("version") Long version, @Param("placa") String placa,
+            @Param("placaNormalizada") String placaNormalizada, @Param("renavam") String renavam,
+            @Param("marca") String marca, @Param("modelo") String modelo, @Param("ano") Integer ano,
+            @Param("cor") String cor, @Param("chassi") String chassi);
+
+    @Query("SELECT v.version FROM Veiculo v WHERE v.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("DELETE FROM Veiculo v WHERE v.id = :id AND v.cliente.pessoaId = :clientePessoaId AND v.version = :version")
+    int deleteByIdAndClientePessoaIdAndVersion(@Param("id") UUID id, @Param("clientePessoaId") UUID clientePessoaId,
+            @Param("version") long version);
+
+    @Modifying
+    @Query("DELETE FROM Veiculo v WHERE v.id = :id AND v.cliente.pessoaId = :clientePessoaId")
+    int deleteByIdAndClientePessoaId(@Param("id") UUID id, @Param("clientePessoaId") UUID clientePessoaId);
+
+    @Query("SELECT v.placa FROM Veiculo v WHERE v.placa IN :placas")
+    List<String> findExistingPlacas(@Param("placas") Collection<String> placas);
+
+    @Query("SELECT v.renavam FROM Veiculo v WHERE v.renavam IN :renavams")
+    List<String> findExistingRenavams(@Param("renavams") Collection<String> renavams);
+
+    @Query("SELECT new br.com.grupo99.customerservice.domain.repository.VeiculoView(v.id, v.cliente.pessoaId, v.placa, v.renavam, v.marca, "
+            + "v.modelo, v.ano, v.cor, v.chassi, v.version) FROM Veiculo v WHERE v.id = :id")
+    Optional<VeiculoView> findViewById(@Param("id") UUID id);
+
+    @Query("SELECT new br.com.grupo99.customerservice.domain.repository.VeiculoView(v.id, v.cliente.pessoaId, v.placa, v.renavam, v.marca, "
+            + "v.modelo, v.ano, v.cor, v.chassi, v.version) FROM Veiculo v WHERE v.cliente.pessoaId IN :pessoaIds")
+    List<VeiculoView> findViewsByClientePessoaIdIn(@Param("pessoaIds") Collection<UUID> pessoaIds);
+
+    @Query("SELECT new br.com.grupo99.customerservice.domain.repository.VeiculoView(v.id, v.cliente.pessoaId, v.placa, v.renavam, v.marca, "
+            + "v.modelo, v.ano, v.cor, v.chassi, v.version) FROM Veiculo v WHERE v.placaNormalizada IN :placas ORDER BY v.id")
+    List<VeiculoView> findViewsByPlacaNormalizadaIn(@Param("placas") Collection<String> placasNormalizadas);
 }
@@ -1,28 +1,46 @@
 package br.com.grupo99.customerservice.adapter.repository;
 
+import br.com.grupo99.customerservice.domain.model.Placa;
 import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.VeiculoFiltro;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
 import br.com.grupo99.customerservice.domain.repository.VeiculoRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Adapter que implementa VeiculoRepository (domínio) usando Spring Data JPA.
  * 
  * ✅ CLEAN ARCHITECTURE:
- * - Implementa interface de domínio: VeiculoRepository
+ * - Implementa interfaces de domínio: VeiculoRepository e VeiculoReadRepository (projeções)
  * - Delega para JpaRepository: VeiculoJpaRepository
  * - Isolamento de framework em adapter layer
  */
 @Repository
-public class VeiculoRepositoryAdapter implements VeiculoRepository {
+public class VeiculoRepositoryAdapter implements VeiculoRepository, VeiculoReadRepository {
 
     private final VeiculoJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public VeiculoRepositoryAdapter(VeiculoJpaRepository jpaRepository) {
+    public VeiculoRepositoryAdapter(VeiculoJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -30,6 +48,18 @@ public class VeiculoRepositoryAdapter implements VeiculoRepository {
         return jpaRepository.save(veiculo);
     }
 
+    /**
+     * Veículos novos têm o ID gerado pelo Hibernate, então o save vira persist
+     * direto e os INSERTs saem em lotes de {@code hibernate.jdbc.batch_size}
+     * no flush.
+     */
+    @Override
+    public void saveAll(List<Veiculo> veiculos) {
+        jpaRepository.saveAll(veiculos);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
     @Override
     public Optional<Veiculo> findById(UUID id) {
         return jpaRepository.findById(id);
@@ -55,8 +85,130 @@ public class VeiculoRepositoryAdapter implements VeiculoRepository {
         jpaRepository.deleteById(id);
     }
 
+    @Override
+    public boolean updateIfVersion(VeiculoView veiculo, long expectedVersion) {
+        return jpaRepository.updateIfVersion(veiculo.id(), veiculo.clientePessoaId(), expectedVersion,
+                veiculo.placa(), Placa.normalizar(veiculo.placa()), veiculo.renavam(), veiculo.marca(), veiculo.modelo(), veiculo.ano(),
+                veiculo.cor(), veiculo.chassi()) > 0;
+    }
+
+    @Override
+    public Optional<Long> findVersion(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public boolean deleteByIdAndClientePessoaIdAndVersion(UUID id, UUID clientePessoaId, long version) {
+        return jpaRepository.deleteByIdAndClientePessoaIdAndVersion(id, clientePessoaId, version) > 0;
+    }
+
+    @Override
+    public boolean deleteByIdAndClientePessoaId(UUID id, UUID clientePessoaId) {
+        return jpaRepository.deleteByIdAndClientePessoaId(id, clientePessoaId) > 0;
+    }
+
     @Override
     public List<Veiculo> findAll() {
         return jpaRepository.findAll();
     }
+
+    @Override
+    public Set<String> findExistingPlacas(Collection<String> placas) {
+        List<String> valores = List.copyOf(placas);
+        Set<String> existentes = new HashSet<>();
+        for (int from = 0; from < valores.size(); from += ClienteJpaRepository.BULK_CHUNK_SIZE) {
+            int to = Math.min(from + ClienteJpaRepository.BULK_CHUNK_SIZE, valores.size());
+            existentes.addAll(jpaRepository.findExistingPlacas(valores.subList(from, to)));
+        }
+        return existentes;
+    }
+
+    @Override
+    public Set<String> findExistingRenavams(Collection<String> renavams) {
+        List<String> valores = List.copyOf(renavams);
+        Set<String> existentes = new HashSet<>();
+        for (int from = 0; from < valores.size(); from += ClienteJpaRepository.BULK_CHUNK_SIZE) {
+            int to = Math.min(from + ClienteJpaRepository.BULK_CHUNK_SIZE, valores.size());
+            existentes.addAll(jpaRepository.findExistingRenavams(valores.subList(from, to)));
+        }
+        return existentes;
+    }
+
+    @Override
+    public Optional<VeiculoView> findViewById(UUID id) {
+        return jpaRepository.findViewById(id);
+    }
+
+    @Override
+    public List<VeiculoView> findViewsByClientePessoaIds(Collection<UUID> clientePessoaIds) {
+        if (clientePessoaIds.size() <= ClienteJpaRepository.BULK_CHUNK_SIZE) {
+            return clientePessoaIds.isEmpty() ? List.of() : jpaRepository.findViewsByClientePessoaIdIn(clientePessoaIds);
+        }
+        List<UUID> ids = List.copyOf(clientePessoaIds);
+        List<VeiculoView> views = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ClienteJpaRepository.BULK_CHUNK_SIZE) {
+            int to = Math.min(from + ClienteJpaRepository.BULK_CHUNK_SIZE, ids.size());
+            views.addAll(jpaRepository.findViewsByClientePessoaIdIn(ids.subList(from, to)));
+        }
+        return views;
+    }
+
+    /**
+     * Placas que, por dados antigos, aparecem em mais de um veículo ficam com
+     * o de menor ID.
+     */
+    @Override
+    public Map<String, VeiculoView> findViewsByPlacas(Collection<String> placasNormalizadas) {
+        List<String> placas = List.copyOf(placasNormalizadas);
+        Map<String, VeiculoView> views = new HashMap<>();
+        for (int from = 0; from < placas.size(); from += ClienteJpaRepository.BULK_CHUNK_SIZE) {
+            int to = Math.min(from + ClienteJpaRepository.BULK_CHUNK_SIZE, placas.size());
+            jpaRepository.findViewsByPlacaNormalizadaIn(placas.subList(from, to))
+                    .forEach(view -> views.putIfAbsent(Placa.normalizar(view.placa()), view));
+        }
+        return views;
+    }
+
+    /**
+     * Monta a consulta com a Criteria API só com os critérios informados, o
+     * que mantém o SQL restrito às colunas indexadas de {@link VeiculoFiltro}.
+     */
+    @Override
+    public List<VeiculoView> findViewPage(VeiculoFiltro filtro, UUID afterId, int limit) {
+        if (!filtro.usaIndice()) {
+            throw new IllegalArgumentException("Filtro de veículos sem índice: " + filtro);
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VeiculoView> query = cb.createQuery(VeiculoView.class);
+        Root<Veiculo> veiculo = query.from(Veiculo.class);
+
+        List<Predicate> where = new ArrayList<>();
+        igual(cb, where, veiculo.get("marca"), filtro.marca());
+        igual(cb, where, veiculo.get("modelo"), filtro.modelo());
+        if (filtro.anoMin() != null) {
+            where.add(cb.greaterThanOrEqualTo(veiculo.get("ano"), filtro.anoMin()));
+        }
+        if (filtro.anoMax() != null) {
+            where.add(cb.lessThanOrEqualTo(veiculo.get("ano"), filtro.anoMax()));
+        }
+        igual(cb, where, veiculo.get("cor"), filtro.cor());
+        igual(cb, where, veiculo.get("renavam"), filtro.renavam());
+        igual(cb, where, veiculo.get("chassi"), filtro.chassi());
+        if (afterId != null) {
+            where.add(cb.greaterThan(veiculo.get("id"), afterId));
+        }
+
+        query.select(cb.construct(VeiculoView.class, veiculo.get("id"), veiculo.get("cliente").get("pessoaId"),
+                        veiculo.get("placa"), veiculo.get("renavam"), veiculo.get("marca"), veiculo.get("modelo"),
+                        veiculo.get("ano"), veiculo.get("cor"), veiculo.get("chassi"), veiculo.get("version")))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(veiculo.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static void igual(CriteriaBuilder cb, List<Predicate> where, Path<String> coluna, String valor) {
+        if (valor != null) {
+            where.add(cb.equal(coluna, valor));
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de resultado da busca em lote. {@code itens} segue a ordem da
+ * requisição, com um item por pessoaId pedido; {@code cliente} só vem
+ * preenchido nos itens {@code ENCONTRADO}.
+ */
+public record ClienteBuscaLoteResponseDTO(
+                int encontrados,
+                int naoEncontrados,
+                List<Item> itens) {
+
+        public enum Status {
+                ENCONTRADO,
+                NAO_ENCONTRADO,
+                INVALIDO
+        }
+
+        public record Item(UUID pessoaId, Status status, ClienteResponseDTO cliente) {
+        }
+}
@@ -0,0 +1,12 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO com a lista de pessoaIds das operações em lote: criação (carga vinda
+ * do People Service) e busca.
+ */
+public record ClienteLoteRequestDTO(
+                List<UUID> pessoaIds) {
+}
@@ -0,0 +1,24 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de resultado da criação em lote. {@code itens} segue a ordem da
+ * requisição, com o resultado de cada pessoaId.
+ */
+public record ClienteLoteResponseDTO(
+                int criados,
+                int ignorados,
+                List<Item> itens) {
+
+        public enum Status {
+                CRIADO,
+                JA_EXISTE,
+                REPETIDO_NO_LOTE,
+                INVALIDO
+        }
+
+        public record Item(UUID pessoaId, Status status) {
+        }
+}
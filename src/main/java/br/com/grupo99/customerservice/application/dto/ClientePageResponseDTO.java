@@ -0,0 +1,12 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para uma página de clientes. {@code nextCursor} é opaco e deve ser
+ * reenviado como {@code cursor} para obter a página seguinte; é nulo na última página.
+ */
+public record ClientePageResponseDTO(
+                List<ClienteResponseDTO> items,
+                String nextCursor) {
+}
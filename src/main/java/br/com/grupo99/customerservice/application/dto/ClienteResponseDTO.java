@@ -1,18 +1,23 @@
 package br.com.grupo99.customerservice.application.dto;
 
 import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.repository.ClienteDetalheView;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 /**
- * DTO para resposta de Cliente.
+ * DTO para resposta de Cliente. {@code version} é a versão do cliente e dos
+ * seus veículos, lida junto com eles, e é a ETag da resposta.
  */
 public record ClienteResponseDTO(
                 UUID pessoaId,
                 List<VeiculoResponseDTO> veiculos,
                 LocalDateTime createdAt,
-                LocalDateTime updatedAt) {
+                LocalDateTime updatedAt,
+                Long version) {
         public static ClienteResponseDTO fromDomain(Cliente cliente) {
                 List<VeiculoResponseDTO> veiculos = cliente.getVeiculos().stream()
                                 .map(VeiculoResponseDTO::fromDomain)
@@ -22,6 +27,20 @@ public record ClienteResponseDTO(
                                 cliente.getPessoaId(),
                                 veiculos,
                                 cliente.getCreatedAt(),
-                                cliente.getUpdatedAt());
+                                cliente.getUpdatedAt(),
+                                cliente.getVersion());
+        }
+
+        public static ClienteResponseDTO fromView(ClienteView cliente, List<VeiculoView> veiculos) {
+                return new ClienteResponseDTO(
+                                cliente.pessoaId(),
+                                veiculos.stream().map(VeiculoResponseDTO::fromView).toList(),
+                                cliente.createdAt(),
+                                cliente.updatedAt(),
+                                cliente.version());
+        }
+
+        public static ClienteResponseDTO fromView(ClienteDetalheView detalhe) {
+                return fromView(detalhe.cliente(), detalhe.veiculos());
         }
 }
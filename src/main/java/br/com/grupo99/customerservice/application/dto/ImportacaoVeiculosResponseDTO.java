@@ -0,0 +1,33 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO com o andamento de uma importação de veículos por CSV. {@code erros}
+ * traz as linhas rejeitadas até o limite configurado; além dele as linhas
+ * continuam contadas em {@code rejeitados} e {@code errosTruncados} fica true.
+ */
+public record ImportacaoVeiculosResponseDTO(
+                UUID id,
+                UUID pessoaId,
+                Status status,
+                long linhasProcessadas,
+                long importados,
+                long rejeitados,
+                List<ErroLinha> erros,
+                boolean errosTruncados,
+                String mensagem,
+                LocalDateTime iniciadaEm,
+                LocalDateTime concluidaEm) {
+
+        public enum Status {
+                EM_ANDAMENTO,
+                CONCLUIDA,
+                FALHOU
+        }
+
+        public record ErroLinha(long linha, String placa, String mensagem) {
+        }
+}
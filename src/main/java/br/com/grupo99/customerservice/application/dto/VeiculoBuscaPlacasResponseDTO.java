@@ -0,0 +1,23 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de resultado da busca por placas. {@code itens} segue a ordem da
+ * requisição, com a placa como enviada; {@code resultado} só vem preenchido
+ * nos itens {@code ENCONTRADO}.
+ */
+public record VeiculoBuscaPlacasResponseDTO(
+                int encontrados,
+                int naoEncontrados,
+                List<Item> itens) {
+
+        public enum Status {
+                ENCONTRADO,
+                NAO_ENCONTRADO,
+                INVALIDO
+        }
+
+        public record Item(String placa, Status status, VeiculoComClienteResponseDTO resultado) {
+        }
+}
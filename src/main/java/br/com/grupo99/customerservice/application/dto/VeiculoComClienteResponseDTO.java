@@ -0,0 +1,18 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+
+import java.util.UUID;
+
+/**
+ * DTO de um veículo com o pessoaId do cliente dono, para as buscas que não
+ * partem do cliente.
+ */
+public record VeiculoComClienteResponseDTO(
+                UUID clientePessoaId,
+                VeiculoResponseDTO veiculo) {
+
+        public static VeiculoComClienteResponseDTO fromView(VeiculoView veiculo) {
+                return new VeiculoComClienteResponseDTO(veiculo.clientePessoaId(), VeiculoResponseDTO.fromView(veiculo));
+        }
+}
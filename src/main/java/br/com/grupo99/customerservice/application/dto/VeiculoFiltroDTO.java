@@ -0,0 +1,15 @@
+package br.com.grupo99.customerservice.application.dto;
+
+/**
+ * DTO dos filtros da pesquisa de veículos, lido dos parâmetros da query.
+ * Campos nulos ou em branco não filtram.
+ */
+public record VeiculoFiltroDTO(
+                String marca,
+                String modelo,
+                Integer anoMin,
+                Integer anoMax,
+                String cor,
+                String renavam,
+                String chassi) {
+}
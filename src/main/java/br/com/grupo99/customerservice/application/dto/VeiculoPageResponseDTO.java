@@ -0,0 +1,13 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para uma página da pesquisa de veículos. {@code nextCursor} é opaco e
+ * deve ser reenviado como {@code cursor}, com os mesmos filtros, para obter
+ * a página seguinte; é nulo na última página.
+ */
+public record VeiculoPageResponseDTO(
+                List<VeiculoComClienteResponseDTO> items,
+                String nextCursor) {
+}
@@ -0,0 +1,10 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para busca de veículos por várias placas.
+ */
+public record VeiculoPlacasRequestDTO(
+                List<String> placas) {
+}
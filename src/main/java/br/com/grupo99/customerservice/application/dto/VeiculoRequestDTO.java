@@ -3,7 +3,8 @@ package br.com.grupo99.customerservice.application.dto;
 import jakarta.validation.constraints.*;
 
 /**
- * DTO para requisições de Veículo.
+ * DTO para requisições de Veículo. Na atualização, {@code version} é a
+ * versão lida pelo cliente; se informada e desatualizada, a resposta é 409.
  */
 public record VeiculoRequestDTO(
                 @NotBlank(message = "Placa é obrigatória") String placa,
@@ -18,5 +19,7 @@ public record VeiculoRequestDTO(
 
                 String cor,
 
-                String chassi) {
+                String chassi,
+
+                Long version) {
 }
@@ -1,6 +1,7 @@
 package br.com.grupo99.customerservice.application.dto;
 
 import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
 
 import java.util.UUID;
 
@@ -12,7 +13,8 @@ public record VeiculoResponseDTO(
         String modelo,
         Integer ano,
         String cor,
-        String chassi
+        String chassi,
+        Long version
 ) {
     public static VeiculoResponseDTO fromDomain(Veiculo veiculo) {
         return new VeiculoResponseDTO(
@@ -23,7 +25,22 @@ public record VeiculoResponseDTO(
                 veiculo.getModelo(),
                 veiculo.getAno(),
                 veiculo.getCor(),
-                veiculo.getChassi()
+                veiculo.getChassi(),
+                veiculo.getVersion()
+        );
+    }
+
+    public static VeiculoResponseDTO fromView(VeiculoView veiculo) {
+        return new VeiculoResponseDTO(
+                veiculo.id(),
+                veiculo.placa(),
+                veiculo.renavam(),
+                veiculo.marca(),
+                veiculo.modelo(),
+                veiculo.ano(),
+                veiculo.cor(),
+                veiculo.chassi(),
+                veiculo.version()
         );
     }
 }
@@ -0,0 +1,10 @@
+package br.com.grupo99.customerservice.application.dto;
+
+import java.util.List;
+
+/**
+ * Veículos de um cliente com a versão do cliente lida junto com eles, para a
+ * ETag da listagem.
+ */
+public record VeiculosDoClienteDTO(long version, List<VeiculoResponseDTO> veiculos) {
+}
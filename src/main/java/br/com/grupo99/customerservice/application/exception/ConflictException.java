@@ -0,0 +1,11 @@
+package br.com.grupo99.customerservice.application.exception;
+
+/**
+ * O recurso foi alterado por outra requisição desde a versão que o cliente
+ * leu. Respondido com 409.
+ */
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
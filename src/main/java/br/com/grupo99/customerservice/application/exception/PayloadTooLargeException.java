@@ -0,0 +1,10 @@
+package br.com.grupo99.customerservice.application.exception;
+
+/**
+ * O corpo da requisição excede o tamanho aceito. Respondido com 413.
+ */
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.grupo99.customerservice.application.exception;
+
+/**
+ * A versão informada pelo cliente (If-Match) não é mais a atual.
+ * Respondido com 412.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.grupo99.customerservice.application.exception;
+
+import java.time.Duration;
+
+/**
+ * O serviço está sem capacidade para aceitar a requisição agora.
+ * Respondido com 503 e {@code Retry-After}.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.domain.repository.ClienteKeyset;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Codifica a posição de paginação de clientes como token opaco (base64url).
+ * O formato interno não faz parte do contrato da API.
+ */
+final class ClienteCursor {
+    private static final char SEPARATOR = '|';
+
+    private ClienteCursor() {
+    }
+
+    static String encode(ClienteKeyset keyset) {
+        String raw = keyset.createdAt() + String.valueOf(SEPARATOR) + keyset.pessoaId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ClienteKeyset decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Separador ausente");
+            }
+            return new ClienteKeyset(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+}
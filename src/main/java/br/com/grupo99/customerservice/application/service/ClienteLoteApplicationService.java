@@ -0,0 +1,124 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.dto.ClienteLoteRequestDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO.Item;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO.Status;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço de aplicação para criação de clientes em lote, usado na carga
+ * inicial vinda do People Service.
+ * A duplicidade é verificada por conjunto (uma consulta IN por bloco) e os
+ * clientes novos são inseridos com um INSERT ... ON CONFLICT DO NOTHING de
+ * várias linhas por bloco, em uma única transação. pessoaIds criados em
+ * paralelo entre a checagem e o INSERT saem como já existentes.
+ */
+@Service
+@Transactional
+public class ClienteLoteApplicationService {
+    private static final Logger logger = LoggerFactory.getLogger(ClienteLoteApplicationService.class);
+
+    static final String LOTE_TIMER = "clientes.lote.duracao";
+    static final String LOTE_TAMANHO = "clientes.lote.tamanho";
+    static final String LOTE_ITENS = "clientes.lote.itens";
+
+    private final ClienteRepository clienteRepository;
+    private final int maxSize;
+    private final Timer duracao;
+    private final DistributionSummary tamanho;
+    private final Map<Status, Counter> itens = new EnumMap<>(Status.class);
+
+    public ClienteLoteApplicationService(ClienteRepository clienteRepository, MeterRegistry registry,
+            @Value("${clientes.lote.max-size:5000}") int maxSize) {
+        this.clienteRepository = clienteRepository;
+        this.maxSize = maxSize;
+        this.duracao = Timer.builder(LOTE_TIMER)
+                .description("Tempo de criação de um lote de clientes")
+                .register(registry);
+        this.tamanho = DistributionSummary.builder(LOTE_TAMANHO)
+                .description("Quantidade de pessoaIds por lote recebido")
+                .register(registry);
+        for (Status status : Status.values()) {
+            itens.put(status, Counter.builder(LOTE_ITENS)
+                    .description("Itens processados na criação em lote, por resultado")
+                    .tag("status", status.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Cria os clientes que ainda não existem. pessoaIds já cadastrados,
+     * repetidos na própria requisição ou nulos são ignorados e reportados no
+     * resultado do item, sem falhar o lote.
+     */
+    public ClienteLoteResponseDTO criarClientes(ClienteLoteRequestDTO requestDTO) {
+        List<UUID> pessoaIds = requestDTO == null ? null : requestDTO.pessoaIds();
+        if (pessoaIds == null || pessoaIds.isEmpty()) {
+            throw new BusinessException("Lote deve conter ao menos um pessoaId");
+        }
+        if (pessoaIds.size() > maxSize) {
+            throw new BusinessException("Lote excede o máximo de " + maxSize + " pessoaIds");
+        }
+
+        long inicio = System.nanoTime();
+        Set<UUID> distintos = new LinkedHashSet<>(pessoaIds);
+        distintos.remove(null);
+        Set<UUID> existentes = clienteRepository.findExistingPessoaIds(distintos);
+
+        List<Cliente> novos = new ArrayList<>(distintos.size() - existentes.size());
+        for (UUID pessoaId : distintos) {
+            if (!existentes.contains(pessoaId)) {
+                novos.add(new Cliente(pessoaId));
+            }
+        }
+        Set<UUID> criados = novos.isEmpty() ? Set.of() : clienteRepository.insertAllIfAbsent(novos);
+
+        List<Item> resultado = new ArrayList<>(pessoaIds.size());
+        Set<UUID> vistos = new HashSet<>();
+        for (UUID pessoaId : pessoaIds) {
+            Status status;
+            if (pessoaId == null) {
+                status = Status.INVALIDO;
+            } else if (!vistos.add(pessoaId)) {
+                status = Status.REPETIDO_NO_LOTE;
+            } else if (criados.contains(pessoaId)) {
+                status = Status.CRIADO;
+            } else {
+                status = Status.JA_EXISTE;
+            }
+            resultado.add(new Item(pessoaId, status));
+        }
+
+        long nanos = System.nanoTime() - inicio;
+        duracao.record(nanos, TimeUnit.NANOSECONDS);
+        tamanho.record(pessoaIds.size());
+        resultado.forEach(item -> itens.get(item.status()).increment());
+        logger.info("Lote de {} pessoaIds: {} clientes criados em {} ms ({} clientes/s)", pessoaIds.size(),
+                criados.size(), TimeUnit.NANOSECONDS.toMillis(nanos),
+                nanos == 0 ? 0 : criados.size() * TimeUnit.SECONDS.toNanos(1) / nanos);
+
+        return new ClienteLoteResponseDTO(criados.size(), pessoaIds.size() - criados.size(), resultado);
+    }
+}
@@ -1,16 +1,35 @@
 package br.com.grupo99.customerservice.application.service;
 
+import br.com.grupo99.customerservice.application.dto.ClienteBuscaLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteBuscaLoteResponseDTO.Status;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteRequestDTO;
+import br.com.grupo99.customerservice.application.dto.ClientePageResponseDTO;
 import br.com.grupo99.customerservice.application.dto.ClienteRequestDTO;
 import br.com.grupo99.customerservice.application.dto.ClienteResponseDTO;
 import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.exception.PreconditionFailedException;
 import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
 import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.repository.ClienteKeyset;
+import br.com.grupo99.customerservice.domain.repository.ClienteReadRepository;
 import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import br.com.grupo99.customerservice.domain.repository.ReadCacheInvalidator;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Serviço de aplicação responsável pela orquestração de casos de uso
@@ -23,9 +42,27 @@ import java.util.UUID;
 public class CustomerApplicationService {
 
     private final ClienteRepository clienteRepository;
+    private final ClienteReadRepository clienteReadRepository;
+    private final VeiculoReadRepository veiculoReadRepository;
+    private final ReadCacheInvalidator readCacheInvalidator;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxBuscaLote;
 
-    public CustomerApplicationService(ClienteRepository clienteRepository) {
+    public CustomerApplicationService(ClienteRepository clienteRepository,
+            ClienteReadRepository clienteReadRepository,
+            VeiculoReadRepository veiculoReadRepository,
+            ReadCacheInvalidator readCacheInvalidator,
+            @Value("${clientes.paginacao.default-page-size:20}") int defaultPageSize,
+            @Value("${clientes.paginacao.max-page-size:100}") int maxPageSize,
+            @Value("${clientes.busca-lote.max-size:500}") int maxBuscaLote) {
         this.clienteRepository = clienteRepository;
+        this.clienteReadRepository = clienteReadRepository;
+        this.veiculoReadRepository = veiculoReadRepository;
+        this.readCacheInvalidator = readCacheInvalidator;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxBuscaLote = maxBuscaLote;
     }
 
     /**
@@ -33,44 +70,157 @@ public class CustomerApplicationService {
      */
     public ClienteResponseDTO criarCliente(ClienteRequestDTO requestDTO) {
         validarCamposObrigatorios(requestDTO);
-        verificarDuplicidadeCliente(requestDTO.pessoaId());
 
-        // Criar Cliente com pessoaId vindo do People Service
+        // Criar Cliente com pessoaId vindo do People Service; a duplicidade é
+        // resolvida pelo próprio INSERT, sem consulta prévia nem corrida
         Cliente cliente = new Cliente(requestDTO.pessoaId());
-        Cliente clienteSalvo = clienteRepository.save(cliente);
+        if (!clienteRepository.insertIfAbsent(cliente)) {
+            throw new BusinessException("Já existe um cliente para esta pessoa");
+        }
+        readCacheInvalidator.evictCliente(cliente.getPessoaId());
 
-        return ClienteResponseDTO.fromDomain(clienteSalvo);
+        return ClienteResponseDTO.fromDomain(cliente);
     }
 
     /**
      * Busca um cliente pelo pessoaId.
+     * Lê projeções em vez de entidades: nada entra no contexto de persistência.
+     * Cliente e veículos vêm de uma única consulta, então {@code version}
+     * corresponde à resposta inteira. A projeção passa pelo cache de leitura,
+     * invalidado pelas alterações abaixo.
      */
     @Transactional(readOnly = true)
     public ClienteResponseDTO buscarPorId(UUID pessoaId) {
-        Cliente cliente = clienteRepository.findById(pessoaId)
+        return clienteReadRepository.findDetalheById(pessoaId)
+                .map(ClienteResponseDTO::fromView)
                 .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId));
-        return ClienteResponseDTO.fromDomain(cliente);
     }
 
     /**
-     * Lista todos os clientes.
+     * Busca vários clientes, com seus veículos, em uma consulta de clientes e
+     * uma de veículos (as listas IN são divididas em blocos pelo adapter).
+     * Cada pessoaId pedido gera um item, na ordem da requisição; ausentes e
+     * nulos são marcados no item, sem falhar o lote.
      */
     @Transactional(readOnly = true)
-    public List<ClienteResponseDTO> listarTodos() {
-        return clienteRepository.findAll().stream()
-                .map(ClienteResponseDTO::fromDomain)
+    public ClienteBuscaLoteResponseDTO buscarEmLote(ClienteLoteRequestDTO requestDTO) {
+        List<UUID> pessoaIds = requestDTO == null ? null : requestDTO.pessoaIds();
+        if (pessoaIds == null || pessoaIds.isEmpty()) {
+            throw new BusinessException("Lote deve conter ao menos um pessoaId");
+        }
+        if (pessoaIds.size() > maxBuscaLote) {
+            throw new BusinessException("Lote excede o máximo de " + maxBuscaLote + " pessoaIds");
+        }
+
+        Set<UUID> distintos = new LinkedHashSet<>(pessoaIds);
+        distintos.remove(null);
+        List<ClienteView> views = distintos.isEmpty() ? List.of() : clienteReadRepository.findViewsByIds(distintos);
+        Map<UUID, ClienteResponseDTO> encontrados = montarClientes(views).stream()
+                .collect(Collectors.toMap(ClienteResponseDTO::pessoaId, Function.identity()));
+
+        List<ClienteBuscaLoteResponseDTO.Item> itens = new ArrayList<>(pessoaIds.size());
+        int totalEncontrados = 0;
+        for (UUID pessoaId : pessoaIds) {
+            ClienteResponseDTO cliente = pessoaId == null ? null : encontrados.get(pessoaId);
+            Status status;
+            if (pessoaId == null) {
+                status = Status.INVALIDO;
+            } else if (cliente == null) {
+                status = Status.NAO_ENCONTRADO;
+            } else {
+                status = Status.ENCONTRADO;
+                totalEncontrados++;
+            }
+            itens.add(new ClienteBuscaLoteResponseDTO.Item(pessoaId, status, cliente));
+        }
+        return new ClienteBuscaLoteResponseDTO(totalEncontrados, pessoaIds.size() - totalEncontrados, itens);
+    }
+
+    /**
+     * Versão do cliente e dos seus veículos, para ETag, sem ler projeções.
+     */
+    @Transactional(readOnly = true)
+    public long versaoDoCliente(UUID pessoaId) {
+        return clienteRepository.findVersion(pessoaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId));
+    }
+
+    /**
+     * Lista uma página de clientes ordenada por (createdAt, pessoaId).
+     * O tamanho da página é limitado a {@code clientes.paginacao.max-page-size}.
+     *
+     * @param cursor token devolvido na página anterior, ou null para a primeira página
+     * @param limit tamanho desejado da página, ou null para o padrão
+     */
+    @Transactional(readOnly = true)
+    public ClientePageResponseDTO listarPagina(String cursor, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        if (pageSize < 1) {
+            throw new BusinessException("Tamanho de página deve ser maior que zero");
+        }
+        ClienteKeyset after = cursor == null || cursor.isBlank() ? null : ClienteCursor.decode(cursor);
+
+        // busca um registro a mais para saber se existe próxima página
+        List<ClienteView> clientes = clienteReadRepository.findViewPage(after, pageSize + 1);
+        boolean hasNext = clientes.size() > pageSize;
+        List<ClienteView> page = hasNext ? clientes.subList(0, pageSize) : clientes;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ClienteView last = page.get(page.size() - 1);
+            nextCursor = ClienteCursor.encode(new ClienteKeyset(last.createdAt(), last.pessoaId()));
+        }
+        return new ClientePageResponseDTO(montarClientes(page), nextCursor);
+    }
+
+    /**
+     * Junta os veículos da página (uma única consulta IN) aos clientes,
+     * preservando a ordem da página.
+     */
+    private List<ClienteResponseDTO> montarClientes(List<ClienteView> page) {
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<VeiculoView>> veiculosPorCliente = veiculoReadRepository
+                .findViewsByClientePessoaIds(page.stream().map(ClienteView::pessoaId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(VeiculoView::clientePessoaId));
+        return page.stream()
+                .map(cliente -> ClienteResponseDTO.fromView(cliente,
+                        veiculosPorCliente.getOrDefault(cliente.pessoaId(), List.of())))
                 .toList();
     }
 
+    /**
+     * Entrega todos os clientes, um a um, ao {@code consumer} enquanto são lidos
+     * do banco. A transação fica aberta até o último cliente ser consumido.
+     */
+    @Transactional(readOnly = true)
+    public void exportarTodos(Consumer<ClienteResponseDTO> consumer) {
+        clienteRepository.forEach(cliente -> consumer.accept(ClienteResponseDTO.fromDomain(cliente)));
+    }
+
     /**
      * Atualiza um cliente (no momento apenas marca como atualizado).
      * Dados pessoais são atualizados via People Service.
      */
     public ClienteResponseDTO atualizarCliente(UUID pessoaId, ClienteRequestDTO requestDTO) {
+        return atualizarCliente(pessoaId, requestDTO, null);
+    }
+
+    /**
+     * Como {@link #atualizarCliente(UUID, ClienteRequestDTO)}, exigindo que o
+     * cliente esteja em {@code versaoEsperada} (If-Match), quando informada.
+     */
+    public ClienteResponseDTO atualizarCliente(UUID pessoaId, ClienteRequestDTO requestDTO, Long versaoEsperada) {
         Cliente cliente = clienteRepository.findById(pessoaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId));
+        if (versaoEsperada != null && !versaoEsperada.equals(cliente.getVersion())) {
+            throw new PreconditionFailedException("Cliente " + pessoaId + " não está na versão " + versaoEsperada);
+        }
 
         // Cliente apenas recebe pessoaId, dados pessoais vêm do People Service
+        readCacheInvalidator.evictCliente(pessoaId);
 
         return ClienteResponseDTO.fromDomain(cliente);
     }
@@ -79,10 +229,24 @@ public class CustomerApplicationService {
      * Deleta um cliente e seus veículos relacionados.
      */
     public void deletarCliente(UUID pessoaId) {
-        Cliente cliente = clienteRepository.findById(pessoaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId));
+        deletarCliente(pessoaId, null);
+    }
 
-        clienteRepository.deleteById(pessoaId);
+    /**
+     * Como {@link #deletarCliente(UUID)}, só se o cliente estiver em
+     * {@code versaoEsperada} (If-Match), quando informada.
+     */
+    public void deletarCliente(UUID pessoaId, Long versaoEsperada) {
+        boolean removido = versaoEsperada == null
+                ? clienteRepository.deleteByPessoaId(pessoaId)
+                : clienteRepository.deleteByPessoaIdAndVersion(pessoaId, versaoEsperada);
+        if (!removido) {
+            if (versaoEsperada != null && clienteRepository.findVersion(pessoaId).isPresent()) {
+                throw new PreconditionFailedException("Cliente " + pessoaId + " não está na versão " + versaoEsperada);
+            }
+            throw new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId);
+        }
+        readCacheInvalidator.evictCliente(pessoaId);
     }
 
     // ===== Métodos de Validação =====
@@ -92,10 +256,4 @@ public class CustomerApplicationService {
             throw new BusinessException("Pessoa ID é obrigatório");
         }
     }
-
-    private void verificarDuplicidadeCliente(UUID pessoaId) {
-        if (clienteRepository.existsByPessoaId(pessoaId)) {
-            throw new BusinessException("Já existe um cliente para esta pessoa");
-        }
-    }
 }
@@ -2,12 +2,19 @@ package br.com.grupo99.customerservice.application.service;
 
 import br.com.grupo99.customerservice.application.dto.VeiculoRequestDTO;
 import br.com.grupo99.customerservice.application.dto.VeiculoResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculosDoClienteDTO;
 import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.exception.ConflictException;
+import br.com.grupo99.customerservice.application.exception.PreconditionFailedException;
 import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
-import br.com.grupo99.customerservice.domain.model.Cliente;
 import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.ClienteReadRepository;
 import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import br.com.grupo99.customerservice.domain.repository.ReadCacheInvalidator;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
 import br.com.grupo99.customerservice.domain.repository.VeiculoRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,12 +31,21 @@ import java.util.UUID;
 public class VeiculoApplicationService {
 
     private final VeiculoRepository veiculoRepository;
+    private final VeiculoReadRepository veiculoReadRepository;
     private final ClienteRepository clienteRepository;
+    private final ClienteReadRepository clienteReadRepository;
+    private final ReadCacheInvalidator readCacheInvalidator;
 
     public VeiculoApplicationService(VeiculoRepository veiculoRepository,
-            ClienteRepository clienteRepository) {
+            VeiculoReadRepository veiculoReadRepository,
+            ClienteRepository clienteRepository,
+            ClienteReadRepository clienteReadRepository,
+            ReadCacheInvalidator readCacheInvalidator) {
         this.veiculoRepository = veiculoRepository;
+        this.veiculoReadRepository = veiculoReadRepository;
         this.clienteRepository = clienteRepository;
+        this.clienteReadRepository = clienteReadRepository;
+        this.readCacheInvalidator = readCacheInvalidator;
     }
 
     /**
@@ -38,9 +54,10 @@ public class VeiculoApplicationService {
     public VeiculoResponseDTO criarVeiculo(UUID pessoaId, VeiculoRequestDTO requestDTO) {
         validarCamposObrigatorios(requestDTO);
 
-        // Verificar se cliente existe
-        Cliente cliente = clienteRepository.findById(pessoaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId));
+        // Verificar se cliente existe, já versionando a lista de veículos dele
+        if (!clienteRepository.incrementVersion(pessoaId)) {
+            throw new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId);
+        }
 
         // Verificar duplicidade de placa
         verificarDuplicidadePlaca(requestDTO.placa());
@@ -63,11 +80,12 @@ public class VeiculoApplicationService {
             veiculo.setChassi(requestDTO.chassi());
         }
 
-        // Relacionar com cliente
-        cliente.adicionarVeiculo(veiculo);
+        // Relacionar com cliente, sem carregá-lo
+        veiculo.setCliente(clienteRepository.getReference(pessoaId));
 
         // Salvar
         Veiculo veiculoSalvo = veiculoRepository.save(veiculo);
+        readCacheInvalidator.evictVeiculo(veiculoSalvo.getId(), pessoaId);
 
         return VeiculoResponseDTO.fromDomain(veiculoSalvo);
     }
@@ -77,82 +95,149 @@ public class VeiculoApplicationService {
      */
     @Transactional(readOnly = true)
     public VeiculoResponseDTO buscarPorId(UUID veiculoId) {
-        Veiculo veiculo = veiculoRepository.findById(veiculoId)
+        return veiculoReadRepository.findViewById(veiculoId)
+                .map(VeiculoResponseDTO::fromView)
+                .orElseThrow(() -> new ResourceNotFoundException("Veículo não encontrado com ID: " + veiculoId));
+    }
+
+    /**
+     * Versão de um veículo, para ETag, sem ler a projeção.
+     */
+    @Transactional(readOnly = true)
+    public long versaoDoVeiculo(UUID veiculoId) {
+        return veiculoRepository.findVersion(veiculoId)
                 .orElseThrow(() -> new ResourceNotFoundException("Veículo não encontrado com ID: " + veiculoId));
-        return VeiculoResponseDTO.fromDomain(veiculo);
     }
 
     /**
-     * Lista todos os veículos de um cliente.
+     * Versão da lista de veículos de um cliente (a versão do cliente), para ETag.
      */
     @Transactional(readOnly = true)
-    public List<VeiculoResponseDTO> listarVeiculosDoCliente(UUID pessoaId) {
-        // Verificar se cliente existe
-        clienteRepository.findById(pessoaId)
+    public long versaoDosVeiculosDoCliente(UUID pessoaId) {
+        return clienteRepository.findVersion(pessoaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId));
+    }
 
-        return veiculoRepository.findByClientePessoaId(pessoaId).stream()
-                .map(VeiculoResponseDTO::fromDomain)
-                .toList();
+    /**
+     * Lista todos os veículos de um cliente, com a versão do cliente lida na
+     * mesma consulta. Também confirma que o cliente existe.
+     */
+    @Transactional(readOnly = true)
+    public VeiculosDoClienteDTO listarVeiculosDoCliente(UUID pessoaId) {
+        return clienteReadRepository.findDetalheById(pessoaId)
+                .map(detalhe -> new VeiculosDoClienteDTO(detalhe.cliente().version(),
+                        detalhe.veiculos().stream().map(VeiculoResponseDTO::fromView).toList()))
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId));
     }
 
     /**
-     * Atualiza um veículo.
+     * Atualiza um veículo com lock otimista: lê a projeção, não grava nada se
+     * o payload não muda o estado, e grava com um único UPDATE condicional à
+     * versão lida. Placa ou renavam repetidos são detectados pela restrição
+     * única, sem consulta prévia.
      */
     public VeiculoResponseDTO atualizarVeiculo(UUID pessoaId, UUID veiculoId, VeiculoRequestDTO requestDTO) {
-        validarCamposObrigatorios(requestDTO);
-
-        // Verificar se cliente existe
-        clienteRepository.findById(pessoaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId));
+        return atualizarVeiculo(pessoaId, veiculoId, requestDTO, null);
+    }
 
-        // Buscar veículo
-        Veiculo veiculo = veiculoRepository.findById(veiculoId)
-                .orElseThrow(() -> new ResourceNotFoundException("Veículo não encontrado com ID: " + veiculoId));
+    /**
+     * Como {@link #atualizarVeiculo(UUID, UUID, VeiculoRequestDTO)}, exigindo
+     * que o veículo esteja em {@code versaoEsperada} (If-Match), quando
+     * informada; a falha nesse caso é 412 em vez de 409.
+     */
+    public VeiculoResponseDTO atualizarVeiculo(UUID pessoaId, UUID veiculoId, VeiculoRequestDTO requestDTO,
+            Long versaoEsperada) {
+        validarCamposObrigatorios(requestDTO);
 
-        // Verificar se placa já existe em outro veículo
-        if (!veiculo.getPlaca().equals(requestDTO.placa()) && veiculoRepository.existsByPlaca(requestDTO.placa())) {
-            throw new BusinessException("Já existe um veículo com essa placa");
+        VeiculoView atual = veiculoRepository.findViewById(veiculoId)
+                .filter(veiculo -> veiculo.clientePessoaId().equals(pessoaId))
+                .orElseThrow(() -> naoEncontrado(pessoaId, veiculoId));
+        if (versaoEsperada != null && !versaoEsperada.equals(atual.version())) {
+            throw versaoDesatualizada(veiculoId, versaoEsperada);
+        }
+        if (requestDTO.version() != null && !requestDTO.version().equals(atual.version())) {
+            throw new ConflictException("Veículo " + veiculoId + " foi alterado: versão atual " + atual.version());
         }
 
-        // Atualizar campos
-        veiculo.setPlaca(requestDTO.placa());
-        veiculo.setMarca(requestDTO.marca());
-        veiculo.setModelo(requestDTO.modelo());
-        veiculo.setAno(requestDTO.ano());
-
-        if (requestDTO.renavam() != null && !requestDTO.renavam().isEmpty()) {
-            veiculo.setRenavam(requestDTO.renavam());
+        VeiculoView alterado = new VeiculoView(veiculoId, pessoaId,
+                requestDTO.placa(),
+                valorOuAtual(requestDTO.renavam(), atual.renavam()),
+                requestDTO.marca(),
+                requestDTO.modelo(),
+                requestDTO.ano(),
+                valorOuAtual(requestDTO.cor(), atual.cor()),
+                valorOuAtual(requestDTO.chassi(), atual.chassi()),
+                atual.version());
+        if (alterado.equals(atual)) {
+            return VeiculoResponseDTO.fromView(atual);
         }
-        if (requestDTO.cor() != null && !requestDTO.cor().isEmpty()) {
-            veiculo.setCor(requestDTO.cor());
+
+        boolean gravado;
+        try {
+            gravado = veiculoRepository.updateIfVersion(alterado, atual.version());
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(violacaoDeUnicidade(e));
         }
-        if (requestDTO.chassi() != null && !requestDTO.chassi().isEmpty()) {
-            veiculo.setChassi(requestDTO.chassi());
+        if (!gravado) {
+            if (versaoEsperada != null) {
+                throw versaoDesatualizada(veiculoId, versaoEsperada);
+            }
+            throw new ConflictException("Veículo " + veiculoId + " foi alterado por outra requisição");
         }
+        clienteRepository.incrementVersion(pessoaId);
+        readCacheInvalidator.evictVeiculo(veiculoId, pessoaId);
 
-        Veiculo veiculoAtualizado = veiculoRepository.save(veiculo);
-
-        return VeiculoResponseDTO.fromDomain(veiculoAtualizado);
+        return VeiculoResponseDTO.fromView(new VeiculoView(alterado.id(), alterado.clientePessoaId(),
+                alterado.placa(), alterado.renavam(), alterado.marca(), alterado.modelo(), alterado.ano(),
+                alterado.cor(), alterado.chassi(), atual.version() + 1));
     }
 
     /**
      * Deleta um veículo.
      */
     public void deletarVeiculo(UUID pessoaId, UUID veiculoId) {
-        // Verificar se cliente existe
-        Cliente cliente = clienteRepository.findById(pessoaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId));
+        deletarVeiculo(pessoaId, veiculoId, null);
+    }
 
-        // Buscar veículo
-        Veiculo veiculo = veiculoRepository.findById(veiculoId)
-                .orElseThrow(() -> new ResourceNotFoundException("Veículo não encontrado com ID: " + veiculoId));
+    /**
+     * Como {@link #deletarVeiculo(UUID, UUID)}, só se o veículo estiver em
+     * {@code versaoEsperada} (If-Match), quando informada.
+     */
+    public void deletarVeiculo(UUID pessoaId, UUID veiculoId, Long versaoEsperada) {
+        boolean removido = versaoEsperada == null
+                ? veiculoRepository.deleteByIdAndClientePessoaId(veiculoId, pessoaId)
+                : veiculoRepository.deleteByIdAndClientePessoaIdAndVersion(veiculoId, pessoaId, versaoEsperada);
+        if (!removido) {
+            if (versaoEsperada != null && veiculoRepository.findViewById(veiculoId)
+                    .filter(veiculo -> veiculo.clientePessoaId().equals(pessoaId)).isPresent()) {
+                throw versaoDesatualizada(veiculoId, versaoEsperada);
+            }
+            throw naoEncontrado(pessoaId, veiculoId);
+        }
+        clienteRepository.incrementVersion(pessoaId);
+        readCacheInvalidator.evictVeiculo(veiculoId, pessoaId);
+    }
 
-        // Remover do cliente
-        cliente.removerVeiculo(veiculo);
+    private ResourceNotFoundException naoEncontrado(UUID pessoaId, UUID veiculoId) {
+        if (!clienteRepository.existsByPessoaId(pessoaId)) {
+            return new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId);
+        }
+        return new ResourceNotFoundException("Veículo não encontrado com ID: " + veiculoId);
+    }
+
+    private static PreconditionFailedException versaoDesatualizada(UUID veiculoId, long versaoEsperada) {
+        return new PreconditionFailedException("Veículo " + veiculoId + " não está na versão " + versaoEsperada);
+    }
+
+    private static String valorOuAtual(String valor, String atual) {
+        return valor == null || valor.isEmpty() ? atual : valor;
+    }
 
-        // Deletar
-        veiculoRepository.deleteById(veiculoId);
+    private static String violacaoDeUnicidade(DataIntegrityViolationException e) {
+        String mensagem = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+        return mensagem.contains("uk_veiculos_renavam")
+                ? "Já existe um veículo com esse renavam"
+                : "Já existe um veículo com essa placa";
     }
 
     // ===== Métodos de Validação =====
@@ -0,0 +1,139 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoRequestDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Leitor incremental do CSV de importação de veículos: uma linha por vez,
+ * sem carregar o arquivo.
+ * <p>
+ * A primeira linha é o cabeçalho, com as colunas em qualquer ordem:
+ * {@code placa, marca, modelo, ano} (obrigatórias) e {@code renavam, cor,
+ * chassi}. O separador é vírgula ou ponto e vírgula (detectado no
+ * cabeçalho). Campos entre aspas podem conter o separador, mas não quebras
+ * de linha.
+ */
+class VeiculoCsvReader implements Closeable {
+
+    private static final List<String> OBRIGATORIAS = List.of("placa", "marca", "modelo", "ano");
+
+    /**
+     * Uma linha de dados: {@code dados} preenchido, ou {@code erro} quando a
+     * linha não pôde ser interpretada.
+     */
+    record Linha(long numero, VeiculoRequestDTO dados, String placa, String erro) {
+    }
+
+    private final BufferedReader reader;
+    private final char separador;
+    private final Map<String, Integer> colunas = new HashMap<>();
+    private long numero = 1;
+
+    VeiculoCsvReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        String cabecalho = reader.readLine();
+        if (cabecalho == null || cabecalho.isBlank()) {
+            throw new BusinessException("Arquivo CSV vazio ou sem cabeçalho");
+        }
+        if (cabecalho.charAt(0) == '\uFEFF') {
+            // BOM gravado pelo Excel em "CSV UTF-8"
+            cabecalho = cabecalho.substring(1);
+        }
+        this.separador = cabecalho.indexOf(';') >= 0 ? ';' : ',';
+        List<String> nomes = dividir(cabecalho);
+        for (int i = 0; i < nomes.size(); i++) {
+            colunas.put(nomes.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String obrigatoria : OBRIGATORIAS) {
+            if (!colunas.containsKey(obrigatoria)) {
+                throw new BusinessException("Cabeçalho do CSV sem a coluna obrigatória: " + obrigatoria);
+            }
+        }
+    }
+
+    /**
+     * Próxima linha com conteúdo, ou null no fim do arquivo.
+     */
+    Linha next() throws IOException {
+        String linha;
+        do {
+            linha = reader.readLine();
+            numero++;
+            if (linha == null) {
+                return null;
+            }
+        } while (linha.isBlank());
+
+        List<String> campos;
+        try {
+            campos = dividir(linha);
+        } catch (IllegalArgumentException e) {
+            return new Linha(numero, null, null, e.getMessage());
+        }
+        String placa = campo(campos, "placa");
+        String ano = campo(campos, "ano");
+        Integer anoNumerico;
+        try {
+            anoNumerico = ano == null ? null : Integer.valueOf(ano);
+        } catch (NumberFormatException e) {
+            return new Linha(numero, null, placa, "Ano inválido: " + ano);
+        }
+        VeiculoRequestDTO dados = new VeiculoRequestDTO(placa, campo(campos, "marca"), campo(campos, "modelo"),
+                anoNumerico, campo(campos, "renavam"), campo(campos, "cor"), campo(campos, "chassi"), null);
+        return new Linha(numero, dados, placa, null);
+    }
+
+    private String campo(List<String> campos, String nome) {
+        Integer indice = colunas.get(nome);
+        if (indice == null || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private List<String> dividir(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("Aspas não fechadas na linha");
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
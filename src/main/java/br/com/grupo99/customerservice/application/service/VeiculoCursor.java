@@ -0,0 +1,29 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Codifica a posição da pesquisa de veículos (o ID do último veículo da
+ * página) como token opaco (base64url), no mesmo formato de {@link ClienteCursor}.
+ */
+final class VeiculoCursor {
+
+    private VeiculoCursor() {
+    }
+
+    static String encode(UUID id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UUID decode(String cursor) {
+        try {
+            return UUID.fromString(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.dto.ImportacaoVeiculosResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ImportacaoVeiculosResponseDTO.ErroLinha;
+import br.com.grupo99.customerservice.application.dto.VeiculoRequestDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.exception.PayloadTooLargeException;
+import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.customerservice.application.exception.ServiceUnavailableException;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.model.ImportacaoVeiculos;
+import br.com.grupo99.customerservice.domain.model.ImportacaoVeiculos.Status;
+import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import br.com.grupo99.customerservice.domain.repository.ImportacaoVeiculosRepository;
+import br.com.grupo99.customerservice.domain.repository.ReadCacheInvalidator;
+import br.com.grupo99.customerservice.domain.repository.VeiculoRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importação de veículos de um cliente a partir de um CSV (frotas).
+ * <p>
+ * O upload é copiado para um arquivo temporário e processado em segundo
+ * plano, em blocos de {@code veiculos.importacao.chunk-size} linhas: cada
+ * bloco é validado, checado contra placas/renavams existentes com uma
+ * consulta por conjunto e gravado com INSERTs em lote numa transação própria.
+ * Só um bloco fica em memória.
+ * <p>
+ * O andamento é gravado no banco a cada bloco e consultado pelo ID da
+ * importação em qualquer instância. O arquivo só existe na instância que o
+ * recebeu: se ela cair, a importação para de avançar e, depois de
+ * {@code veiculos.importacao.inatividade-ms} sem progresso, é marcada como
+ * falha para o cliente reenviar o arquivo. Cada bloco só é gravado se a
+ * importação ainda estiver em andamento: uma instância lenta que volte a
+ * avançar depois disso para, em vez de reabri-la. A fila de arquivos
+ * aguardando processamento e o tamanho do upload são limitados.
+ */
+@Service
+public class VeiculoImportacaoService {
+    private static final Logger logger = LoggerFactory.getLogger(VeiculoImportacaoService.class);
+
+    private static final Duration RETENCAO = Duration.ofHours(24);
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final ClienteRepository clienteRepository;
+    private final VeiculoRepository veiculoRepository;
+    private final ImportacaoVeiculosRepository importacaoRepository;
+    private final ReadCacheInvalidator readCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int maxErros;
+    private final long maxBytes;
+    private final Duration inatividade;
+
+    @Autowired
+    public VeiculoImportacaoService(ClienteRepository clienteRepository, VeiculoRepository veiculoRepository,
+            ImportacaoVeiculosRepository importacaoRepository, ReadCacheInvalidator readCacheInvalidator,
+            PlatformTransactionManager transactionManager,
+            @Value("${veiculos.importacao.threads:2}") int threads,
+            @Value("${veiculos.importacao.fila:10}") int fila,
+            @Value("${veiculos.importacao.chunk-size:500}") int chunkSize,
+            @Value("${veiculos.importacao.max-erros:1000}") int maxErros,
+            @Value("${veiculos.importacao.max-bytes:10485760}") long maxBytes,
+            @Value("${veiculos.importacao.inatividade-ms:600000}") long inatividadeMs) {
+        this(clienteRepository, veiculoRepository, importacaoRepository, readCacheInvalidator, transactionManager,
+                new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(fila)),
+                chunkSize, maxErros, maxBytes, Duration.ofMillis(inatividadeMs));
+    }
+
+    VeiculoImportacaoService(ClienteRepository clienteRepository, VeiculoRepository veiculoRepository,
+            ImportacaoVeiculosRepository importacaoRepository, ReadCacheInvalidator readCacheInvalidator,
+            PlatformTransactionManager transactionManager, Executor executor, int chunkSize, int maxErros,
+            long maxBytes, Duration inatividade) {
+        this.clienteRepository = clienteRepository;
+        this.veiculoRepository = veiculoRepository;
+        this.importacaoRepository = importacaoRepository;
+        this.readCacheInvalidator = readCacheInvalidator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.maxErros = maxErros;
+        this.maxBytes = maxBytes;
+        this.inatividade = inatividade;
+    }
+
+    /**
+     * Recebe o CSV e agenda o processamento. Retorna assim que o upload
+     * termina de ser copiado.
+     *
+     * @throws PayloadTooLargeException se o arquivo passar de {@code veiculos.importacao.max-bytes}
+     * @throws ServiceUnavailableException se a fila de importações estiver cheia
+     */
+    public ImportacaoVeiculosResponseDTO iniciar(UUID pessoaId, InputStream csv) {
+        if (!clienteRepository.existsByPessoaId(pessoaId)) {
+            throw new ResourceNotFoundException("Cliente não encontrado com pessoaId: " + pessoaId);
+        }
+        // evita receber o arquivo só para recusá-lo; a recusa definitiva é a do execute
+        if (executor instanceof ThreadPoolExecutor pool && pool.getQueue().remainingCapacity() == 0) {
+            throw filaCheia();
+        }
+        Path arquivo = receber(csv);
+
+        ImportacaoVeiculos importacao = new ImportacaoVeiculos(UUID.randomUUID(), pessoaId, maxErros);
+        ImportacaoVeiculosResponseDTO resposta;
+        try {
+            resposta = toResponse(transactionTemplate.execute(status -> importacaoRepository.save(importacao)));
+        } catch (RuntimeException e) {
+            remover(arquivo);
+            throw e;
+        }
+        try {
+            executor.execute(() -> processar(importacao, arquivo));
+        } catch (RejectedExecutionException e) {
+            remover(arquivo);
+            transactionTemplate.executeWithoutResult(status -> importacaoRepository.deleteById(importacao.getId()));
+            throw filaCheia();
+        }
+        return resposta;
+    }
+
+    /**
+     * Andamento de uma importação do cliente. Importações concluídas ficam
+     * disponíveis por 24 horas.
+     */
+    public ImportacaoVeiculosResponseDTO consultar(UUID pessoaId, UUID importacaoId) {
+        return importacaoRepository.findById(importacaoId)
+                .filter(importacao -> importacao.getClientePessoaId().equals(pessoaId))
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Importação não encontrada com ID: " + importacaoId));
+    }
+
+    /**
+     * Marca como falhas as importações que pararam de avançar, porque a
+     * instância que as processava caiu, e apaga as concluídas há mais de
+     * 24 horas. Roda em todas as instâncias; as duas operações são idempotentes.
+     */
+    @Scheduled(fixedDelayString = "${veiculos.importacao.limpeza-ms:300000}")
+    public void expirar() {
+        LocalDateTime agora = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            int interrompidas = importacaoRepository.marcarInterrompidas(agora.minus(inatividade),
+                    "Importação interrompida antes de concluir; reenvie o arquivo");
+            if (interrompidas > 0) {
+                logger.warn("{} importações de veículos interrompidas marcadas como falha", interrompidas);
+            }
+            importacaoRepository.deleteConcluidasAntesDe(agora.minus(RETENCAO));
+        });
+    }
+
+    private ServiceUnavailableException filaCheia() {
+        return new ServiceUnavailableException("Muitas importações em andamento; tente novamente mais tarde", RETRY_AFTER);
+    }
+
+    private Path receber(InputStream csv) {
+        Path arquivo = null;
+        try {
+            arquivo = Files.createTempFile("importacao-veiculos-", ".csv");
+            try (OutputStream out = Files.newOutputStream(arquivo)) {
+                byte[] buffer = new byte[8192];
+                long total = 0;
+                int lidos;
+                while ((lidos = csv.read(buffer)) != -1) {
+                    total += lidos;
+                    if (total > maxBytes) {
+                        throw new PayloadTooLargeException("Arquivo CSV excede o limite de " + maxBytes + " bytes");
+                    }
+                    out.write(buffer, 0, lidos);
+                }
+            }
+            return arquivo;
+        } catch (IOException e) {
+            remover(arquivo);
+            throw new UncheckedIOException("Falha ao receber o arquivo CSV", e);
+        } catch (RuntimeException e) {
+            remover(arquivo);
+            throw e;
+        }
+    }
+
+    private void remover(Path arquivo) {
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            logger.warn("Não foi possível remover o arquivo temporário {}", arquivo, e);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void processar(ImportacaoVeiculos importacao, Path arquivo) {
+        try (VeiculoCsvReader reader = new VeiculoCsvReader(Files.newBufferedReader(arquivo, StandardCharsets.UTF_8))) {
+            List<VeiculoCsvReader.Linha> bloco = new ArrayList<>(chunkSize);
+            VeiculoCsvReader.Linha linha;
+            while ((linha = reader.next()) != null) {
+                bloco.add(linha);
+                if (bloco.size() == chunkSize) {
+                    if (!importarBloco(importacao, bloco)) {
+                        logEncerrada(importacao);
+                        return;
+                    }
+                    bloco.clear();
+                }
+            }
+            if (!importarBloco(importacao, bloco)) {
+                logEncerrada(importacao);
+                return;
+            }
+            importacao.concluir(Status.CONCLUIDA, null);
+            logger.info("Importação {} do cliente {} concluída: {} importados, {} rejeitados", importacao.getId(),
+                    importacao.getClientePessoaId(), importacao.getImportados(), importacao.getRejeitados());
+        } catch (BusinessException e) {
+            importacao.concluir(Status.FALHOU, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Falha na importação {} do cliente {}", importacao.getId(), importacao.getClientePessoaId(), e);
+            importacao.concluir(Status.FALHOU, "Erro inesperado ao processar o arquivo");
+        } finally {
+            remover(arquivo);
+        }
+        try {
+            if (!gravar(importacao)) {
+                logEncerrada(importacao);
+            }
+        } catch (DataAccessException e) {
+            // p.ex. o cliente foi removido durante a importação
+            logger.error("Não foi possível gravar o resultado da importação {}", importacao.getId(), e);
+        }
+    }
+
+    private void logEncerrada(ImportacaoVeiculos importacao) {
+        logger.warn("Importação {} já encerrada por outra instância; andamento descartado", importacao.getId());
+    }
+
+    /**
+     * Grava o andamento só se a importação continua em andamento no banco;
+     * o merge sozinho devolveria EM_ANDAMENTO a uma importação que
+     * {@link #expirar()} já marcou como falha.
+     */
+    private boolean gravar(ImportacaoVeiculos importacao) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!importacaoRepository.renovarEmAndamento(importacao.getId())) {
+                return false;
+            }
+            importacaoRepository.save(importacao);
+            return true;
+        }));
+    }
+
+    /**
+     * @return false se a importação foi encerrada em outra instância; nesse
+     *         caso o bloco não é gravado
+     */
+    private boolean importarBloco(ImportacaoVeiculos importacao, List<VeiculoCsvReader.Linha> bloco) {
+        if (bloco.isEmpty()) {
+            return true;
+        }
+        // validação e repetições dentro do bloco; blocos anteriores já estão no banco
+        Map<String, Long> placas = new HashMap<>();
+        Map<String, Long> renavams = new HashMap<>();
+        List<VeiculoCsvReader.Linha> validas = new ArrayList<>(bloco.size());
+        for (VeiculoCsvReader.Linha linha : bloco) {
+            String erro = linha.erro() != null ? linha.erro() : validar(linha.dados());
+            if (erro == null) {
+                Long anterior = placas.putIfAbsent(linha.dados().placa(), linha.numero());
+                if (anterior != null) {
+                    erro = "Placa repetida no arquivo (linha " + anterior + ")";
+                }
+            }
+            if (erro == null && linha.dados().renavam() != null) {
+                Long anterior = renavams.putIfAbsent(linha.dados().renavam(), linha.numero());
+                if (anterior != null) {
+                    erro = "Renavam repetido no arquivo (linha " + anterior + ")";
+                }
+            }
+            if (erro == null) {
+                validas.add(linha);
+            } else {
+                importacao.rejeitar(linha.numero(), linha.placa(), erro);
+            }
+        }
+
+        try {
+            boolean emAndamento = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (!importacaoRepository.renovarEmAndamento(importacao.getId())) {
+                    return false;
+                }
+                Set<String> placasExistentes = veiculoRepository.findExistingPlacas(placas.keySet());
+                Set<String> renavamsExistentes = veiculoRepository.findExistingRenavams(renavams.keySet());
+                Cliente cliente = clienteRepository.getReference(importacao.getClientePessoaId());
+                List<Veiculo> novos = new ArrayList<>(validas.size());
+                List<VeiculoCsvReader.Linha> rejeitadas = new ArrayList<>();
+                for (VeiculoCsvReader.Linha linha : validas) {
+                    VeiculoRequestDTO dados = linha.dados();
+                    if (placasExistentes.contains(dados.placa())) {
+                        rejeitadas.add(linha);
+                    } else if (dados.renavam() != null && renavamsExistentes.contains(dados.renavam())) {
+                        rejeitadas.add(linha);
+                    } else {
+                        novos.add(novoVeiculo(dados, cliente));
+                    }
+                }
+                veiculoRepository.saveAll(novos);
+                if (!novos.isEmpty()) {
+                    clienteRepository.incrementVersion(importacao.getClientePessoaId());
+                }
+                readCacheInvalidator.evictVeiculo(null, importacao.getClientePessoaId());
+                // só contabiliza depois de gravar, para um rollback não deixar contagem parcial
+                rejeitadas.forEach(linha -> importacao.rejeitar(linha.numero(), linha.placa(),
+                        placasExistentes.contains(linha.dados().placa())
+                                ? "Já existe um veículo com essa placa"
+                                : "Já existe um veículo com esse renavam"));
+                importacao.registrarImportados(novos.size());
+                return true;
+            }));
+            if (!emAndamento) {
+                return false;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // outra gravação concorrente ocupou uma placa/renavam do bloco
+            logger.warn("Conflito ao gravar bloco da importação {}: {}", importacao.getId(),
+                    e.getMostSpecificCause().getMessage());
+            validas.forEach(linha -> importacao.rejeitar(linha.numero(), linha.placa(),
+                    "Conflito ao gravar o bloco; reenvie esta linha"));
+        }
+        importacao.registrarProcessadas(bloco.size());
+        return gravar(importacao);
+    }
+
+    private Veiculo novoVeiculo(VeiculoRequestDTO dados, Cliente cliente) {
+        Veiculo veiculo = new Veiculo(dados.placa(), dados.marca(), dados.modelo(), dados.ano());
+        veiculo.setRenavam(dados.renavam());
+        veiculo.setCor(dados.cor());
+        veiculo.setChassi(dados.chassi());
+        veiculo.setCliente(cliente);
+        return veiculo;
+    }
+
+    private String validar(VeiculoRequestDTO dados) {
+        if (dados.placa() == null) {
+            return "Placa é obrigatória";
+        }
+        if (dados.marca() == null) {
+            return "Marca é obrigatória";
+        }
+        if (dados.modelo() == null) {
+            return "Modelo é obrigatório";
+        }
+        if (dados.ano() == null || dados.ano() < 1900 || dados.ano() > 2100) {
+            return "Ano deve estar entre 1900 e 2100";
+        }
+        if (dados.placa().length() > 8) {
+            return "Placa deve ter no máximo 8 caracteres";
+        }
+        if (dados.renavam() != null && dados.renavam().length() > 11) {
+            return "Renavam deve ter no máximo 11 caracteres";
+        }
+        if (dados.marca().length() > 50 || dados.modelo().length() > 50
+                || (dados.cor() != null && dados.cor().length() > 50)) {
+            return "Marca, modelo e cor devem ter no máximo 50 caracteres";
+        }
+        if (dados.chassi() != null && dados.chassi().length() > 20) {
+            return "Chassi deve ter no máximo 20 caracteres";
+        }
+        return null;
+    }
+
+    private ImportacaoVeiculosResponseDTO toResponse(ImportacaoVeiculos importacao) {
+        List<ErroLinha> erros = importacao.getErros().stream()
+                .map(erro -> new ErroLinha(erro.getLinha(), erro.getPlaca(), erro.getMensagem()))
+                .toList();
+        return new ImportacaoVeiculosResponseDTO(importacao.getId(), importacao.getClientePessoaId(),
+                ImportacaoVeiculosResponseDTO.Status.valueOf(importacao.getStatus().name()),
+                importacao.getLinhasProcessadas(), importacao.getImportados(), importacao.getRejeitados(), erros,
+                importacao.isErrosTruncados(), importacao.getMensagem(), importacao.getIniciadaEm(),
+                importacao.getConcluidaEm());
+    }
+}
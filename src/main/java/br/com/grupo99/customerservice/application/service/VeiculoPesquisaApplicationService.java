@@ -0,0 +1,84 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoComClienteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoFiltroDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoPageResponseDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.domain.repository.VeiculoFiltro;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serviço de aplicação para a pesquisa de veículos do back office por marca,
+ * modelo, faixa de ano, cor, renavam e chassi.
+ * <p>
+ * Cada página é uma única consulta no banco, paginada por ID. Filtros que
+ * não partem de um índice ({@link VeiculoFiltro#usaIndice()}) são recusados
+ * antes de consultar, para não varrer a tabela inteira.
+ */
+@Service
+public class VeiculoPesquisaApplicationService {
+
+    private final VeiculoReadRepository veiculoReadRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public VeiculoPesquisaApplicationService(VeiculoReadRepository veiculoReadRepository,
+            @Value("${veiculos.pesquisa.default-page-size:20}") int defaultPageSize,
+            @Value("${veiculos.pesquisa.max-page-size:100}") int maxPageSize) {
+        this.veiculoReadRepository = veiculoReadRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Pesquisa uma página de veículos ordenada por ID.
+     * O tamanho da página é limitado a {@code veiculos.pesquisa.max-page-size}.
+     *
+     * @param filtroDTO filtros da pesquisa; textos comparados por igualdade exata
+     * @param cursor token devolvido na página anterior, ou null para a primeira página
+     * @param limit tamanho desejado da página, ou null para o padrão
+     */
+    @Transactional(readOnly = true)
+    public VeiculoPageResponseDTO pesquisar(VeiculoFiltroDTO filtroDTO, String cursor, Integer limit) {
+        VeiculoFiltro filtro = toFiltro(filtroDTO);
+        if (!filtro.usaIndice()) {
+            throw new BusinessException("Informe renavam, chassi ou marca e modelo para pesquisar veículos");
+        }
+        if (filtro.anoMin() != null && filtro.anoMax() != null && filtro.anoMin() > filtro.anoMax()) {
+            throw new BusinessException("anoMin deve ser menor ou igual a anoMax");
+        }
+        int pageSize = limit == null ? defaultPageSize : Math.min(limit, maxPageSize);
+        if (pageSize < 1) {
+            throw new BusinessException("Tamanho de página deve ser maior que zero");
+        }
+        UUID after = cursor == null || cursor.isBlank() ? null : VeiculoCursor.decode(cursor);
+
+        // busca um registro a mais para saber se existe próxima página
+        List<VeiculoView> veiculos = veiculoReadRepository.findViewPage(filtro, after, pageSize + 1);
+        boolean hasNext = veiculos.size() > pageSize;
+        List<VeiculoView> page = hasNext ? veiculos.subList(0, pageSize) : veiculos;
+
+        String nextCursor = hasNext ? VeiculoCursor.encode(page.get(page.size() - 1).id()) : null;
+        return new VeiculoPageResponseDTO(page.stream().map(VeiculoComClienteResponseDTO::fromView).toList(),
+                nextCursor);
+    }
+
+    private static VeiculoFiltro toFiltro(VeiculoFiltroDTO dto) {
+        if (dto == null) {
+            return new VeiculoFiltro(null, null, null, null, null, null, null);
+        }
+        return new VeiculoFiltro(texto(dto.marca()), texto(dto.modelo()), dto.anoMin(), dto.anoMax(),
+                texto(dto.cor()), texto(dto.renavam()), texto(dto.chassi()));
+    }
+
+    private static String texto(String valor) {
+        return valor == null || valor.isBlank() ? null : valor.trim();
+    }
+}
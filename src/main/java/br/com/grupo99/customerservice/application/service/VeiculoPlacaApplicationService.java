@@ -0,0 +1,96 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoBuscaPlacasResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoBuscaPlacasResponseDTO.Item;
+import br.com.grupo99.customerservice.application.dto.VeiculoBuscaPlacasResponseDTO.Status;
+import br.com.grupo99.customerservice.application.dto.VeiculoComClienteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoPlacasRequestDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.customerservice.domain.model.Placa;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serviço de aplicação para busca de veículos por placa, usada na leitura de
+ * placas da recepção. A placa é comparada na forma de {@link Placa}, então
+ * maiúsculas, hífen e padrão antigo ou Mercosul não importam.
+ * <p>
+ * Não abre transação: com a placa no cache de leitura a resposta sai sem
+ * pegar conexão do pool.
+ */
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class VeiculoPlacaApplicationService {
+
+    private final VeiculoReadRepository veiculoReadRepository;
+    private final int maxSize;
+
+    public VeiculoPlacaApplicationService(VeiculoReadRepository veiculoReadRepository,
+            @Value("${veiculos.busca-placas.max-size:500}") int maxSize) {
+        this.veiculoReadRepository = veiculoReadRepository;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Busca um veículo pela placa.
+     */
+    public VeiculoComClienteResponseDTO buscarPorPlaca(String placa) {
+        String normalizada = Placa.normalizar(placa);
+        if (normalizada == null) {
+            throw new BusinessException("Placa é obrigatória");
+        }
+        VeiculoView veiculo = veiculoReadRepository.findViewsByPlacas(List.of(normalizada)).get(normalizada);
+        if (veiculo == null) {
+            throw new ResourceNotFoundException("Veículo não encontrado com placa: " + placa);
+        }
+        return VeiculoComClienteResponseDTO.fromView(veiculo);
+    }
+
+    /**
+     * Busca vários veículos pelas placas, numa única ida ao repositório.
+     * Cada placa pedida gera um item, na ordem da requisição; ausentes e
+     * em branco são marcadas no item, sem falhar o lote.
+     */
+    public VeiculoBuscaPlacasResponseDTO buscarPorPlacas(VeiculoPlacasRequestDTO requestDTO) {
+        List<String> placas = requestDTO == null ? null : requestDTO.placas();
+        if (placas == null || placas.isEmpty()) {
+            throw new BusinessException("Lote deve conter ao menos uma placa");
+        }
+        if (placas.size() > maxSize) {
+            throw new BusinessException("Lote excede o máximo de " + maxSize + " placas");
+        }
+
+        List<String> normalizadas = placas.stream().map(Placa::normalizar).toList();
+        Set<String> distintas = new LinkedHashSet<>(normalizadas);
+        distintas.remove(null);
+        Map<String, VeiculoView> encontrados = distintas.isEmpty() ? Map.of()
+                : veiculoReadRepository.findViewsByPlacas(distintas);
+
+        List<Item> itens = new ArrayList<>(placas.size());
+        int totalEncontrados = 0;
+        for (int i = 0; i < placas.size(); i++) {
+            String normalizada = normalizadas.get(i);
+            VeiculoView veiculo = normalizada == null ? null : encontrados.get(normalizada);
+            if (normalizada == null) {
+                itens.add(new Item(placas.get(i), Status.INVALIDO, null));
+            } else if (veiculo == null) {
+                itens.add(new Item(placas.get(i), Status.NAO_ENCONTRADO, null));
+            } else {
+                itens.add(new Item(placas.get(i), Status.ENCONTRADO, VeiculoComClienteResponseDTO.fromView(veiculo)));
+                totalEncontrados++;
+            }
+        }
+        return new VeiculoBuscaPlacasResponseDTO(totalEncontrados, placas.size() - totalEncontrados, itens);
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.grupo99.customerservice.domain.model;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,12 +13,15 @@ import java.util.UUID;
  * Entidade Cliente - representa clientes do sistema.
  * ID principal é pessoaId (vem do People Service).
  * Relaciona-se com múltiplos Veículos (1:N).
+ * Como o ID é atribuído (não gerado), implementa {@link Persistable} para que
+ * o save de um cliente novo vá direto ao INSERT, sem o SELECT do merge, e
+ * possa ser agrupado em lotes JDBC.
  */
 @Entity
 @Table(name = "clientes", indexes = {
-        @Index(name = "idx_pessoa_id", columnList = "pessoa_id")
+        @Index(name = "idx_clientes_created_at_pessoa_id", columnList = "created_at, pessoa_id")
 })
-public class Cliente {
+public class Cliente implements Persistable<UUID> {
 
     @Id
     @Column(name = "pessoa_id")
@@ -31,12 +36,41 @@ public class Cliente {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Versão do cliente e dos seus veículos. Só o banco a grava (default no
+     * INSERT, UPDATE direto a cada alteração), então a entidade nunca
+     * sobrescreve um incremento concorrente.
+     */
+    @Column(insertable = false, updatable = false)
+    private Long version;
+
+    @Transient
+    private boolean novo = true;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
     }
 
+    @PostPersist
+    @PostLoad
+    protected void marcarPersistido() {
+        novo = false;
+    }
+
+    /**
+     * Registra a inserção feita fora do ciclo de vida do JPA (INSERT nativo):
+     * preenche as datas de criação e a versão inicial do banco e deixa de
+     * tratar o cliente como novo.
+     */
+    public void registrarInsercao(LocalDateTime agora) {
+        createdAt = agora;
+        updatedAt = agora;
+        version = 0L;
+        novo = false;
+    }
+
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
@@ -73,6 +107,16 @@ public class Cliente {
         return pessoaId;
     }
 
+    @Override
+    public UUID getId() {
+        return pessoaId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
     public void setPessoaId(UUID pessoaId) {
         if (pessoaId == null) {
             throw new IllegalArgumentException("Pessoa ID não pode ser nula");
@@ -96,6 +140,10 @@ public class Cliente {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,19 @@
+package br.com.grupo99.customerservice.domain.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Id gerado com {@link UuidV7} no INSERT. O Hibernate 6.5 só oferece UUID
+ * aleatório (v4) ou baseado em tempo no formato v1, que não é ordenável byte a
+ * byte.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedUuidV7 {
+}
@@ -0,0 +1,227 @@
+package br.com.grupo99.customerservice.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Andamento de uma importação de veículos por CSV. Escrito apenas pela thread
+ * que processa o arquivo e gravado a cada bloco; as consultas leem a linha do
+ * banco, de qualquer instância.
+ * O ID é atribuído, então todo save é um merge: a instância da thread nunca
+ * fica gerenciada e cada gravação copia o estado dela.
+ */
+@Entity
+@Table(name = "importacoes_veiculos", indexes = {
+        @Index(name = "idx_importacoes_veiculos_cliente_id", columnList = "cliente_id"),
+        @Index(name = "idx_importacoes_veiculos_status_atualizada_em", columnList = "status, atualizada_em")
+})
+public class ImportacaoVeiculos {
+
+    public static final int MENSAGEM_MAX = 500;
+
+    public enum Status {
+        EM_ANDAMENTO,
+        CONCLUIDA,
+        FALHOU
+    }
+
+    @Id
+    private UUID id;
+
+    @Column(name = "cliente_id", nullable = false, updatable = false)
+    private UUID clientePessoaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.EM_ANDAMENTO;
+
+    @Column(name = "linhas_processadas", nullable = false)
+    private long linhasProcessadas;
+
+    @Column(nullable = false)
+    private long importados;
+
+    @Column(nullable = false)
+    private long rejeitados;
+
+    @Column(length = MENSAGEM_MAX)
+    private String mensagem;
+
+    @Column(name = "iniciada_em", nullable = false, updatable = false)
+    private LocalDateTime iniciadaEm;
+
+    @Column(name = "atualizada_em", nullable = false)
+    private LocalDateTime atualizadaEm;
+
+    @Column(name = "concluida_em")
+    private LocalDateTime concluidaEm;
+
+    /**
+     * Só cresce, então com a coluna de posição o merge de cada bloco grava
+     * apenas os erros novos.
+     */
+    @ElementCollection
+    @CollectionTable(name = "importacoes_veiculos_erros", joinColumns = @JoinColumn(name = "importacao_id"))
+    @OrderColumn(name = "posicao")
+    private List<ErroLinha> erros = new ArrayList<>();
+
+    @Transient
+    private int maxErros;
+
+    // Construtores
+    protected ImportacaoVeiculos() {
+    }
+
+    public ImportacaoVeiculos(UUID id, UUID clientePessoaId, int maxErros) {
+        this.id = id;
+        this.clientePessoaId = clientePessoaId;
+        this.maxErros = maxErros;
+        this.iniciadaEm = LocalDateTime.now();
+        this.atualizadaEm = iniciadaEm;
+    }
+
+    // Métodos de negócio
+
+    /**
+     * Conta a linha como rejeitada; o detalhe só é guardado até o limite de
+     * erros da importação.
+     */
+    public void rejeitar(long linha, String placa, String mensagem) {
+        rejeitados++;
+        if (erros.size() < maxErros) {
+            erros.add(new ErroLinha(linha, limitar(placa, ErroLinha.TEXTO_MAX),
+                    limitar(mensagem, ErroLinha.TEXTO_MAX)));
+        }
+    }
+
+    public void registrarImportados(long quantidade) {
+        importados += quantidade;
+    }
+
+    public void registrarProcessadas(long quantidade) {
+        linhasProcessadas += quantidade;
+        atualizadaEm = LocalDateTime.now();
+    }
+
+    public void concluir(Status status, String mensagem) {
+        this.status = status;
+        this.mensagem = limitar(mensagem, MENSAGEM_MAX);
+        this.concluidaEm = LocalDateTime.now();
+        this.atualizadaEm = concluidaEm;
+    }
+
+    /**
+     * Há linhas rejeitadas além das detalhadas em {@link #getErros()}.
+     */
+    public boolean isErrosTruncados() {
+        return rejeitados > erros.size();
+    }
+
+    private static String limitar(String texto, int max) {
+        return texto == null || texto.length() <= max ? texto : texto.substring(0, max);
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getClientePessoaId() {
+        return clientePessoaId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getLinhasProcessadas() {
+        return linhasProcessadas;
+    }
+
+    public long getImportados() {
+        return importados;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public LocalDateTime getIniciadaEm() {
+        return iniciadaEm;
+    }
+
+    public LocalDateTime getAtualizadaEm() {
+        return atualizadaEm;
+    }
+
+    public LocalDateTime getConcluidaEm() {
+        return concluidaEm;
+    }
+
+    public List<ErroLinha> getErros() {
+        return List.copyOf(erros);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ImportacaoVeiculos that = (ImportacaoVeiculos) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    /**
+     * Linha rejeitada do arquivo.
+     */
+    @Embeddable
+    public static class ErroLinha {
+
+        static final int TEXTO_MAX = 255;
+
+        @Column(nullable = false)
+        private long linha;
+
+        @Column(length = TEXTO_MAX)
+        private String placa;
+
+        @Column(nullable = false, length = TEXTO_MAX)
+        private String mensagem;
+
+        protected ErroLinha() {
+        }
+
+        public ErroLinha(long linha, String placa, String mensagem) {
+            this.linha = linha;
+            this.placa = placa;
+            this.mensagem = mensagem;
+        }
+
+        public long getLinha() {
+            return linha;
+        }
+
+        public String getPlaca() {
+            return placa;
+        }
+
+        public String getMensagem() {
+            return mensagem;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.grupo99.customerservice.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Forma canônica de placas, usada na busca: a mesma placa escrita com
+ * minúsculas, hífen, espaços em branco ASCII (espaço, tab, {@code \n},
+ * {@code \r}, {@code \f} e tab vertical) ou ainda no padrão antigo chega à
+ * mesma chave.
+ * <p>
+ * Na conversão para o padrão Mercosul o quinto caractere (segundo dígito)
+ * passa a ser uma letra, 0 → A ... 9 → J: {@code ABC-1234} virou
+ * {@code ABC1C34}. A forma canônica é sempre a do Mercosul.
+ * <p>
+ * A mesma regra está na migração {@code V9}, que recalcula a coluna das
+ * linhas existentes; as duas precisam mudar juntas.
+ */
+public final class Placa {
+
+    private Placa() {
+    }
+
+    /**
+     * @param placa placa como digitada ou gravada
+     * @return a forma canônica, ou null para placa nula ou em branco
+     */
+    public static String normalizar(String placa) {
+        if (placa == null) {
+            return null;
+        }
+        StringBuilder normalizada = new StringBuilder(placa.length());
+        for (int i = 0; i < placa.length(); i++) {
+            char c = placa.charAt(i);
+            if (!removido(c)) {
+                normalizada.append(c);
+            }
+        }
+        if (normalizada.isEmpty()) {
+            return null;
+        }
+        char quinto = normalizada.length() == 7 ? normalizada.charAt(4) : 0;
+        if (quinto >= '0' && quinto <= '9') {
+            normalizada.setCharAt(4, (char) ('A' + quinto - '0'));
+        }
+        return normalizada.toString().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Os caracteres da classe {@code [- \t\n\r\f\x0B]} da V9. Não usa
+     * {@link Character#isWhitespace}, que inclui separadores Unicode que o
+     * SQL não remove.
+     */
+    private static boolean removido(char c) {
+        return c == '-' || c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\013';
+    }
+}
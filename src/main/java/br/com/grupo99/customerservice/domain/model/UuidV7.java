@@ -0,0 +1,59 @@
+package br.com.grupo99.customerservice.domain.model;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gera UUIDs versão 7 (RFC 9562): os 48 bits mais altos são o instante em
+ * milissegundos, então ids novos são sempre maiores que os anteriores e os
+ * INSERTs caem no fim do índice da chave primária, em vez de espalhados como
+ * no UUID v4. Continua sendo um {@link UUID} comum, compatível com a coluna
+ * {@code uuid} existente.
+ * <p>
+ * Os 12 bits {@code rand_a} guardam um contador dentro do mesmo milissegundo
+ * (método 3 da RFC), o que mantém a ordem entre ids gerados na mesma
+ * instância mesmo com o relógio parado ou voltando. Os 62 bits restantes são
+ * aleatórios.
+ */
+public final class UuidV7 {
+
+    private static final long VERSAO = 0x7000L;
+    private static final long VARIANTE = 0x8000_0000_0000_0000L;
+    private static final long CONTADOR_MASK = 0xFFFL;
+
+    private static final UuidV7 INSTANCIA = new UuidV7(System::currentTimeMillis);
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+    private final LongSupplier relogio;
+    private final AtomicLong ultimo = new AtomicLong();
+
+    UuidV7(LongSupplier relogio) {
+        this.relogio = relogio;
+    }
+
+    public static UUID gerar() {
+        return INSTANCIA.proximo();
+    }
+
+    UUID proximo() {
+        long agora = relogio.getAsLong() << 12;
+        // timestamp (48 bits) + contador (12 bits); se o contador estoura, avança para o próximo ms
+        long marca = ultimo.updateAndGet(anterior -> Math.max(anterior + 1, agora));
+
+        long msb = (marca >>> 12) << 16 | VERSAO | (marca & CONTADOR_MASK);
+        long lsb = RANDOM.get().nextLong() >>> 2 | VARIANTE;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * @return instante embutido num UUID v7, em milissegundos desde a época
+     */
+    public static long epochMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID não é versão 7: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.grupo99.customerservice.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -9,16 +11,27 @@ import java.util.UUID;
  * Relaciona-se com Cliente (N:1).
  */
 @Entity
-@Table(name = "veiculos")
+@Table(name = "veiculos", indexes = {
+        @Index(name = "idx_veiculos_cliente_id", columnList = "cliente_id"),
+        @Index(name = "idx_veiculos_placa_normalizada", columnList = "placa_normalizada"),
+        @Index(name = "idx_veiculos_marca_modelo_id", columnList = "marca, modelo, id"),
+        @Index(name = "idx_veiculos_chassi", columnList = "chassi")
+})
 public class Veiculo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false, unique = true, length = 8)
     private String placa;
 
+    /**
+     * {@link Placa#normalizar(String)} da placa, mantida junto com ela.
+     */
+    @Column(name = "placa_normalizada", nullable = false, length = 8)
+    private String placaNormalizada;
+
     @Column(unique = true, length = 11)
     private String renavam;
 
@@ -37,8 +50,13 @@ public class Veiculo {
     @Column(length = 20)
     private String chassi;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cliente_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Cliente cliente;
 
     // Construtores
@@ -47,7 +65,7 @@ public class Veiculo {
 
     public Veiculo(String placa, String marca, String modelo, Integer ano) {
         validarCamposObrigatorios(placa, marca, modelo, ano);
-        this.placa = placa;
+        setPlaca(placa);
         this.marca = marca;
         this.modelo = modelo;
         this.ano = ano;
@@ -83,6 +101,11 @@ public class Veiculo {
 
     public void setPlaca(String placa) {
         this.placa = placa;
+        this.placaNormalizada = Placa.normalizar(placa);
+    }
+
+    public String getPlacaNormalizada() {
+        return placaNormalizada;
     }
 
     public String getRenavam() {
@@ -133,6 +156,10 @@ public class Veiculo {
         this.chassi = chassi;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public Cliente getCliente() {
         return cliente;
     }
@@ -0,0 +1,14 @@
+package br.com.grupo99.customerservice.domain.repository;
+
+import java.util.List;
+
+/**
+ * Cliente com seus veículos, lidos numa única consulta: a versão do cliente
+ * é exatamente a da lista de veículos que o acompanha.
+ */
+public record ClienteDetalheView(ClienteView cliente, List<VeiculoView> veiculos) {
+
+    public ClienteDetalheView {
+        veiculos = List.copyOf(veiculos);
+    }
+}
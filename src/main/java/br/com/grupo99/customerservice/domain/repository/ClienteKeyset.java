@@ -0,0 +1,16 @@
+package br.com.grupo99.customerservice.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Posição de um cliente na ordenação (createdAt, pessoaId) usada pela
+ * paginação por keyset: a próxima página começa logo após esta posição.
+ */
+public record ClienteKeyset(LocalDateTime createdAt, UUID pessoaId) {
+    public ClienteKeyset {
+        Objects.requireNonNull(createdAt, "createdAt não pode ser nulo");
+        Objects.requireNonNull(pessoaId, "pessoaId não pode ser nulo");
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.grupo99.customerservice.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Porta de leitura de Cliente: devolve projeções imutáveis em vez de
+ * entidades gerenciadas, para consultas que não alteram estado.
+ */
+public interface ClienteReadRepository {
+
+    /**
+     * Busca a projeção de um cliente.
+     *
+     * @param pessoaId ID da pessoa
+     * @return Optional com a projeção se existir
+     */
+    Optional<ClienteView> findViewById(UUID pessoaId);
+
+    /**
+     * Busca a projeção do cliente e as dos seus veículos numa única consulta,
+     * para que a versão do cliente corresponda à lista.
+     *
+     * @param pessoaId ID da pessoa
+     * @return Optional com o cliente e seus veículos se o cliente existir
+     */
+    Optional<ClienteDetalheView> findDetalheById(UUID pessoaId);
+
+    /**
+     * Busca as projeções de vários clientes de uma vez.
+     *
+     * @param pessoaIds IDs das pessoas, sem repetições
+     * @return projeções dos clientes encontrados, em qualquer ordem
+     */
+    List<ClienteView> findViewsByIds(Collection<UUID> pessoaIds);
+
+    /**
+     * Busca uma página de projeções ordenada por (createdAt, pessoaId).
+     *
+     * @param after posição do último cliente da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de clientes
+     * @return projeções posicionadas após {@code after}
+     */
+    List<ClienteView> findViewPage(ClienteKeyset after, int limit);
+}
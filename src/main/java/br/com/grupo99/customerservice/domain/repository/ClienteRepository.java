@@ -2,9 +2,12 @@ package br.com.grupo99.customerservice.domain.repository;
 
 import br.com.grupo99.customerservice.domain.model.Cliente;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * ✅ CLEAN ARCHITECTURE: Interface pura de domínio
@@ -21,6 +24,16 @@ public interface ClienteRepository {
      */
     Cliente save(Cliente cliente);
 
+    /**
+     * Insere o cliente numa única ida ao banco, sem checagem prévia. Se o
+     * pessoaId já existir nada é gravado. Em caso de sucesso as datas de
+     * criação ficam preenchidas no próprio {@code cliente}.
+     *
+     * @param cliente cliente novo
+     * @return true se foi inserido, false se já existia
+     */
+    boolean insertIfAbsent(Cliente cliente);
+
     /**
      * Busca cliente por pessoaId.
      *
@@ -38,11 +51,59 @@ public interface ClienteRepository {
     boolean existsByPessoaId(UUID pessoaId);
 
     /**
-     * Deleta cliente por pessoaId.
+     * Verifica, em consultas por conjunto, quais pessoaIds já possuem cliente.
+     *
+     * @param pessoaIds IDs das pessoas
+     * @return subconjunto de {@code pessoaIds} que já existe
+     */
+    Set<UUID> findExistingPessoaIds(Collection<UUID> pessoaIds);
+
+    /**
+     * Insere clientes novos com um INSERT de várias linhas por bloco, como
+     * {@link #insertIfAbsent(Cliente)}: pessoaIds que já existem, inclusive
+     * os inseridos em paralelo por outra transação, são ignorados sem erro.
+     * Os clientes inseridos ficam com as datas de criação preenchidas.
+     * Exige transação aberta.
+     *
+     * @param clientes clientes ainda não persistidos, com pessoaIds distintos
+     * @return pessoaIds efetivamente inseridos
+     */
+    Set<UUID> insertAllIfAbsent(List<Cliente> clientes);
+
+    /**
+     * Versão atual do cliente, numa consulta de uma coluna, sem cache.
+     * Muda a cada alteração no cliente ou em qualquer veículo dele.
+     *
+     * @param pessoaId ID da pessoa
+     * @return Optional com a versão se o cliente existir
+     */
+    Optional<Long> findVersion(UUID pessoaId);
+
+    /**
+     * Incrementa a versão do cliente. Deve rodar na mesma transação de toda
+     * escrita no cliente ou nos seus veículos.
+     *
+     * @param pessoaId ID da pessoa
+     * @return true se o cliente existe
+     */
+    boolean incrementVersion(UUID pessoaId);
+
+    /**
+     * Deleta o cliente, e seus veículos, se ele ainda estiver na versão informada.
+     *
+     * @param pessoaId ID da pessoa
+     * @param version versão esperada
+     * @return true se o cliente existia nessa versão
+     */
+    boolean deleteByPessoaIdAndVersion(UUID pessoaId, long version);
+
+    /**
+     * Deleta cliente por pessoaId, e seus veículos, sem carregá-los.
      *
      * @param pessoaId ID da pessoa
+     * @return true se o cliente existia
      */
-    void deleteByPessoaId(UUID pessoaId);
+    boolean deleteByPessoaId(UUID pessoaId);
 
     /**
      * Busca cliente por ID.
@@ -53,12 +114,39 @@ public interface ClienteRepository {
     Optional<Cliente> findById(UUID pessoaId);
 
     /**
-     * Lista todos os clientes.
+     * Referência a um cliente existente sem carregá-lo, para associar
+     * entidades novas a ele. Exige transação aberta.
+     *
+     * @param pessoaId ID da pessoa
+     * @return referência ao cliente
+     */
+    Cliente getReference(UUID pessoaId);
+
+    /**
+     * Lista todos os clientes, sem limite. Prefira {@link #findPage}.
      *
      * @return List de clientes
      */
     List<Cliente> findAll();
 
+    /**
+     * Busca uma página de clientes ordenada por (createdAt, pessoaId).
+     *
+     * @param after posição do último cliente da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de clientes
+     * @return clientes posicionados após {@code after}
+     */
+    List<Cliente> findPage(ClienteKeyset after, int limit);
+
+    /**
+     * Percorre todos os clientes, com seus veículos, sem carregá-los de uma vez.
+     * Os clientes entregues ao {@code action} são desanexados em seguida e não
+     * devem ser retidos. Exige transação aberta.
+     *
+     * @param action consumidor chamado para cada cliente
+     */
+    void forEach(Consumer<Cliente> action);
+
     /**
      * Deleta cliente por ID.
      *
@@ -0,0 +1,12 @@
+package br.com.grupo99.customerservice.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção somente leitura de Cliente, sem a coleção de veículos. A versão é
+ * a lida junto com as demais colunas, então uma ETag montada a partir dela
+ * sempre corresponde a esta projeção.
+ */
+public record ClienteView(UUID pessoaId, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+}
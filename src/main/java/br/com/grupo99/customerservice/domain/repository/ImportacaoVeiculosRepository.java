@@ -0,0 +1,67 @@
+package br.com.grupo99.customerservice.domain.repository;
+
+import br.com.grupo99.customerservice.domain.model.ImportacaoVeiculos;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistência do andamento das importações de veículos por CSV.
+ * Implementação fica na camada adapter.
+ */
+public interface ImportacaoVeiculosRepository {
+
+    /**
+     * Grava o estado atual da importação: INSERT na primeira vez, depois
+     * UPDATE dos contadores e INSERT dos erros novos.
+     *
+     * @param importacao importação
+     * @return importação salva
+     */
+    ImportacaoVeiculos save(ImportacaoVeiculos importacao);
+
+    /**
+     * Busca a importação com os erros por linha já carregados.
+     *
+     * @param id ID da importação
+     * @return Optional com a importação se existir
+     */
+    Optional<ImportacaoVeiculos> findById(UUID id);
+
+    /**
+     * Deleta a importação e seus erros. Exige transação aberta.
+     *
+     * @param id ID da importação
+     */
+    void deleteById(UUID id);
+
+    /**
+     * Renova a data de atualização da importação se ela ainda estiver em
+     * andamento, bloqueando a linha até o fim da transação: depois disso
+     * {@link #marcarInterrompidas} não a alcança. Exige transação aberta.
+     *
+     * @param id ID da importação
+     * @return false se a importação já foi encerrada, p.ex. marcada como interrompida
+     */
+    boolean renovarEmAndamento(UUID id);
+
+    /**
+     * Marca como falhas as importações em andamento sem progresso desde
+     * {@code limite}: a instância que as processava caiu. Exige transação aberta.
+     *
+     * @param limite última atualização aceita
+     * @param mensagem motivo gravado nas importações
+     * @return quantidade de importações marcadas
+     */
+    int marcarInterrompidas(LocalDateTime limite, String mensagem);
+
+    /**
+     * Deleta as importações concluídas antes de {@code limite}, com seus
+     * erros. Exige transação aberta.
+     *
+     * @param limite data de conclusão mais antiga mantida
+     * @return quantidade de importações deletadas
+     */
+    int deleteConcluidasAntesDe(LocalDateTime limite);
+}
@@ -0,0 +1,27 @@
+package br.com.grupo99.customerservice.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * Porta de invalidação do cache das projeções de leitura.
+ * Os casos de uso que alteram clientes ou veículos avisam aqui o que mudou;
+ * dentro de uma transação a remoção é repetida após o término dela.
+ */
+public interface ReadCacheInvalidator {
+
+    /**
+     * Remove do cache o cliente, a lista de veículos dele e os veículos
+     * que pertencem a ele.
+     *
+     * @param pessoaId ID da pessoa
+     */
+    void evictCliente(UUID pessoaId);
+
+    /**
+     * Remove do cache o veículo e a lista de veículos do cliente dono.
+     *
+     * @param veiculoId ID do veículo, ou null quando só a lista do cliente mudou
+     * @param clientePessoaId ID do cliente dono
+     */
+    void evictVeiculo(UUID veiculoId, UUID clientePessoaId);
+}
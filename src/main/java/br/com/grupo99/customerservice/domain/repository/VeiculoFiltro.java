@@ -0,0 +1,29 @@
+package br.com.grupo99.customerservice.domain.repository;
+
+/**
+ * Critérios da pesquisa de veículos. Campos nulos não filtram; textos são
+ * comparados por igualdade exata e o ano pelo intervalo fechado
+ * [{@code anoMin}, {@code anoMax}].
+ * <p>
+ * A pesquisa só aceita filtros que partem de um índice
+ * ({@link #usaIndice()}): renavam (restrição única), chassi
+ * ({@code idx_veiculos_chassi}) ou marca e modelo juntos
+ * ({@code idx_veiculos_marca_modelo_id}, que também entrega a ordem por ID
+ * da paginação). Ano e cor só refinam um desses.
+ */
+public record VeiculoFiltro(
+        String marca,
+        String modelo,
+        Integer anoMin,
+        Integer anoMax,
+        String cor,
+        String renavam,
+        String chassi) {
+
+    /**
+     * @return true se o filtro pode ser resolvido a partir de um índice
+     */
+    public boolean usaIndice() {
+        return renavam != null || chassi != null || (marca != null && modelo != null);
+    }
+}
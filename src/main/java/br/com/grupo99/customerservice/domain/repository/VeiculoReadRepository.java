@@ -0,0 +1,50 @@
+package br.com.grupo99.customerservice.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Porta de leitura de Veículo: devolve projeções imutáveis em vez de
+ * entidades gerenciadas, para consultas que não alteram estado.
+ */
+public interface VeiculoReadRepository {
+
+    /**
+     * Busca a projeção de um veículo.
+     *
+     * @param id ID do veículo
+     * @return Optional com a projeção se existir
+     */
+    Optional<VeiculoView> findViewById(UUID id);
+
+    /**
+     * Lista as projeções dos veículos de vários clientes numa única consulta.
+     *
+     * @param clientePessoaIds IDs dos clientes
+     * @return projeções dos veículos desses clientes
+     */
+    List<VeiculoView> findViewsByClientePessoaIds(Collection<UUID> clientePessoaIds);
+
+    /**
+     * Busca as projeções dos veículos com as placas informadas.
+     *
+     * @param placasNormalizadas placas já em {@code Placa.normalizar}, sem repetições
+     * @return projeções indexadas pela placa normalizada; placas sem veículo ficam de fora
+     */
+    Map<String, VeiculoView> findViewsByPlacas(Collection<String> placasNormalizadas);
+
+    /**
+     * Pesquisa uma página de projeções por {@code filtro}, ordenada por ID,
+     * numa única consulta.
+     *
+     * @param filtro critérios da pesquisa; precisa {@link VeiculoFiltro#usaIndice() usar um índice}
+     * @param afterId ID do último veículo da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de veículos
+     * @return projeções posicionadas após {@code afterId}
+     * @throws IllegalArgumentException se o filtro não usar índice
+     */
+    List<VeiculoView> findViewPage(VeiculoFiltro filtro, UUID afterId, int limit);
+}
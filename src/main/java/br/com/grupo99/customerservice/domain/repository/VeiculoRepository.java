@@ -2,8 +2,10 @@ package br.com.grupo99.customerservice.domain.repository;
 
 import br.com.grupo99.customerservice.domain.model.Veiculo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -21,6 +23,14 @@ public interface VeiculoRepository {
      */
     Veiculo save(Veiculo veiculo);
 
+    /**
+     * Insere veículos novos em lotes JDBC. O contexto de persistência é
+     * descarregado e limpo ao final. Exige transação aberta.
+     *
+     * @param veiculos veículos ainda não persistidos
+     */
+    void saveAll(List<Veiculo> veiculos);
+
     /**
      * Busca veículo por ID.
      *
@@ -53,6 +63,40 @@ public interface VeiculoRepository {
      */
     boolean existsByPlaca(String placa);
 
+    /**
+     * Verifica, numa única consulta, quais placas já estão cadastradas.
+     *
+     * @param placas placas a verificar
+     * @return subconjunto de {@code placas} que já existe
+     */
+    Set<String> findExistingPlacas(Collection<String> placas);
+
+    /**
+     * Verifica, numa única consulta, quais renavams já estão cadastrados.
+     *
+     * @param renavams renavams a verificar
+     * @return subconjunto de {@code renavams} que já existe
+     */
+    Set<String> findExistingRenavams(Collection<String> renavams);
+
+    /**
+     * Projeção do veículo lida do banco, sem cache, para decidir uma escrita.
+     *
+     * @param id ID do veículo
+     * @return Optional com a projeção se existir
+     */
+    Optional<VeiculoView> findViewById(UUID id);
+
+    /**
+     * Grava os campos de {@code veiculo} num único UPDATE condicional à
+     * versão, ao id e ao cliente dono, incrementando a versão.
+     *
+     * @param veiculo estado novo do veículo
+     * @param expectedVersion versão lida antes da alteração
+     * @return true se gravou; false se o veículo mudou de versão ou de dono
+     */
+    boolean updateIfVersion(VeiculoView veiculo, long expectedVersion);
+
     /**
      * Deleta um veículo.
      *
@@ -60,6 +104,34 @@ public interface VeiculoRepository {
      */
     void deleteById(UUID id);
 
+    /**
+     * Versão atual do veículo, numa consulta de uma coluna, sem cache.
+     *
+     * @param id ID do veículo
+     * @return Optional com a versão se o veículo existir
+     */
+    Optional<Long> findVersion(UUID id);
+
+    /**
+     * Como {@link #deleteByIdAndClientePessoaId}, se o veículo ainda estiver
+     * na versão informada.
+     *
+     * @param id ID do veículo
+     * @param clientePessoaId ID da pessoa (cliente) dona do veículo
+     * @param version versão esperada
+     * @return true se o veículo existia, pertencia ao cliente e estava nessa versão
+     */
+    boolean deleteByIdAndClientePessoaIdAndVersion(UUID id, UUID clientePessoaId, long version);
+
+    /**
+     * Deleta o veículo de um cliente num único DELETE, sem carregá-lo.
+     *
+     * @param id ID do veículo
+     * @param clientePessoaId ID da pessoa (cliente) dona do veículo
+     * @return true se o veículo existia e pertencia ao cliente
+     */
+    boolean deleteByIdAndClientePessoaId(UUID id, UUID clientePessoaId);
+
     /**
      * Busca todos os veículos.
      *
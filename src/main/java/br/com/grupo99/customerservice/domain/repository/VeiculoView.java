@@ -0,0 +1,19 @@
+package br.com.grupo99.customerservice.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * Projeção somente leitura de Veículo, com o pessoaId do cliente dono.
+ */
+public record VeiculoView(
+        UUID id,
+        UUID clientePessoaId,
+        String placa,
+        String renavam,
+        String marca,
+        String modelo,
+        Integer ano,
+        String cor,
+        String chassi,
+        Long version) {
+}
@@ -1,5 +1,6 @@
 package br.com.grupo99.customerservice.infrastructure.config;
 
+import br.com.grupo99.customerservice.infrastructure.security.authorization.RoutePermissionTable;
 import br.com.grupo99.customerservice.infrastructure.security.jwt.JwtAuthorizationFilter;
 import br.com.grupo99.customerservice.infrastructure.security.jwt.JwtRequestFilter;
 import org.springframework.beans.factory.annotation.Value;
@@ -64,6 +65,29 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Permissões por perfil × método × rota, aplicadas pelo {@link JwtAuthorizationFilter}.
+     * O método é estático porque o filtro, que depende da tabela, é injetado nesta configuração.
+     * <p>
+     * ADMIN e MECANICO acessam tudo e CLIENTE só consulta, exceto as listagens de
+     * execuções; perfis fora da tabela passam. Só as rotas de exportação, lote e
+     * busca de veículos por placa são restritas a ADMIN.
+     */
+    @Bean
+    public static RoutePermissionTable routePermissionTable() {
+        return RoutePermissionTable.builder()
+                .allow("*", "/**", "ADMIN", "MECANICO")
+                .allow("GET", "/**", "ADMIN", "MECANICO", "CLIENTE")
+                .allow("GET", "/api/v1/execucoes", "ADMIN", "MECANICO")
+                .allow("GET", "/api/v1/execution", "ADMIN", "MECANICO")
+                .allow("*", "/api/v1/clientes/export", "ADMIN")
+                .allow("*", "/api/v1/clientes/lote", "ADMIN")
+                .allow("*", "/api/v1/clientes/{pessoaId}/veiculos/**", "ADMIN", "MECANICO")
+                .allow("*", "/api/v1/veiculos/**", "ADMIN")
+                .allow("GET", "/api/v1/clientes/{pessoaId}/veiculos/**", "ADMIN", "MECANICO", "CLIENTE")
+                .build();
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
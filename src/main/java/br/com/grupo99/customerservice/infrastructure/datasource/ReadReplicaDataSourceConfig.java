@@ -0,0 +1,68 @@
+package br.com.grupo99.customerservice.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * DataSources com réplica de leitura, ativados por
+ * {@code datasource.replica.enabled=true}.
+ * <p>
+ * O pool {@code primary} usa {@code spring.datasource.*}. O pool
+ * {@code replica} usa a URL e as credenciais de {@code spring.datasource.*}
+ * e as configurações de {@code spring.datasource.hikari.*}, tudo sobrescrito
+ * por {@code datasource.replica.hikari.*}. Os dois são beans Hikari próprios,
+ * então o actuator publica {@code hikaricp.connections.*} separado pela tag
+ * {@code pool}. O DataSource usado pelo JPA é o roteador entre eles.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        binder.bind("datasource.replica.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replica.read-your-writes-ms:2000}") long readYourWritesMs) {
+        return new ReadYourWritesTracker(Duration.ofMillis(readYourWritesMs));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica, ReadYourWritesTracker tracker) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, tracker);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
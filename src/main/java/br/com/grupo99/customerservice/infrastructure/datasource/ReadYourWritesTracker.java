@@ -0,0 +1,127 @@
+package br.com.grupo99.customerservice.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Lembra, por {@code read-your-writes-ms}, quais chamadores acabaram de
+ * confirmar uma escrita. Enquanto a janela está aberta as leituras desse
+ * chamador vão ao primário, para não lerem da réplica um estado anterior à
+ * própria alteração.
+ * <p>
+ * A marca da escrita vai ao chamador no cookie {@value #COOKIE}, com o
+ * instante do commit, e volta na requisição seguinte para qualquer instância
+ * que a atenda. Compara relógios de instâncias diferentes, então a janela
+ * precisa ficar acima da diferença entre eles (NTP). Um valor forjado só
+ * leva as leituras do próprio chamador ao primário, e nunca por mais que a
+ * janela.
+ * <p>
+ * Quem não devolve cookies conta só com a janela da própria instância,
+ * guardada por usuário autenticado ou, sem autenticação, pelo IP. Fora de
+ * uma requisição (jobs em background) não há janela.
+ */
+public class ReadYourWritesTracker {
+
+    static final String COOKIE = "ultima_escrita";
+
+    private final Cache<String, Boolean> escritasRecentes;
+    private final long janelaMs;
+    private final LongSupplier relogioMs;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, Ticker.systemTicker(), System::currentTimeMillis);
+    }
+
+    ReadYourWritesTracker(Duration window, Ticker ticker, LongSupplier relogioMs) {
+        this.escritasRecentes = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .ticker(ticker)
+                .build();
+        this.janelaMs = window.toMillis();
+        this.relogioMs = relogioMs;
+    }
+
+    /**
+     * Abre a janela para o chamador informado e devolve a marca ao chamador
+     * da requisição atual, se a resposta ainda não foi enviada.
+     *
+     * @param chamador chave devolvida por {@link #chamadorAtual()}, ou null
+     */
+    void registrarEscrita(String chamador) {
+        if (chamador != null) {
+            escritasRecentes.put(chamador, Boolean.TRUE);
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                ResponseCookie cookie = ResponseCookie.from(COOKIE, Long.toString(relogioMs.getAsLong()))
+                        .path("/")
+                        .maxAge(Duration.ofMillis(janelaMs).toSeconds() + 1)
+                        .httpOnly(true)
+                        .sameSite("Lax")
+                        .build();
+                response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            }
+        }
+    }
+
+    /**
+     * @return true se o chamador atual confirmou uma escrita dentro da janela
+     */
+    boolean escreveuRecentemente() {
+        if (marcaRecenteNaRequisicao()) {
+            return true;
+        }
+        String chamador = chamadorAtual();
+        return chamador != null && escritasRecentes.getIfPresent(chamador) != null;
+    }
+
+    private boolean marcaRecenteNaRequisicao() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    long diferenca = relogioMs.getAsLong() - Long.parseLong(cookie.getValue());
+                    return Math.abs(diferenca) < janelaMs;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    static String chamadorAtual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return "ip:" + attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
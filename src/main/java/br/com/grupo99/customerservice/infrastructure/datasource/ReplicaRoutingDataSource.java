@@ -0,0 +1,115 @@
+package br.com.grupo99.customerservice.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Envia transações {@code readOnly} à réplica e todo o resto ao primário.
+ * <p>
+ * Precisa ficar atrás de um {@code LazyConnectionDataSourceProxy}: o
+ * gerenciador de transação pede a conexão antes de marcar a transação como
+ * somente leitura, e o proxy adia a escolha até o primeiro comando SQL.
+ * <p>
+ * Quem guarda o resultado de uma leitura (o cache de projeções) precisa saber
+ * de onde ela veio: uma réplica atrasada devolveria o valor anterior a uma
+ * invalidação. {@link #noPrimario(Supplier)} pede o primário para uma leitura
+ * e {@link #leuDaReplica()} informa se a transação atual acabou na réplica.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Rota {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> primarioForcado = new ThreadLocal<>();
+    private static final String LEITURA_NA_REPLICA = ReplicaRoutingDataSource.class.getName() + ".LEITURA_NA_REPLICA";
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+        setTargetDataSources(Map.of(Rota.PRIMARY, primary, Rota.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Rota.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (primarioForcado.get() != null || tracker.escreveuRecentemente()) {
+                return Rota.PRIMARY;
+            }
+            marcarLeituraNaReplica();
+            return Rota.REPLICA;
+        }
+        registrarEscritaNoCommit();
+        return Rota.PRIMARY;
+    }
+
+    /**
+     * Executa a leitura no primário mesmo dentro de uma transação somente
+     * leitura. Só tem efeito se a transação ainda não abriu a conexão; se já
+     * abriu na réplica, {@link #leuDaReplica()} continua true.
+     */
+    public static <T> T noPrimario(Supplier<T> leitura) {
+        Boolean anterior = primarioForcado.get();
+        primarioForcado.set(Boolean.TRUE);
+        try {
+            return leitura.get();
+        } finally {
+            if (anterior == null) {
+                primarioForcado.remove();
+            }
+        }
+    }
+
+    /**
+     * @return true se a transação atual está lendo da réplica
+     */
+    public static boolean leuDaReplica() {
+        return TransactionSynchronizationManager.hasResource(LEITURA_NA_REPLICA);
+    }
+
+    private static void marcarLeituraNaReplica() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || leuDaReplica()) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(LEITURA_NA_REPLICA, Rota.REPLICA);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LEITURA_NA_REPLICA);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(LEITURA_NA_REPLICA, Rota.REPLICA);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LEITURA_NA_REPLICA);
+            }
+        });
+    }
+
+    private void registrarEscritaNoCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String chamador = ReadYourWritesTracker.chamadorAtual();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.registrarEscrita(chamador);
+            }
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.grupo99.customerservice.infrastructure.security.authorization;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Tabela declarativa de permissões perfil × método HTTP × template de rota.
+ * <p>
+ * As regras são compiladas na inicialização em uma trie por segmento de path.
+ * Na busca, segmentos literais têm precedência sobre variáveis ({@code {id}}),
+ * que têm precedência sobre o curinga final {@code /**}. Dentro do template
+ * mais específico, uma regra para o método exato vence a regra {@code *}.
+ * Requisições sem nenhuma regra aplicável são liberadas, assim como perfis
+ * que não aparecem em regra alguma da tabela.
+ */
+public final class RoutePermissionTable {
+    public static final String ANY_METHOD = "*";
+
+    private final Node root;
+    private final Set<String> perfisListados;
+
+    private RoutePermissionTable(Node root, Set<String> perfisListados) {
+        this.root = root;
+        this.perfisListados = perfisListados;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isAllowed(String method, String path, String perfil) {
+        if (!perfisListados.contains(perfil)) {
+            return true;
+        }
+        Set<String> perfis = resolve(method, path);
+        return perfis == null || perfis.contains(perfil);
+    }
+
+    /**
+     * Perfis autorizados para a requisição, ou {@code null} se nenhuma regra se aplica.
+     */
+    public Set<String> resolve(String method, String path) {
+        return match(root, split(path), 0, method);
+    }
+
+    private static Set<String> match(Node node, String[] segments, int index, String method) {
+        if (index == segments.length) {
+            Set<String> exact = lookup(node.exact, method);
+            return exact != null ? exact : lookup(node.tail, method);
+        }
+        Node literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            Set<String> found = match(literal, segments, index + 1, method);
+            if (found != null) {
+                return found;
+            }
+        }
+        if (node.variable != null) {
+            Set<String> found = match(node.variable, segments, index + 1, method);
+            if (found != null) {
+                return found;
+            }
+        }
+        return lookup(node.tail, method);
+    }
+
+    private static Set<String> lookup(Map<String, Set<String>> rules, String method) {
+        if (rules == null) {
+            return null;
+        }
+        Set<String> perfis = rules.get(method);
+        return perfis != null ? perfis : rules.get(ANY_METHOD);
+    }
+
+    private static String[] split(String path) {
+        List<String> segments = new ArrayList<>(8);
+        int start = 0;
+        int length = path.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node variable;
+        private Map<String, Set<String>> exact;
+        private Map<String, Set<String>> tail;
+    }
+
+    public static final class Builder {
+        private final Node root = new Node();
+        private final Set<String> perfisListados = new HashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Autoriza os perfis informados a usar {@code method} (ou {@link #ANY_METHOD})
+         * nas rotas que casam com {@code pathTemplate}.
+         */
+        public Builder allow(String method, String pathTemplate, String... perfis) {
+            Objects.requireNonNull(method, "Método não pode ser nulo");
+            Objects.requireNonNull(pathTemplate, "Template de rota não pode ser nulo");
+            String[] segments = split(pathTemplate);
+            Node node = root;
+            boolean tail = false;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if ("**".equals(segment)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("'**' só é permitido no final do template: " + pathTemplate);
+                    }
+                    tail = true;
+                } else if (segment.startsWith("{") && segment.endsWith("}")) {
+                    if (node.variable == null) {
+                        node.variable = new Node();
+                    }
+                    node = node.variable;
+                } else {
+                    node = node.literals.computeIfAbsent(segment, s -> new Node());
+                }
+            }
+            Map<String, Set<String>> rules;
+            if (tail) {
+                if (node.tail == null) {
+                    node.tail = new HashMap<>();
+                }
+                rules = node.tail;
+            } else {
+                if (node.exact == null) {
+                    node.exact = new HashMap<>();
+                }
+                rules = node.exact;
+            }
+            if (rules.putIfAbsent(method.toUpperCase(), Set.of(perfis)) != null) {
+                throw new IllegalArgumentException("Regra duplicada: " + method + " " + pathTemplate);
+            }
+            perfisListados.addAll(List.of(perfis));
+            return this;
+        }
+
+        public RoutePermissionTable build() {
+            return new RoutePermissionTable(root, Set.copyOf(perfisListados));
+        }
+    }
+}
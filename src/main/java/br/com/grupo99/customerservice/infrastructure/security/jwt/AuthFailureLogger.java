@@ -0,0 +1,98 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Log agregado de falhas de autenticação JWT.
+ * <p>
+ * Cada motivo gera no máximo uma linha por intervalo (sem stack trace, exceto
+ * falhas inesperadas); as demais ocorrências são apenas contadas e saem num
+ * resumo periódico. Assim um cliente com bug ou um scanner não inunda o log.
+ */
+@Component
+@ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
+public class AuthFailureLogger {
+    private static final Logger logger = LoggerFactory.getLogger(AuthFailureLogger.class);
+
+    private final long intervalNanos;
+    private final LongSupplier nanoTime;
+    private final Map<JwtAuthMetrics.Reason, LongAdder> counts = new EnumMap<>(JwtAuthMetrics.Reason.class);
+    private final Map<JwtAuthMetrics.Reason, AtomicLong> nextLogAt = new EnumMap<>(JwtAuthMetrics.Reason.class);
+
+    @Autowired
+    public AuthFailureLogger(@Value("${jwt.failure-log.interval-ms:60000}") long intervalMs) {
+        this(intervalMs, System::nanoTime);
+    }
+
+    AuthFailureLogger(long intervalMs, LongSupplier nanoTime) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+        this.nanoTime = nanoTime;
+        long now = nanoTime.getAsLong();
+        for (JwtAuthMetrics.Reason reason : JwtAuthMetrics.Reason.values()) {
+            counts.put(reason, new LongAdder());
+            nextLogAt.put(reason, new AtomicLong(now));
+        }
+    }
+
+    public void record(JwtAuthMetrics.Reason reason, String detail) {
+        counts.get(reason).increment();
+        if (tryAcquire(reason)) {
+            logger.warn("Falha de autenticação JWT [{}]: {} (repetições resumidas a cada {}s)", reason.tag(), detail,
+                    TimeUnit.NANOSECONDS.toSeconds(intervalNanos));
+        }
+    }
+
+    public void recordUnexpected(Exception e) {
+        counts.get(JwtAuthMetrics.Reason.OTHER).increment();
+        if (tryAcquire(JwtAuthMetrics.Reason.OTHER)) {
+            logger.error("Erro inesperado ao processar token JWT: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.failure-log.interval-ms:60000}")
+    public void logSummary() {
+        Map<JwtAuthMetrics.Reason, Long> snapshot = drain();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        StringJoiner joiner = new StringJoiner(", ");
+        long total = 0;
+        for (Map.Entry<JwtAuthMetrics.Reason, Long> entry : snapshot.entrySet()) {
+            joiner.add(entry.getKey().tag() + "=" + entry.getValue());
+            total += entry.getValue();
+        }
+        logger.warn("Falhas de autenticação JWT no último intervalo: {} ({})", total, joiner);
+    }
+
+    boolean tryAcquire(JwtAuthMetrics.Reason reason) {
+        AtomicLong next = nextLogAt.get(reason);
+        long now = nanoTime.getAsLong();
+        long allowedAt = next.get();
+        return now - allowedAt >= 0 && next.compareAndSet(allowedAt, now + intervalNanos);
+    }
+
+    Map<JwtAuthMetrics.Reason, Long> drain() {
+        Map<JwtAuthMetrics.Reason, Long> snapshot = new EnumMap<>(JwtAuthMetrics.Reason.class);
+        counts.forEach((reason, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                snapshot.put(reason, count);
+            }
+        });
+        return snapshot;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+/**
+ * Token com assinatura válida, mas com uma claim que não pode ser convertida
+ * (por exemplo, um pessoaId que não é UUID).
+ */
+public class InvalidClaimException extends IllegalArgumentException {
+    private final String claim;
+
+    public InvalidClaimException(String claim, String value, Throwable cause) {
+        super("Claim '" + claim + "' inválida no token JWT: " + value, cause);
+        this.claim = claim;
+    }
+
+    public String getClaim() {
+        return claim;
+    }
+}
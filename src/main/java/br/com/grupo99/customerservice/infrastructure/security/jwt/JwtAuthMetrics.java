@@ -0,0 +1,145 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Métricas do caminho de autenticação JWT, exportadas pelo registry do
+ * Micrometer (Prometheus em {@code /actuator/prometheus}).
+ * <p>
+ * Todas as tags têm valores fixos ({@link Reason} e o nome do filtro), então a
+ * cardinalidade não depende do conteúdo dos tokens recebidos.
+ */
+@Component
+@ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
+public class JwtAuthMetrics {
+    static final String VERIFICATION_TIMER = "jwt.verification";
+    static final String CLAIMS_EXTRACTION_TIMER = "jwt.claims.extraction";
+    static final String FILTER_TIMER = "jwt.filter";
+    static final String FAILURES_COUNTER = "jwt.authentication.failures";
+
+    /**
+     * Motivos de falha de autenticação; o valor vira a tag {@code reason}.
+     */
+    public enum Reason {
+        EXPIRED("expired"),
+        BAD_SIGNATURE("bad_signature"),
+        MISSING_PESSOA_ID("missing_pessoa_id"),
+        MISSING_PERFIL("missing_perfil"),
+        MISSING_CLAIM("missing_claim"),
+        INVALID_CLAIM("invalid_claim"),
+        MALFORMED_HEADER("malformed_header"),
+        MALFORMED_TOKEN("malformed_token"),
+        UNSUPPORTED_TOKEN("unsupported_token"),
+        INVALID_SUBJECT("invalid_subject"),
+        OTHER("other");
+
+        private final String tag;
+
+        Reason(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+
+        public static Reason of(Throwable e) {
+            if (e instanceof RejectedTokenException rejected) {
+                return rejected.getReason();
+            }
+            if (e instanceof ExpiredJwtException) {
+                return EXPIRED;
+            }
+            if (e instanceof SignatureException) {
+                return BAD_SIGNATURE;
+            }
+            if (e instanceof MissingClaimException missing) {
+                return switch (missing.getClaim()) {
+                    case "pessoaId" -> MISSING_PESSOA_ID;
+                    case "perfil" -> MISSING_PERFIL;
+                    default -> MISSING_CLAIM;
+                };
+            }
+            if (e instanceof InvalidClaimException) {
+                return INVALID_CLAIM;
+            }
+            if (e instanceof MalformedJwtException) {
+                return MALFORMED_TOKEN;
+            }
+            if (e instanceof UnsupportedJwtException) {
+                return UNSUPPORTED_TOKEN;
+            }
+            return OTHER;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Timer verificationTimer;
+    private final Timer claimsExtractionTimer;
+    private final Timer requestFilterTimer;
+    private final Timer authorizationFilterTimer;
+    private final Map<Reason, Counter> failures = new EnumMap<>(Reason.class);
+
+    public JwtAuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.verificationTimer = Timer.builder(VERIFICATION_TIMER)
+                .description("Verificação da assinatura do token JWT")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.claimsExtractionTimer = Timer.builder(CLAIMS_EXTRACTION_TIMER)
+                .description("Extração das claims de um token JWT verificado")
+                .register(registry);
+        this.requestFilterTimer = filterTimer("authentication");
+        this.authorizationFilterTimer = filterTimer("authorization");
+        for (Reason reason : Reason.values()) {
+            failures.put(reason, Counter.builder(FAILURES_COUNTER)
+                    .description("Requisições com token JWT rejeitado, por motivo")
+                    .tag("reason", reason.tag())
+                    .register(registry));
+        }
+    }
+
+    private Timer filterTimer(String filter) {
+        return Timer.builder(FILTER_TIMER)
+                .description("Tempo gasto no filtro, sem contar o restante da cadeia")
+                .tag("filter", filter)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public <T> T recordVerification(Supplier<T> verification) {
+        return verificationTimer.record(verification);
+    }
+
+    public <T> T recordClaimsExtraction(Supplier<T> extraction) {
+        return claimsExtractionTimer.record(extraction);
+    }
+
+    public Timer.Sample startFilter() {
+        return Timer.start(registry);
+    }
+
+    public void stopAuthenticationFilter(Timer.Sample sample) {
+        sample.stop(requestFilterTimer);
+    }
+
+    public void stopAuthorizationFilter(Timer.Sample sample) {
+        sample.stop(authorizationFilterTimer);
+    }
+
+    public void failure(Reason reason) {
+        failures.get(reason).increment();
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.grupo99.customerservice.infrastructure.security.jwt;
 
+import br.com.grupo99.customerservice.infrastructure.security.authorization.RoutePermissionTable;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,50 +17,51 @@ import java.io.IOException;
 @Component
 @ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
-    private final JwtUtil jwtUtil;
+    private final RoutePermissionTable routePermissionTable;
+    private final JwtAuthMetrics metrics;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthorizationFilter(RoutePermissionTable routePermissionTable, JwtAuthMetrics metrics) {
+        this.routePermissionTable = routePermissionTable;
+        this.metrics = metrics;
     }
 
+    /**
+     * Decide o acesso a partir do {@link JwtUserDetails} que o
+     * {@link JwtRequestFilter} já colocou no SecurityContext; nenhum token é
+     * relido nesta etapa. A decisão vem da {@link RoutePermissionTable}.
+     */
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
-        final String authHeader = request.getHeader("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        final Timer.Sample sample = metrics.startFilter();
+        final boolean allowed;
+        try {
+            allowed = authorize(request, response);
+        } finally {
+            metrics.stopAuthorizationFilter(sample);
+        }
+        if (allowed) {
             filterChain.doFilter(request, response);
-            return;
         }
-        String jwt = authHeader.substring(7);
+    }
+
+    private boolean authorize(HttpServletRequest request, HttpServletResponse response) throws IOException {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            filterChain.doFilter(request, response);
-            return;
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof JwtUserDetails userDetails)) {
+            return true;
         }
-        String perfil = jwtUtil.extractPerfil(jwt);
-        String pessoaId = jwtUtil.extractPessoaId(jwt);
-        if ("MECANICO".equals(perfil) || "ADMIN".equals(perfil)) {
-            filterChain.doFilter(request, response);
-            return;
+        String perfil = userDetails.getPerfil();
+        if (!routePermissionTable.isAllowed(request.getMethod(), request.getRequestURI(), perfil)) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Acesso negado para o perfil " + perfil + ".\"}");
+            return false;
         }
         if ("CLIENTE".equals(perfil)) {
-            String requestURI = request.getRequestURI();
-            String method = request.getMethod();
-            if ("/api/v1/execucoes".equals(requestURI) || "/api/v1/execution".equals(requestURI)) {
-                response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-                response.setContentType("application/json");
-                response.getWriter().write("{\"error\":\"Acesso negado. Clientes não podem listar todos os itens.\"}");
-                return;
-            }
-            if (!"GET".equals(method)) {
-                response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-                response.setContentType("application/json");
-                response.getWriter().write("{\"error\":\"Acesso negado. Clientes só podem consultar execuções.\"}");
-                return;
-            }
-            request.setAttribute("pessoaId", pessoaId);
+            request.setAttribute("pessoaId", userDetails.getPessoaId().toString());
             request.setAttribute("perfil", perfil);
         }
-        filterChain.doFilter(request, response);
+        return true;
     }
 }
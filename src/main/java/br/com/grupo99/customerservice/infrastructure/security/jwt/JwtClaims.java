@@ -0,0 +1,49 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Snapshot imutável das claims de um token JWT já verificado.
+ * É construído uma única vez, logo após a validação da assinatura, e dá
+ * origem ao {@link JwtUserDetails} usado como principal da requisição.
+ */
+public record JwtClaims(
+        String subject,
+        String pessoaId,
+        String numeroDocumento,
+        String tipoPessoa,
+        String cargo,
+        String perfil,
+        Instant issuedAt,
+        Instant expiration) {
+
+    public static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.getSubject(),
+                requireClaim(claims, "pessoaId"),
+                requireClaim(claims, "numeroDocumento"),
+                requireClaim(claims, "tipoPessoa"),
+                claims.get("cargo", String.class),
+                requireClaim(claims, "perfil"),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()));
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiration != null && expiration.isBefore(now);
+    }
+
+    private static String requireClaim(Claims claims, String name) {
+        String value = claims.get(name, String.class);
+        if (value == null || value.trim().isEmpty())
+            throw new MissingClaimException(name);
+        return value;
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
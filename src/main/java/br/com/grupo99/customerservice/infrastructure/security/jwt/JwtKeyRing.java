@@ -0,0 +1,142 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Conjunto de chaves HMAC aceitas na verificação de tokens.
+ * As chaves são decodificadas uma única vez e selecionadas pelo header
+ * {@code kid}; tokens sem {@code kid} usam {@code jwt.secret}. Chaves
+ * adicionais vêm de um arquivo properties ({@code kid=segredoBase64})
+ * indicado em {@code jwt.keys.file}, relido periodicamente sem restart.
+ */
+@Component
+@ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final Key defaultKey;
+    private final Path keysFile;
+    private final String activeKid;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile Map<String, Key> keysByKid = Map.of();
+    private volatile FileTime lastModified;
+
+    public JwtKeyRing(@Value("${jwt.secret}") String secret,
+            @Value("${jwt.keys.file:}") String keysFile,
+            @Value("${jwt.keys.active-kid:}") String activeKid,
+            ApplicationEventPublisher eventPublisher) {
+        this.defaultKey = decode(secret);
+        this.keysFile = keysFile.isBlank() ? null : Path.of(keysFile);
+        this.activeKid = activeKid.isBlank() ? null : activeKid;
+        this.eventPublisher = eventPublisher;
+        reload();
+        if (this.activeKid != null && !keysByKid.containsKey(this.activeKid)) {
+            throw new IllegalStateException("Chave ativa '" + this.activeKid + "' não encontrada em " + keysFile);
+        }
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            return defaultKey;
+        }
+        Key key = keysByKid.get(kid);
+        if (key == null) {
+            throw new SignatureException("Chave de assinatura desconhecida: kid=" + kid);
+        }
+        return key;
+    }
+
+    /**
+     * Chave usada para assinar novos tokens.
+     */
+    public Key signingKey() {
+        return activeKid != null ? keysByKid.get(activeKid) : defaultKey;
+    }
+
+    public String activeKid() {
+        return activeKid;
+    }
+
+    /**
+     * Relê o arquivo de chaves quando ele foi modificado. Em caso de erro o
+     * conjunto anterior é mantido.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval-ms:60000}")
+    public synchronized void reload() {
+        if (keysFile == null) {
+            return;
+        }
+        try {
+            FileTime modified = Files.getLastModifiedTime(keysFile);
+            if (modified.equals(lastModified)) {
+                return;
+            }
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(keysFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            Map<String, Key> loaded = new HashMap<>();
+            for (String kid : properties.stringPropertyNames()) {
+                loaded.put(kid, decode(properties.getProperty(kid).trim()));
+            }
+            // compara kid e segredo: trocar o segredo mantendo o kid também revoga a chave antiga
+            boolean revoked = !loaded.entrySet().containsAll(keysByKid.entrySet());
+            boolean added = lastModified != null && !keysByKid.entrySet().containsAll(loaded.entrySet());
+            keysByKid = Map.copyOf(loaded);
+            lastModified = modified;
+            logger.info("Chaves JWT carregadas de {}: {}", keysFile, loaded.keySet());
+            if (revoked) {
+                eventPublisher.publishEvent(new KeysRevokedEvent(this));
+            }
+            if (added) {
+                eventPublisher.publishEvent(new KeysAddedEvent(this));
+            }
+        } catch (IOException | IllegalArgumentException | JwtException e) {
+            logger.error("Falha ao carregar chaves JWT de {}: {}", keysFile, e.getMessage());
+        }
+    }
+
+    private static Key decode(String secret) {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+    }
+
+    /**
+     * Publicado quando alguma chave deixou de ser aceita; tokens verificados
+     * com ela não podem continuar em cache.
+     */
+    public record KeysRevokedEvent(JwtKeyRing source) {
+    }
+
+    /**
+     * Publicado quando um novo kid passou a ser aceito; tokens recusados por
+     * kid desconhecido podem ter se tornado válidos.
+     */
+    public record KeysAddedEvent(JwtKeyRing source) {
+    }
+}
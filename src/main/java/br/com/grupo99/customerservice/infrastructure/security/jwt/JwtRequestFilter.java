@@ -1,5 +1,6 @@
 package br.com.grupo99.customerservice.infrastructure.security.jwt;
 
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +15,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.time.Instant;
 
 @Component
 @ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
@@ -22,23 +24,49 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtAuthMetrics metrics;
+    private final AuthFailureLogger failureLogger;
 
-    public JwtRequestFilter(JwtUtil jwtUtil) {
+    public JwtRequestFilter(JwtUtil jwtUtil, VerifiedTokenCache verifiedTokenCache, JwtAuthMetrics metrics,
+            AuthFailureLogger failureLogger) {
         this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.metrics = metrics;
+        this.failureLogger = failureLogger;
     }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
+        final Timer.Sample sample = metrics.startFilter();
+        try {
+            authenticate(request);
+        } finally {
+            metrics.stopAuthenticationFilter(sample);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request) {
         final String authHeader = request.getHeader(AUTHORIZATION_HEADER);
-        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
-            filterChain.doFilter(request, response);
+        if (authHeader == null) {
+            return;
+        }
+        if (!authHeader.startsWith(BEARER_PREFIX)) {
+            reject(JwtAuthMetrics.Reason.MALFORMED_HEADER, "header Authorization sem prefixo Bearer");
+            return;
+        }
+        final String jwt = authHeader.substring(BEARER_PREFIX.length());
+        if (jwt.isBlank()) {
+            reject(JwtAuthMetrics.Reason.MALFORMED_HEADER, "header Authorization com token vazio");
             return;
         }
         try {
-            final String jwt = authHeader.substring(BEARER_PREFIX.length());
-            final JwtUserDetails userDetails = jwtUtil.extractUserDetails(jwt);
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
+            final VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(jwt, jwtUtil::parseToken);
+            final JwtClaims claims = verified.claims();
+            final JwtUserDetails userDetails = verified.userDetails();
+            if (jwtUtil.isTokenValid(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -46,16 +74,25 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 logger.debug("Usuário autenticado: {} com perfil: {}", userDetails.getUsername(),
                         userDetails.getPerfil());
             } else {
-                logger.warn("Token JWT inválido para usuário: {}", userDetails.getUsername());
-                SecurityContextHolder.clearContext();
+                reject(claims.isExpired(Instant.now()) ? JwtAuthMetrics.Reason.EXPIRED
+                        : JwtAuthMetrics.Reason.INVALID_SUBJECT,
+                        "token inválido para usuário " + userDetails.getUsername());
             }
-        } catch (IllegalArgumentException e) {
-            logger.error("Erro ao processar token JWT: {}", e.getMessage());
-            SecurityContextHolder.clearContext();
         } catch (Exception e) {
-            logger.error("Erro ao processar token JWT: {}", e.getMessage(), e);
-            SecurityContextHolder.clearContext();
+            JwtAuthMetrics.Reason reason = JwtAuthMetrics.Reason.of(e);
+            if (reason == JwtAuthMetrics.Reason.OTHER) {
+                metrics.failure(reason);
+                failureLogger.recordUnexpected(e);
+                SecurityContextHolder.clearContext();
+            } else {
+                reject(reason, e.getMessage());
+            }
         }
-        filterChain.doFilter(request, response);
+    }
+
+    private void reject(JwtAuthMetrics.Reason reason, String detail) {
+        metrics.failure(reason);
+        failureLogger.record(reason, detail);
+        SecurityContextHolder.clearContext();
     }
 }
@@ -53,11 +53,17 @@ public class JwtUserDetails implements UserDetails {
         try {
             pessoaUuid = UUID.fromString(pessoaId);
         } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("PessoaId inválido: " + pessoaId, e);
+            throw new InvalidClaimException("pessoaId", pessoaId, e);
         }
         return new JwtUserDetails(username, null, pessoaUuid, numeroDocumento, tipoPessoa, cargo, perfil);
     }
 
+    public static JwtUserDetails from(JwtClaims claims) {
+        Objects.requireNonNull(claims, "Claims não podem ser nulas");
+        return from(claims.subject(), claims.pessoaId(), claims.numeroDocumento(), claims.tipoPessoa(),
+                claims.cargo(), claims.perfil());
+    }
+
     public static JwtUserDetails withPassword(String username, String password, String pessoaId,
             String numeroDocumento, String tipoPessoa, String cargo, String perfil) {
         Objects.requireNonNull(username, "Username não pode ser nulo");
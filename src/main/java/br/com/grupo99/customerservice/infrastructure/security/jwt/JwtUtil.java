@@ -1,15 +1,19 @@
 package br.com.grupo99.customerservice.infrastructure.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,10 +22,23 @@ import java.util.function.Function;
 @Component
 @ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
 public class JwtUtil {
-    @Value("${jwt.secret}")
-    private String secretKey;
-    @Value("${jwt.expiration.ms}")
-    private long jwtExpiration;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    private final JwtAuthMetrics metrics;
+
+    @Autowired
+    public JwtUtil(JwtKeyRing keyRing, @Value("${jwt.expiration.ms}") long jwtExpiration, JwtAuthMetrics metrics) {
+        this.keyRing = keyRing;
+        this.jwtExpiration = jwtExpiration;
+        this.metrics = metrics;
+        // JwtParser é imutável e thread-safe; a chave é resolvida por kid a cada parse
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+    }
+
+    JwtUtil(JwtKeyRing keyRing, long jwtExpiration) {
+        this(keyRing, jwtExpiration, new JwtAuthMetrics(new SimpleMeterRegistry()));
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -30,21 +47,21 @@ public class JwtUtil {
     public String extractPessoaId(String token) {
         String pessoaId = extractClaim(token, claims -> claims.get("pessoaId", String.class));
         if (pessoaId == null || pessoaId.trim().isEmpty())
-            throw new IllegalArgumentException("Token JWT não contém claim 'pessoaId'");
+            throw new MissingClaimException("pessoaId");
         return pessoaId;
     }
 
     public String extractNumeroDocumento(String token) {
         String numeroDocumento = extractClaim(token, claims -> claims.get("numeroDocumento", String.class));
         if (numeroDocumento == null || numeroDocumento.trim().isEmpty())
-            throw new IllegalArgumentException("Token JWT não contém claim 'numeroDocumento'");
+            throw new MissingClaimException("numeroDocumento");
         return numeroDocumento;
     }
 
     public String extractTipoPessoa(String token) {
         String tipoPessoa = extractClaim(token, claims -> claims.get("tipoPessoa", String.class));
         if (tipoPessoa == null || tipoPessoa.trim().isEmpty())
-            throw new IllegalArgumentException("Token JWT não contém claim 'tipoPessoa'");
+            throw new MissingClaimException("tipoPessoa");
         return tipoPessoa;
     }
 
@@ -55,18 +72,21 @@ public class JwtUtil {
     public String extractPerfil(String token) {
         String perfil = extractClaim(token, claims -> claims.get("perfil", String.class));
         if (perfil == null || perfil.trim().isEmpty())
-            throw new IllegalArgumentException("Token JWT não contém claim 'perfil'");
+            throw new MissingClaimException("perfil");
         return perfil;
     }
 
     public JwtUserDetails extractUserDetails(String token) {
-        String username = extractUsername(token);
-        String pessoaId = extractPessoaId(token);
-        String numeroDocumento = extractNumeroDocumento(token);
-        String tipoPessoa = extractTipoPessoa(token);
-        String cargo = extractCargo(token);
-        String perfil = extractPerfil(token);
-        return JwtUserDetails.from(username, pessoaId, numeroDocumento, tipoPessoa, cargo, perfil);
+        return JwtUserDetails.from(parseToken(token));
+    }
+
+    /**
+     * Verifica a assinatura do token uma única vez e devolve o snapshot
+     * imutável das claims, evitando um novo parse para cada claim lida.
+     */
+    public JwtClaims parseToken(String token) {
+        Claims claims = metrics.recordVerification(() -> extractAllClaims(token));
+        return metrics.recordClaimsExtraction(() -> JwtClaims.from(claims));
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -79,31 +99,25 @@ public class JwtUtil {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return Jwts.builder().setClaims(extraClaims).setSubject(userDetails.getUsername())
+        JwtBuilder builder = Jwts.builder().setClaims(extraClaims).setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256).compact();
+                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration));
+        if (keyRing.activeKid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyRing.activeKid());
+        }
+        return builder.signWith(keyRing.signingKey(), SignatureAlgorithm.HS256).compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        return claims.subject() != null && claims.subject().equals(userDetails.getUsername())
+                && !claims.isExpired(Instant.now());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSignInKey()).build().parseClaimsJws(token).getBody();
-    }
-
-    private Key getSignInKey() {
-        byte[] decodedKey = java.util.Base64.getDecoder().decode(secretKey);
-        return Keys.hmacShaKeyFor(decodedKey);
+        return parser.parseClaimsJws(token).getBody();
     }
 }
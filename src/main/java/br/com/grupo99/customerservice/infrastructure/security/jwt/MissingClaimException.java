@@ -0,0 +1,17 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+/**
+ * Token com assinatura válida, mas sem uma claim obrigatória.
+ */
+public class MissingClaimException extends IllegalArgumentException {
+    private final String claim;
+
+    public MissingClaimException(String claim) {
+        super("Token JWT não contém claim '" + claim + "'");
+        this.claim = claim;
+    }
+
+    public String getClaim() {
+        return claim;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+/**
+ * Token que já falhou na verificação há pouco e foi recusado direto pelo
+ * cache negativo, sem nova verificação. Não carrega stack trace.
+ */
+public class RejectedTokenException extends RuntimeException {
+    private final JwtAuthMetrics.Reason reason;
+
+    public RejectedTokenException(JwtAuthMetrics.Reason reason) {
+        super("Token JWT rejeitado recentemente (" + reason.tag() + ")", null, false, false);
+        this.reason = reason;
+    }
+
+    public JwtAuthMetrics.Reason getReason() {
+        return reason;
+    }
+}
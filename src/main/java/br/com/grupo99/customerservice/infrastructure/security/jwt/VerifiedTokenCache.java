@@ -0,0 +1,174 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Cache em memória de tokens JWT já verificados.
+ * A chave é o SHA-256 do token (o token em si nunca fica retido) e cada
+ * entrada expira no {@code exp} do próprio token. O tamanho é limitado e as
+ * estatísticas são publicadas no Micrometer como {@code cache.*{cache=jwt.verified-tokens}}.
+ */
+@Component
+@ConditionalOnProperty(name = "security.disabled", havingValue = "false", matchIfMissing = true)
+public class VerifiedTokenCache {
+    static final String CACHE_NAME = "jwt.verified-tokens";
+    static final String REJECTED_CACHE_NAME = "jwt.rejected-tokens";
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+    private final Cache<String, JwtAuthMetrics.Reason> rejected;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.rejected-ttl-ms:10000}") long rejectedTtlMs, MeterRegistry meterRegistry) {
+        this(enabled, maxSize, rejectedTtlMs, meterRegistry, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(boolean enabled, long maxSize, long rejectedTtlMs, MeterRegistry meterRegistry, Clock clock,
+            Ticker ticker) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiration(clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(rejectedTtlMs))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, rejected, REJECTED_CACHE_NAME);
+    }
+
+    /**
+     * Devolve o token verificado do cache ou delega ao {@code verifier}
+     * (que valida a assinatura) e guarda o resultado até o {@code exp}.
+     * Tokens que falharam na verificação ficam num cache negativo por
+     * {@code jwt.cache.rejected-ttl-ms}; nesse período são recusados com
+     * {@link RejectedTokenException} sem nova verificação.
+     */
+    public VerifiedToken get(String token, Function<String, JwtClaims> verifier) {
+        if (!enabled) {
+            return verify(token, verifier);
+        }
+        String key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        JwtAuthMetrics.Reason rejectedReason = rejected.getIfPresent(key);
+        if (rejectedReason != null) {
+            throw new RejectedTokenException(rejectedReason);
+        }
+        VerifiedToken verified;
+        try {
+            verified = verify(token, verifier);
+        } catch (RuntimeException e) {
+            JwtAuthMetrics.Reason reason = JwtAuthMetrics.Reason.of(e);
+            // falhas inesperadas podem ser transitórias e não são memorizadas
+            if (reason != JwtAuthMetrics.Reason.OTHER) {
+                rejected.put(key, reason);
+            }
+            throw e;
+        }
+        if (verified.claims().expiration() != null) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        rejected.invalidateAll();
+    }
+
+    @EventListener
+    public void onKeysRevoked(JwtKeyRing.KeysRevokedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onKeysAdded(JwtKeyRing.KeysAddedEvent event) {
+        rejected.invalidateAll();
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    long estimatedRejectedSize() {
+        rejected.cleanUp();
+        return rejected.estimatedSize();
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+
+    private VerifiedToken verify(String token, Function<String, JwtClaims> verifier) {
+        JwtClaims claims = verifier.apply(token);
+        return new VerifiedToken(claims, JwtUserDetails.from(claims));
+    }
+
+    /**
+     * Resultado da verificação: snapshot das claims e o principal já montado.
+     */
+    public record VerifiedToken(JwtClaims claims, JwtUserDetails userDetails) {
+        public VerifiedToken {
+            Objects.requireNonNull(claims, "Claims não podem ser nulas");
+            Objects.requireNonNull(userDetails, "UserDetails não pode ser nulo");
+        }
+    }
+
+    private static final class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+        private final Clock clock;
+
+        private ExpireAtTokenExpiration(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0L, Duration.between(clock.instant(), value.claims().expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+-- Schema existente antes do Flyway (gerado até então pelo Hibernate).
+-- Bancos que já têm as tabelas entram com baseline nesta versão.
+
+CREATE TABLE clientes (
+    pessoa_id  UUID         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT clientes_pkey PRIMARY KEY (pessoa_id)
+);
+
+CREATE INDEX idx_pessoa_id ON clientes (pessoa_id);
+
+CREATE TABLE veiculos (
+    id         UUID        NOT NULL,
+    placa      VARCHAR(8)  NOT NULL,
+    renavam    VARCHAR(11),
+    marca      VARCHAR(50) NOT NULL,
+    modelo     VARCHAR(50) NOT NULL,
+    ano        INTEGER     NOT NULL,
+    cor        VARCHAR(50),
+    chassi     VARCHAR(20),
+    cliente_id UUID        NOT NULL,
+    CONSTRAINT veiculos_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_veiculos_placa UNIQUE (placa),
+    CONSTRAINT uk_veiculos_renavam UNIQUE (renavam),
+    CONSTRAINT fk_veiculos_cliente FOREIGN KEY (cliente_id) REFERENCES clientes (pessoa_id)
+);
@@ -0,0 +1,10 @@
+-- O PostgreSQL não indexa a coluna de uma FK: toda listagem de veículos por
+-- cliente (e a junção com clientes) fazia seq scan em veiculos.
+CREATE INDEX IF NOT EXISTS idx_veiculos_cliente_id ON veiculos (cliente_id);
+
+-- Paginação por keyset: ORDER BY created_at, pessoa_id com
+-- (created_at, pessoa_id) > (:createdAt, :pessoaId) vira um range scan.
+CREATE INDEX IF NOT EXISTS idx_clientes_created_at_pessoa_id ON clientes (created_at, pessoa_id);
+
+-- Duplicava o índice da chave primária e só custava escrita.
+DROP INDEX IF EXISTS idx_pessoa_id;
@@ -0,0 +1,5 @@
+-- Remover um cliente apaga seus veículos no próprio banco, num único DELETE,
+-- em vez de o Hibernate carregar e apagar os veículos um a um.
+ALTER TABLE veiculos DROP CONSTRAINT fk_veiculos_cliente;
+ALTER TABLE veiculos ADD CONSTRAINT fk_veiculos_cliente
+    FOREIGN KEY (cliente_id) REFERENCES clientes (pessoa_id) ON DELETE CASCADE;
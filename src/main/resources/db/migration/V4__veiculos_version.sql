@@ -0,0 +1,3 @@
+-- Versão para lock otimista: a atualização de veículo é um UPDATE condicional
+-- a ela. Linhas existentes começam na versão 0.
+ALTER TABLE veiculos ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
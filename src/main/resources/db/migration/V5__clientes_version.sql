@@ -0,0 +1,4 @@
+-- Versão do cliente e da sua lista de veículos, base das ETags de
+-- GET /clientes/{id} e /clientes/{id}/veiculos. Incrementada pela aplicação a
+-- cada escrita no cliente ou em qualquer veículo dele.
+ALTER TABLE clientes ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,18 @@
+-- Placa na forma canônica para a busca por placa (ver Placa.normalizar):
+-- maiúsculas, sem hífen nem espaços e com o padrão antigo convertido para o
+-- Mercosul (segundo dígito -> letra, 0 = A ... 9 = J).
+-- O índice não é único: linhas antigas podem ter a mesma placa gravada em
+-- formatos diferentes, o que faria a migração falhar.
+ALTER TABLE veiculos ADD COLUMN placa_normalizada VARCHAR(8);
+
+UPDATE veiculos SET placa_normalizada = UPPER(REPLACE(REPLACE(placa, '-', ''), ' ', ''));
+
+UPDATE veiculos
+SET placa_normalizada = SUBSTRING(placa_normalizada, 1, 4)
+        || TRANSLATE(SUBSTRING(placa_normalizada, 5, 1), '0123456789', 'ABCDEFGHIJ')
+        || SUBSTRING(placa_normalizada, 6)
+WHERE LENGTH(placa_normalizada) = 7;
+
+ALTER TABLE veiculos ALTER COLUMN placa_normalizada SET NOT NULL;
+
+CREATE INDEX idx_veiculos_placa_normalizada ON veiculos (placa_normalizada);
@@ -0,0 +1,7 @@
+-- Índices da pesquisa de veículos (VeiculoFiltro). renavam já tem o índice
+-- da restrição única. (marca, modelo, id) atende marca + modelo por igualdade
+-- e devolve as linhas na ordem por id da paginação, então a página sai do
+-- índice sem ordenar todos os veículos do modelo.
+CREATE INDEX idx_veiculos_marca_modelo_id ON veiculos (marca, modelo, id);
+
+CREATE INDEX idx_veiculos_chassi ON veiculos (chassi);
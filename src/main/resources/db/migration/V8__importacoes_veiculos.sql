@@ -0,0 +1,30 @@
+-- Andamento das importações de veículos por CSV. Fica no banco para que
+-- qualquer instância responda à consulta e o estado sobreviva a um restart.
+CREATE TABLE importacoes_veiculos (
+    id                 UUID         NOT NULL,
+    cliente_id         UUID         NOT NULL,
+    status             VARCHAR(20)  NOT NULL,
+    linhas_processadas BIGINT       NOT NULL,
+    importados         BIGINT       NOT NULL,
+    rejeitados         BIGINT       NOT NULL,
+    mensagem           VARCHAR(500),
+    iniciada_em        TIMESTAMP(6) NOT NULL,
+    atualizada_em      TIMESTAMP(6) NOT NULL,
+    concluida_em       TIMESTAMP(6),
+    CONSTRAINT importacoes_veiculos_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_importacoes_veiculos_cliente FOREIGN KEY (cliente_id) REFERENCES clientes (pessoa_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_importacoes_veiculos_cliente_id ON importacoes_veiculos (cliente_id);
+CREATE INDEX idx_importacoes_veiculos_status_atualizada_em ON importacoes_veiculos (status, atualizada_em);
+
+-- Erros por linha, até veiculos.importacao.max-erros por importação.
+CREATE TABLE importacoes_veiculos_erros (
+    importacao_id UUID         NOT NULL,
+    posicao       INTEGER      NOT NULL,
+    linha         BIGINT       NOT NULL,
+    placa         VARCHAR(255),
+    mensagem      VARCHAR(255) NOT NULL,
+    CONSTRAINT importacoes_veiculos_erros_pkey PRIMARY KEY (importacao_id, posicao),
+    CONSTRAINT fk_importacoes_veiculos_erros_importacao FOREIGN KEY (importacao_id) REFERENCES importacoes_veiculos (id) ON DELETE CASCADE
+);
@@ -0,0 +1,12 @@
+-- Recalcula a placa normalizada com a mesma regra de Placa.normalizar.
+-- A V6 removia só hífen e espaço, enquanto o Java remove também os outros
+-- espaços em branco ASCII (tab, quebras de linha, \v e \f): linhas antigas
+-- com esses caracteres ficavam com uma chave que a busca nunca gerava.
+-- A V6 não é alterada para não mudar o checksum de bancos já migrados.
+UPDATE veiculos SET placa_normalizada = UPPER(REGEXP_REPLACE(placa, '[- \t\n\r\f\x0B]', '', 'g'));
+
+UPDATE veiculos
+SET placa_normalizada = SUBSTRING(placa_normalizada, 1, 4)
+        || TRANSLATE(SUBSTRING(placa_normalizada, 5, 1), '0123456789', 'ABCDEFGHIJ')
+        || SUBSTRING(placa_normalizada, 6)
+WHERE LENGTH(placa_normalizada) = 7;
@@ -1,13 +1,19 @@
 package br.com.grupo99.customerservice.adapter.config;
 
 import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.exception.ConflictException;
+import br.com.grupo99.customerservice.application.exception.PayloadTooLargeException;
+import br.com.grupo99.customerservice.application.exception.PreconditionFailedException;
 import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.customerservice.application.exception.ServiceUnavailableException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,6 +54,56 @@ class GlobalExceptionHandlerTest {
         assertEquals("Erro de negócio", response.getBody().get("message"));
     }
 
+    @Test
+    @DisplayName("Deve tratar ConflictException como 409")
+    void deveTratarConflictException() {
+        ConflictException ex = new ConflictException("Versão desatualizada");
+        ResponseEntity<Map<String, Object>> response = handler.handleConflict(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(409, response.getBody().get("status"));
+        assertEquals("Conflict", response.getBody().get("error"));
+        assertEquals("Versão desatualizada", response.getBody().get("message"));
+    }
+
+    @Test
+    @DisplayName("Deve tratar PreconditionFailedException como 412")
+    void deveTratarPreconditionFailedException() {
+        PreconditionFailedException ex = new PreconditionFailedException("If-Match desatualizado");
+        ResponseEntity<Map<String, Object>> response = handler.handlePreconditionFailed(ex);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(412, response.getBody().get("status"));
+        assertEquals("Precondition Failed", response.getBody().get("error"));
+    }
+
+    @Test
+    @DisplayName("Deve tratar PayloadTooLargeException como 413")
+    void deveTratarPayloadTooLargeException() {
+        PayloadTooLargeException ex = new PayloadTooLargeException("Arquivo grande demais");
+        ResponseEntity<Map<String, Object>> response = handler.handlePayloadTooLarge(ex);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(413, response.getBody().get("status"));
+        assertEquals("Arquivo grande demais", response.getBody().get("message"));
+    }
+
+    @Test
+    @DisplayName("Deve tratar ServiceUnavailableException como 503 com Retry-After")
+    void deveTratarServiceUnavailableException() {
+        ServiceUnavailableException ex = new ServiceUnavailableException("Fila cheia", Duration.ofSeconds(30));
+        ResponseEntity<Map<String, Object>> response = handler.handleServiceUnavailable(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("30", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals(503, response.getBody().get("status"));
+        assertEquals("Service Unavailable", response.getBody().get("error"));
+    }
+
     @Test
     @DisplayName("Deve tratar Exception genérica")
     void deveTratarExceptionGenerica() {
@@ -1,7 +1,13 @@
 package br.com.grupo99.customerservice.adapter.controller;
 
+import br.com.grupo99.customerservice.application.dto.ClienteBuscaLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteRequestDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClientePageResponseDTO;
 import br.com.grupo99.customerservice.application.dto.ClienteRequestDTO;
 import br.com.grupo99.customerservice.application.dto.ClienteResponseDTO;
+import br.com.grupo99.customerservice.application.exception.PreconditionFailedException;
+import br.com.grupo99.customerservice.application.service.ClienteLoteApplicationService;
 import br.com.grupo99.customerservice.application.service.CustomerApplicationService;
 import br.com.grupo99.customerservice.config.TestConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,12 +22,21 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,6 +54,9 @@ class ClienteControllerTest {
         @MockBean
         private CustomerApplicationService customerApplicationService;
 
+        @MockBean
+        private ClienteLoteApplicationService clienteLoteApplicationService;
+
         @Autowired
         private ObjectMapper objectMapper;
 
@@ -55,7 +73,8 @@ class ClienteControllerTest {
                                 pessoaId,
                                 new ArrayList<>(),
                                 LocalDateTime.now(),
-                                LocalDateTime.now());
+                                LocalDateTime.now(),
+                                0L);
 
                 when(customerApplicationService.criarCliente(any())).thenReturn(response);
 
@@ -67,6 +86,59 @@ class ClienteControllerTest {
                                 .andExpect(jsonPath("$.pessoaId").value(pessoaId.toString()));
         }
 
+        @Test
+        @DisplayName("POST /api/v1/clientes/lote - Deve devolver o resultado de cada item")
+        @WithMockUser(username = "test", roles = "ADMIN")
+        void testCriarClientesEmLote() throws Exception {
+                // Arrange
+                UUID existente = UUID.randomUUID();
+                ClienteLoteRequestDTO request = new ClienteLoteRequestDTO(List.of(pessoaId, existente));
+
+                when(clienteLoteApplicationService.criarClientes(request))
+                                .thenReturn(new ClienteLoteResponseDTO(1, 1, List.of(
+                                                new ClienteLoteResponseDTO.Item(pessoaId, ClienteLoteResponseDTO.Status.CRIADO),
+                                                new ClienteLoteResponseDTO.Item(existente, ClienteLoteResponseDTO.Status.JA_EXISTE))));
+
+                // Act & Assert
+                mockMvc.perform(post("/api/v1/clientes/lote")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.criados").value(1))
+                                .andExpect(jsonPath("$.itens[0].status").value("CRIADO"))
+                                .andExpect(jsonPath("$.itens[1].pessoaId").value(existente.toString()))
+                                .andExpect(jsonPath("$.itens[1].status").value("JA_EXISTE"));
+        }
+
+        @Test
+        @DisplayName("POST /api/v1/clientes/lote/busca - Deve devolver um item por pessoaId pedido")
+        @WithMockUser(username = "test", roles = "MECANICO")
+        void testBuscarClientesEmLote() throws Exception {
+                // Arrange
+                UUID ausente = UUID.randomUUID();
+                ClienteLoteRequestDTO request = new ClienteLoteRequestDTO(List.of(pessoaId, ausente));
+                ClienteResponseDTO cliente = new ClienteResponseDTO(pessoaId, new ArrayList<>(), LocalDateTime.now(),
+                                LocalDateTime.now(), 0L);
+
+                when(customerApplicationService.buscarEmLote(request))
+                                .thenReturn(new ClienteBuscaLoteResponseDTO(1, 1, List.of(
+                                                new ClienteBuscaLoteResponseDTO.Item(pessoaId,
+                                                                ClienteBuscaLoteResponseDTO.Status.ENCONTRADO, cliente),
+                                                new ClienteBuscaLoteResponseDTO.Item(ausente,
+                                                                ClienteBuscaLoteResponseDTO.Status.NAO_ENCONTRADO, null))));
+
+                // Act & Assert
+                mockMvc.perform(post("/api/v1/clientes/lote/busca")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.encontrados").value(1))
+                                .andExpect(jsonPath("$.itens[0].status").value("ENCONTRADO"))
+                                .andExpect(jsonPath("$.itens[0].cliente.pessoaId").value(pessoaId.toString()))
+                                .andExpect(jsonPath("$.itens[1].pessoaId").value(ausente.toString()))
+                                .andExpect(jsonPath("$.itens[1].status").value("NAO_ENCONTRADO"));
+        }
+
         @Test
         @DisplayName("GET /api/v1/clientes/{id} - Deve buscar cliente por ID")
         @WithMockUser(username = "test", roles = "ADMIN")
@@ -76,14 +148,100 @@ class ClienteControllerTest {
                                 pessoaId,
                                 new ArrayList<>(),
                                 LocalDateTime.now(),
-                                LocalDateTime.now());
+                                LocalDateTime.now(),
+                                7L);
 
                 when(customerApplicationService.buscarPorId(pessoaId)).thenReturn(response);
 
                 // Act & Assert
                 mockMvc.perform(get("/api/v1/clientes/{id}", pessoaId))
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "\"7\""))
                                 .andExpect(jsonPath("$.pessoaId").value(pessoaId.toString()));
+                verify(customerApplicationService, never()).versaoDoCliente(any());
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/clientes/{id} - If-None-Match antigo deve usar a versão lida com o corpo")
+        @WithMockUser(username = "test", roles = "ADMIN")
+        void testBuscarClienteModificadoUsaVersaoDoCorpo() throws Exception {
+                // Arrange
+                when(customerApplicationService.versaoDoCliente(pessoaId)).thenReturn(8L);
+                when(customerApplicationService.buscarPorId(pessoaId)).thenReturn(new ClienteResponseDTO(
+                                pessoaId, new ArrayList<>(), LocalDateTime.now(), LocalDateTime.now(), 9L));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/clientes/{id}", pessoaId).header("If-None-Match", "\"7\""))
+                                .andExpect(status().isOk())
+                                .andExpect(header().stringValues("ETag", "\"9\""))
+                                .andExpect(jsonPath("$.version").value(9));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/clientes/{id} - If-None-Match atual deve responder 304 sem montar o cliente")
+        @WithMockUser(username = "test", roles = "ADMIN")
+        void testBuscarClienteNaoModificado() throws Exception {
+                // Arrange
+                when(customerApplicationService.versaoDoCliente(pessoaId)).thenReturn(7L);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/clientes/{id}", pessoaId).header("If-None-Match", "W/\"6\", \"7\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", "\"7\""))
+                                .andExpect(content().string(""));
+                verify(customerApplicationService, never()).buscarPorId(any());
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/clientes - Deve listar clientes paginados")
+        @WithMockUser(username = "test", roles = "ADMIN")
+        void testListarClientesPaginados() throws Exception {
+                // Arrange
+                ClienteResponseDTO cliente = new ClienteResponseDTO(
+                                pessoaId,
+                                new ArrayList<>(),
+                                LocalDateTime.now(),
+                                LocalDateTime.now(),
+                                0L);
+
+                when(customerApplicationService.listarPagina("abc", 10))
+                                .thenReturn(new ClientePageResponseDTO(List.of(cliente), "def"));
+
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/clientes").param("cursor", "abc").param("limit", "10"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].pessoaId").value(pessoaId.toString()))
+                                .andExpect(jsonPath("$.nextCursor").value("def"));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/clientes/export - Deve exportar clientes em NDJSON")
+        @WithMockUser(username = "test", roles = "ADMIN")
+        void testExportarClientesNdjson() throws Exception {
+                // Arrange
+                UUID outroId = UUID.randomUUID();
+                doAnswer(invocation -> {
+                        Consumer<ClienteResponseDTO> consumer = invocation.getArgument(0);
+                        consumer.accept(new ClienteResponseDTO(pessoaId, new ArrayList<>(), null, null, 0L));
+                        consumer.accept(new ClienteResponseDTO(outroId, new ArrayList<>(), null, null, 0L));
+                        return null;
+                }).when(customerApplicationService).exportarTodos(any());
+
+                // Act
+                MvcResult result = mockMvc.perform(get("/api/v1/clientes/export"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                // Assert
+                String body = mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType("application/x-ndjson"))
+                                .andReturn().getResponse().getContentAsString();
+                String[] linhas = body.split("\n");
+                assertEquals(2, linhas.length);
+                assertEquals(pessoaId.toString(), objectMapper.readTree(linhas[0]).get("pessoaId").asText());
+                assertEquals(outroId.toString(), objectMapper.readTree(linhas[1]).get("pessoaId").asText());
+                assertTrue(body.endsWith("\n"));
         }
 
         @Test
@@ -93,5 +251,21 @@ class ClienteControllerTest {
                 // Act & Assert
                 mockMvc.perform(delete("/api/v1/clientes/{id}", pessoaId))
                                 .andExpect(status().isNoContent());
+                verify(customerApplicationService).deletarCliente(pessoaId, null);
+        }
+
+        @Test
+        @DisplayName("DELETE /api/v1/clientes/{id} - If-Match desatualizado deve responder 412")
+        @WithMockUser(username = "test", roles = "ADMIN")
+        void testDeletarClienteComIfMatch() throws Exception {
+                // Arrange
+                doThrow(new PreconditionFailedException("Cliente não está na versão 3"))
+                                .when(customerApplicationService).deletarCliente(pessoaId, 3L);
+
+                // Act & Assert
+                mockMvc.perform(delete("/api/v1/clientes/{id}", pessoaId).header("If-Match", "\"3\""))
+                                .andExpect(status().isPreconditionFailed());
+                mockMvc.perform(delete("/api/v1/clientes/{id}", pessoaId).header("If-Match", "W/\"3\""))
+                                .andExpect(status().isPreconditionFailed());
         }
 }
@@ -1,8 +1,11 @@
 package br.com.grupo99.customerservice.adapter.controller;
 
+import br.com.grupo99.customerservice.application.dto.ImportacaoVeiculosResponseDTO;
 import br.com.grupo99.customerservice.application.dto.VeiculoRequestDTO;
 import br.com.grupo99.customerservice.application.dto.VeiculoResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculosDoClienteDTO;
 import br.com.grupo99.customerservice.application.service.VeiculoApplicationService;
+import br.com.grupo99.customerservice.application.service.VeiculoImportacaoService;
 import br.com.grupo99.customerservice.config.TestConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -17,11 +20,14 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,12 +45,36 @@ class VeiculoControllerTest {
     @MockBean
     private VeiculoApplicationService veiculoApplicationService;
 
+    @MockBean
+    private VeiculoImportacaoService veiculoImportacaoService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private UUID pessoaId = UUID.randomUUID();
     private UUID veiculoId = UUID.randomUUID();
 
+    @Test
+    @DisplayName("POST /api/v1/clientes/{pessoaId}/veiculos/importacoes - Deve aceitar o CSV e apontar o andamento")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testImportarVeiculos() throws Exception {
+        // Arrange
+        UUID importacaoId = UUID.randomUUID();
+        ImportacaoVeiculosResponseDTO response = new ImportacaoVeiculosResponseDTO(importacaoId, pessoaId,
+                ImportacaoVeiculosResponseDTO.Status.EM_ANDAMENTO, 0, 0, 0, List.of(), false, null,
+                LocalDateTime.now(), null);
+        when(veiculoImportacaoService.iniciar(eq(pessoaId), any())).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/clientes/{pessoaId}/veiculos/importacoes", pessoaId)
+                .contentType("text/csv")
+                .content("placa,marca,modelo,ano\nABC1234,Fiat,Uno,2010\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location",
+                        "http://localhost/api/v1/clientes/" + pessoaId + "/veiculos/importacoes/" + importacaoId))
+                .andExpect(jsonPath("$.status").value("EM_ANDAMENTO"));
+    }
+
     @Test
     @DisplayName("POST /api/v1/clientes/{pessoaId}/veiculos - Deve criar veículo com sucesso")
     @WithMockUser(username = "test", roles = "ADMIN")
@@ -57,7 +87,8 @@ class VeiculoControllerTest {
                 2023,
                 "12345678901234",
                 "Preto",
-                "ABCD1234EFGH5678");
+                "ABCD1234EFGH5678",
+                null);
 
         VeiculoResponseDTO response = new VeiculoResponseDTO(
                 veiculoId,
@@ -67,7 +98,8 @@ class VeiculoControllerTest {
                 "Corolla",
                 2023,
                 "Preto",
-                "ABCD1234EFGH5678");
+                "ABCD1234EFGH5678",
+                0L);
 
         when(veiculoApplicationService.criarVeiculo(eq(pessoaId), any())).thenReturn(response);
 
@@ -86,11 +118,62 @@ class VeiculoControllerTest {
     void testListarVeiculosDoCliente() throws Exception {
         // Arrange
         when(veiculoApplicationService.listarVeiculosDoCliente(pessoaId))
-                .thenReturn(new ArrayList<>());
+                .thenReturn(new VeiculosDoClienteDTO(4L, List.of()));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/clientes/{pessoaId}/veiculos", pessoaId))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$").isArray());
+        verify(veiculoApplicationService, never()).versaoDosVeiculosDoCliente(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/clientes/{pessoaId}/veiculos - If-None-Match atual deve responder 304 sem listar")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testListarVeiculosNaoModificados() throws Exception {
+        // Arrange
+        when(veiculoApplicationService.versaoDosVeiculosDoCliente(pessoaId)).thenReturn(4L);
+        when(veiculoApplicationService.listarVeiculosDoCliente(pessoaId))
+                .thenReturn(new VeiculosDoClienteDTO(5L, List.of()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/clientes/{pessoaId}/veiculos", pessoaId).header("If-None-Match", "\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"4\""));
+        // A lista mudou entre a consulta da versão e a leitura: vale a versão lida com ela
+        mockMvc.perform(get("/api/v1/clientes/{pessoaId}/veiculos", pessoaId).header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", "\"5\""));
+        verify(veiculoApplicationService).listarVeiculosDoCliente(pessoaId);
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/clientes/{pessoaId}/veiculos/{veiculoId} - If-Match deve virar a versão esperada")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testAtualizarVeiculoComIfMatch() throws Exception {
+        // Arrange
+        VeiculoRequestDTO request = new VeiculoRequestDTO("ABC1234", "Toyota", "Corolla", 2023, null, null, null,
+                null);
+        VeiculoResponseDTO response = new VeiculoResponseDTO(veiculoId, "ABC1234", null, "Toyota", "Corolla", 2023,
+                null, null, 6L);
+        when(veiculoApplicationService.atualizarVeiculo(eq(pessoaId), eq(veiculoId), any(), eq(5L)))
+                .thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/v1/clientes/{pessoaId}/veiculos/{veiculoId}", pessoaId, veiculoId)
+                .header("If-Match", "\"5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"6\""));
+
+        mockMvc.perform(put("/api/v1/clientes/{pessoaId}/veiculos/{veiculoId}", pessoaId, veiculoId)
+                .header("If-Match", "\"abc\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+        verify(veiculoApplicationService, never()).atualizarVeiculo(any(), any(), any(), eq(null));
     }
 
     @Test
@@ -106,14 +189,32 @@ class VeiculoControllerTest {
                 "Corolla",
                 2023,
                 "Preto",
-                "ABCD1234EFGH5678");
+                "ABCD1234EFGH5678",
+                2L);
 
         when(veiculoApplicationService.buscarPorId(veiculoId)).thenReturn(response);
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/clientes/{pessoaId}/veiculos/{veiculoId}", pessoaId, veiculoId))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
                 .andExpect(jsonPath("$.placa").value("ABC1234"));
+        verify(veiculoApplicationService, never()).versaoDoVeiculo(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/clientes/{pessoaId}/veiculos/{veiculoId} - If-None-Match atual deve responder 304 sem ler o veículo")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testBuscarVeiculoNaoModificado() throws Exception {
+        // Arrange
+        when(veiculoApplicationService.versaoDoVeiculo(veiculoId)).thenReturn(2L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/clientes/{pessoaId}/veiculos/{veiculoId}", pessoaId, veiculoId)
+                .header("If-None-Match", "*"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""));
+        verify(veiculoApplicationService, never()).buscarPorId(any());
     }
 
     @Test
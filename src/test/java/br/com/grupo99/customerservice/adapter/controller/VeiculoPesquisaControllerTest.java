@@ -0,0 +1,78 @@
+package br.com.grupo99.customerservice.adapter.controller;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoComClienteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoFiltroDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoPageResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoResponseDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.service.VeiculoPesquisaApplicationService;
+import br.com.grupo99.customerservice.config.TestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@DisplayName("VeiculoPesquisaController Tests")
+class VeiculoPesquisaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VeiculoPesquisaApplicationService veiculoPesquisaApplicationService;
+
+    @Test
+    @DisplayName("GET /api/v1/veiculos - Deve ler os filtros da query e devolver a página")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testPesquisar() throws Exception {
+        UUID pessoaId = UUID.randomUUID();
+        VeiculoResponseDTO veiculo = new VeiculoResponseDTO(UUID.randomUUID(), "ABC1234", null, "Fiat", "Uno", 2015,
+                "Prata", null, 0L);
+        when(veiculoPesquisaApplicationService.pesquisar(
+                new VeiculoFiltroDTO("Fiat", "Uno", 2010, null, "Prata", null, null), "abc", 10))
+                .thenReturn(new VeiculoPageResponseDTO(List.of(new VeiculoComClienteResponseDTO(pessoaId, veiculo)),
+                        "def"));
+
+        mockMvc.perform(get("/api/v1/veiculos")
+                .param("marca", "Fiat")
+                .param("modelo", "Uno")
+                .param("anoMin", "2010")
+                .param("cor", "Prata")
+                .param("cursor", "abc")
+                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].clientePessoaId").value(pessoaId.toString()))
+                .andExpect(jsonPath("$.items[0].veiculo.placa").value("ABC1234"))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/veiculos - Deve responder 400 para filtro sem índice")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testPesquisarSemIndice() throws Exception {
+        when(veiculoPesquisaApplicationService.pesquisar(any(), isNull(), isNull()))
+                .thenThrow(new BusinessException("Informe renavam, chassi ou marca e modelo para pesquisar veículos"));
+
+        mockMvc.perform(get("/api/v1/veiculos").param("cor", "Prata"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.grupo99.customerservice.adapter.controller;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoBuscaPlacasResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoComClienteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoPlacasRequestDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoResponseDTO;
+import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.customerservice.application.service.VeiculoPlacaApplicationService;
+import br.com.grupo99.customerservice.config.TestConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@DisplayName("VeiculoPlacaController Tests")
+class VeiculoPlacaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VeiculoPlacaApplicationService veiculoPlacaApplicationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final UUID pessoaId = UUID.randomUUID();
+    private final VeiculoResponseDTO veiculo = new VeiculoResponseDTO(UUID.randomUUID(), "ABC1234", null, "Fiat",
+            "Uno", 2015, null, null, 0L);
+
+    @Test
+    @DisplayName("GET /api/v1/veiculos/placas/{placa} - Deve devolver o veículo e o dono")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testBuscarPorPlaca() throws Exception {
+        when(veiculoPlacaApplicationService.buscarPorPlaca("abc-1234"))
+                .thenReturn(new VeiculoComClienteResponseDTO(pessoaId, veiculo));
+
+        mockMvc.perform(get("/api/v1/veiculos/placas/{placa}", "abc-1234"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientePessoaId").value(pessoaId.toString()))
+                .andExpect(jsonPath("$.veiculo.placa").value("ABC1234"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/veiculos/placas/{placa} - Deve responder 404 para placa sem veículo")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testBuscarPorPlacaInexistente() throws Exception {
+        when(veiculoPlacaApplicationService.buscarPorPlaca("ZZZ9999"))
+                .thenThrow(new ResourceNotFoundException("Veículo não encontrado com placa: ZZZ9999"));
+
+        mockMvc.perform(get("/api/v1/veiculos/placas/{placa}", "ZZZ9999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/veiculos/placas/busca - Deve devolver um item por placa pedida")
+    @WithMockUser(username = "test", roles = "ADMIN")
+    void testBuscarPorPlacas() throws Exception {
+        VeiculoPlacasRequestDTO request = new VeiculoPlacasRequestDTO(List.of("abc-1234", "ZZZ9999"));
+        when(veiculoPlacaApplicationService.buscarPorPlacas(request))
+                .thenReturn(new VeiculoBuscaPlacasResponseDTO(1, 1, List.of(
+                        new VeiculoBuscaPlacasResponseDTO.Item("abc-1234",
+                                VeiculoBuscaPlacasResponseDTO.Status.ENCONTRADO,
+                                new VeiculoComClienteResponseDTO(pessoaId, veiculo)),
+                        new VeiculoBuscaPlacasResponseDTO.Item("ZZZ9999",
+                                VeiculoBuscaPlacasResponseDTO.Status.NAO_ENCONTRADO, null))));
+
+        mockMvc.perform(post("/api/v1/veiculos/placas/busca")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.encontrados").value(1))
+                .andExpect(jsonPath("$.itens[0].resultado.veiculo.id").value(veiculo.id().toString()))
+                .andExpect(jsonPath("$.itens[1].placa").value("ZZZ9999"))
+                .andExpect(jsonPath("$.itens[1].status").value("NAO_ENCONTRADO"));
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CacheInvalidationBus Tests")
+class CacheInvalidationBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadCache readCache;
+    private JdbcTemplate jdbcTemplate;
+    private Connection connection;
+    private Statement statement;
+    private PGConnection pgConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        readCache = new ReadCache(true, 100, 60000, meterRegistry);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        pgConnection = mock(PGConnection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar localmente e publicar a chave na transação corrente")
+    void devePublicar() {
+        CacheInvalidationBus bus = bus(() -> connection);
+        UUID pessoaId = UUID.randomUUID();
+        UUID veiculoId = UUID.randomUUID();
+        readCache.clientes().put(pessoaId, clienteView(pessoaId));
+
+        bus.evictCliente(pessoaId);
+        bus.evictVeiculo(veiculoId, pessoaId);
+        bus.evictVeiculo(null, pessoaId);
+
+        assertNull(readCache.clientes().getIfPresent(pessoaId));
+        verify(jdbcTemplate).queryForObject("SELECT pg_notify(?, ?)", String.class, CacheInvalidationBus.CHANNEL,
+                bus.origem() + "|C:" + pessoaId);
+        verify(jdbcTemplate).queryForObject("SELECT pg_notify(?, ?)", String.class, CacheInvalidationBus.CHANNEL,
+                bus.origem() + "|V:" + pessoaId + ":" + veiculoId);
+        verify(jdbcTemplate).queryForObject("SELECT pg_notify(?, ?)", String.class, CacheInvalidationBus.CHANNEL,
+                bus.origem() + "|V:" + pessoaId);
+        assertEquals(3.0, meterRegistry.get(CacheInvalidationBus.PUBLICADAS).counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar notificações de outras instâncias e ignorar as próprias e as inválidas")
+    void deveReceber() {
+        CacheInvalidationBus bus = bus(() -> connection);
+        UUID pessoaId = UUID.randomUUID();
+        UUID outroPessoaId = UUID.randomUUID();
+        VeiculoView veiculo = veiculoView(UUID.randomUUID(), outroPessoaId);
+        readCache.clientes().put(pessoaId, clienteView(pessoaId));
+        readCache.putVeiculo(veiculo);
+        readCache.veiculosPorCliente().put(outroPessoaId, List.of(veiculo));
+
+        bus.receber(bus.origem() + "|C:" + pessoaId);
+        assertNotNull(readCache.clientes().getIfPresent(pessoaId));
+
+        bus.receber("outra|C:" + pessoaId);
+        bus.receber("outra|V:" + outroPessoaId + ":" + veiculo.id());
+        bus.receber("outra|X:" + pessoaId);
+        bus.receber("outra|C:nao-e-uuid");
+        bus.receber("sem-separador");
+
+        assertNull(readCache.clientes().getIfPresent(pessoaId));
+        assertNull(readCache.veiculos().getIfPresent(veiculo.id()));
+        assertNull(readCache.veiculosPorCliente().getIfPresent(outroPessoaId));
+        assertEquals(2.0, meterRegistry.get(CacheInvalidationBus.RECEBIDAS).counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve assinar o canal, esvaziar e retomar o cache e aplicar as notificações")
+    void deveEscutar() throws SQLException {
+        CacheInvalidationBus bus = bus(() -> connection);
+        UUID pessoaId = UUID.randomUUID();
+        UUID antigo = UUID.randomUUID();
+        readCache.clientes().put(antigo, clienteView(antigo));
+        bus.iniciar();
+        assertFalse(readCache.isEnabled());
+        PGNotification notificacao = mock(PGNotification.class);
+        when(notificacao.getParameter()).thenReturn("outra|C:" + pessoaId);
+        when(pgConnection.getNotifications(anyInt()))
+                .thenAnswer(invocation -> {
+                    readCache.clientes().put(pessoaId, clienteView(pessoaId));
+                    return new PGNotification[] {notificacao};
+                })
+                .thenThrow(new SQLException("conexão perdida"));
+
+        assertThrows(SQLException.class, () -> bus.escutar(connection));
+
+        verify(statement).execute("LISTEN " + CacheInvalidationBus.CHANNEL);
+        assertTrue(readCache.isEnabled());
+        assertNull(readCache.clientes().getIfPresent(antigo));
+        assertNull(readCache.clientes().getIfPresent(pessoaId));
+    }
+
+    @Test
+    @DisplayName("Deve manter o cache pausado enquanto desconectado e retomar ao reconectar")
+    void deveReconectar() throws SQLException {
+        AtomicInteger tentativas = new AtomicInteger();
+        AtomicReference<CacheInvalidationBus> ref = new AtomicReference<>();
+        CacheInvalidationBus bus = bus(() -> {
+            assertFalse(readCache.isEnabled());
+            if (tentativas.incrementAndGet() == 1) {
+                throw new SQLException("banco fora");
+            }
+            return connection;
+        });
+        ref.set(bus);
+        when(pgConnection.getNotifications(anyInt())).thenAnswer(invocation -> {
+            // já reconectado: encerra o laço
+            assertTrue(readCache.isEnabled());
+            ref.get().stop();
+            return null;
+        });
+
+        bus.iniciar();
+        bus.run();
+
+        assertEquals(2, tentativas.get());
+        assertEquals(1.0, meterRegistry.get(CacheInvalidationBus.RECONEXOES).counter().count());
+        verify(connection, atLeastOnce()).close();
+    }
+
+    private CacheInvalidationBus bus(CacheInvalidationBus.ListenConnectionFactory factory) {
+        return new CacheInvalidationBus(readCache, jdbcTemplate, factory, meterRegistry, 1, 60000, 10);
+    }
+
+    private static ClienteView clienteView(UUID pessoaId) {
+        LocalDateTime agora = LocalDateTime.now();
+        return new ClienteView(pessoaId, agora, agora, 0L);
+    }
+
+    private static VeiculoView veiculoView(UUID id, UUID clientePessoaId) {
+        return new VeiculoView(id, clientePessoaId, "ABC1234", null, "Fiat", "Uno", 2015, null, null, 0L);
+    }
+}
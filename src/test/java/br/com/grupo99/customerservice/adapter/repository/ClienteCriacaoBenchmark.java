@@ -0,0 +1,109 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.CustomerServiceApplication;
+import br.com.grupo99.customerservice.application.dto.ClienteRequestDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteResponseDTO;
+import br.com.grupo99.customerservice.application.service.CustomerApplicationService;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criação de um cliente: checagem prévia + merge (caminho original, com o
+ * SELECT do merge), checagem prévia + persist, e o INSERT ... ON CONFLICT
+ * usado por {@link CustomerApplicationService#criarCliente}. Ao fim de cada
+ * benchmark imprime os statements SQL por operação, que é o que pesa contra um
+ * PostgreSQL remoto; a latência medida aqui é do H2 em memória (perfil "test").
+ *
+ * Execução: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=br.com.grupo99.customerservice.adapter.repository.ClienteCriacaoBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClienteCriacaoBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ClienteRepository clienteRepository;
+    private CustomerApplicationService service;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private long operacoes;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CustomerServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.br.com.grupo99.customerservice=WARN")
+                .run();
+        clienteRepository = context.getBean(ClienteRepository.class);
+        service = context.getBean(CustomerApplicationService.class);
+        entityManager = context.getBean(EntityManager.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%nstatements por operação: %.2f%n",
+                (double) statistics.getPrepareStatementCount() / operacoes);
+        context.close();
+    }
+
+    @Benchmark
+    public Cliente existsMaisMerge() {
+        operacoes++;
+        return transaction.execute(status -> {
+            UUID pessoaId = UUID.randomUUID();
+            if (clienteRepository.existsByPessoaId(pessoaId)) {
+                throw new IllegalStateException();
+            }
+            return entityManager.merge(new Cliente(pessoaId));
+        });
+    }
+
+    @Benchmark
+    public Cliente existsMaisPersist() {
+        operacoes++;
+        return transaction.execute(status -> {
+            UUID pessoaId = UUID.randomUUID();
+            if (clienteRepository.existsByPessoaId(pessoaId)) {
+                throw new IllegalStateException();
+            }
+            return clienteRepository.save(new Cliente(pessoaId));
+        });
+    }
+
+    @Benchmark
+    public ClienteResponseDTO insertOnConflict() {
+        operacoes++;
+        return service.criarCliente(new ClienteRequestDTO(UUID.randomUUID()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ClienteCriacaoBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
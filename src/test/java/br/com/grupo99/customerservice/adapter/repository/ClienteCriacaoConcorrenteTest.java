@@ -0,0 +1,142 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.application.dto.ClienteLoteRequestDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteRequestDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.service.ClienteLoteApplicationService;
+import br.com.grupo99.customerservice.application.service.CustomerApplicationService;
+import br.com.grupo99.customerservice.config.QueryCounter;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sem a transação do teste: cada criação confirma a sua, como em produção.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ClienteRepositoryAdapter.class, VeiculoRepositoryAdapter.class, ReadCache.class, SimpleMeterRegistry.class,
+        CustomerApplicationService.class, ClienteLoteApplicationService.class})
+@ActiveProfiles("test")
+@DisplayName("Criação de Cliente e em lote - INSERT ... ON CONFLICT")
+class ClienteCriacaoConcorrenteTest {
+
+    private static final int REQUISICOES = 8;
+
+    @Autowired
+    private CustomerApplicationService service;
+
+    @Autowired
+    private ClienteLoteApplicationService loteService;
+
+    @Autowired
+    private ClienteJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void limpar() {
+        jpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Criação deve usar um único statement")
+    void criacaoDeveUsarUmStatement() {
+        UUID pessoaId = UUID.randomUUID();
+
+        new QueryCounter(entityManagerFactory).assertQueries(1,
+                () -> assertNotNull(service.criarCliente(new ClienteRequestDTO(pessoaId)).createdAt()));
+
+        Cliente salvo = jpaRepository.findById(pessoaId).orElseThrow();
+        assertNotNull(salvo.getCreatedAt());
+        assertEquals(salvo.getCreatedAt(), salvo.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Requisições concorrentes para o mesmo pessoaId devem criar um cliente e rejeitar as demais")
+    void requisicoesConcorrentesDevemCriarUmCliente() throws Exception {
+        UUID pessoaId = UUID.randomUUID();
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger criados = new AtomicInteger();
+        AtomicInteger duplicados = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(REQUISICOES);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUISICOES; i++) {
+                futures.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        service.criarCliente(new ClienteRequestDTO(pessoaId));
+                        criados.incrementAndGet();
+                    } catch (BusinessException e) {
+                        duplicados.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, criados.get());
+        assertEquals(REQUISICOES - 1, duplicados.get());
+        assertEquals(1, jpaRepository.count());
+    }
+
+    @Test
+    @DisplayName("Lotes concorrentes com os mesmos pessoaIds devem criar cada cliente uma vez, sem falhar")
+    void lotesConcorrentesDevemCriarCadaClienteUmaVez() throws Exception {
+        List<UUID> pessoaIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            pessoaIds.add(UUID.randomUUID());
+        }
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(REQUISICOES);
+        List<ClienteLoteResponseDTO> resultados = new ArrayList<>();
+        try {
+            List<Future<ClienteLoteResponseDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUISICOES; i++) {
+                futures.add(executor.submit(() -> {
+                    largada.await();
+                    return loteService.criarClientes(new ClienteLoteRequestDTO(pessoaIds));
+                }));
+            }
+            largada.countDown();
+            for (Future<ClienteLoteResponseDTO> future : futures) {
+                resultados.add(future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(pessoaIds.size(), resultados.stream().mapToInt(ClienteLoteResponseDTO::criados).sum());
+        assertEquals(pessoaIds.size(), jpaRepository.count());
+    }
+}
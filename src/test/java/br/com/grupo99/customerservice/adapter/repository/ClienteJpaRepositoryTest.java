@@ -0,0 +1,124 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.ClienteKeyset;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ClienteRepositoryAdapter.class)
+@ActiveProfiles("test")
+@DisplayName("ClienteJpaRepository Tests")
+class ClienteJpaRepositoryTest {
+
+    @Autowired
+    private ClienteRepositoryAdapter adapter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Paginação por keyset deve percorrer todos os clientes sem repetir nem pular")
+    void devePercorrerTodosOsClientesPorKeyset() {
+        List<Cliente> salvos = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            salvos.add(entityManager.persist(new Cliente(UUID.randomUUID())));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> percorridos = new ArrayList<>();
+        ClienteKeyset posicao = null;
+        List<Cliente> pagina;
+        do {
+            pagina = adapter.findPage(posicao, 3);
+            pagina.forEach(cliente -> percorridos.add(cliente.getPessoaId()));
+            if (!pagina.isEmpty()) {
+                Cliente ultimo = pagina.get(pagina.size() - 1);
+                posicao = new ClienteKeyset(ultimo.getCreatedAt(), ultimo.getPessoaId());
+            }
+        } while (pagina.size() == 3);
+
+        assertEquals(salvos.size(), percorridos.size());
+        assertEquals(salvos.stream().map(Cliente::getPessoaId).collect(Collectors.toSet()),
+                Set.copyOf(percorridos));
+    }
+
+    @Test
+    @DisplayName("Exportação deve entregar clientes com veículos carregados e desanexá-los depois")
+    void deveExportarClientesComVeiculos() {
+        for (int i = 0; i < 3; i++) {
+            Cliente cliente = new Cliente(UUID.randomUUID());
+            cliente.adicionarVeiculo(new Veiculo("ABC123" + i, "Fiat", "Uno", 2010));
+            entityManager.persist(cliente);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Cliente> exportados = new ArrayList<>();
+        adapter.forEach(cliente -> {
+            assertTrue(Hibernate.isInitialized(cliente.getVeiculos()));
+            exportados.add(cliente);
+        });
+
+        assertEquals(3, exportados.size());
+        exportados.forEach(cliente -> {
+            assertEquals(1, cliente.getVeiculos().size());
+            assertFalse(entityManager.getEntityManager().contains(cliente));
+        });
+    }
+
+    @Test
+    @DisplayName("Projeções devem seguir a mesma ordem das entidades sem ocupar o contexto de persistência")
+    void deveLerProjecoesSemGerenciarEntidades() {
+        for (int i = 0; i < 4; i++) {
+            entityManager.persist(new Cliente(UUID.randomUUID()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ClienteView> views = adapter.findViewPage(null, 10);
+
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+        assertEquals(adapter.findPage(null, 10).stream().map(Cliente::getPessoaId).toList(),
+                views.stream().map(ClienteView::pessoaId).toList());
+        ClienteView primeiro = views.get(0);
+        assertEquals(Optional.of(primeiro), adapter.findViewById(primeiro.pessoaId()));
+        assertEquals(views.subList(1, views.size()),
+                adapter.findViewPage(new ClienteKeyset(primeiro.createdAt(), primeiro.pessoaId()), 10));
+    }
+
+    @Test
+    @DisplayName("Veículos persistidos devem receber ids UUID v7 em ordem de inserção")
+    void veiculosDevemReceberIdsV7() {
+        Cliente cliente = new Cliente(UUID.randomUUID());
+        for (int i = 0; i < 3; i++) {
+            cliente.adicionarVeiculo(new Veiculo("V7A000" + i, "Fiat", "Uno", 2015));
+        }
+        entityManager.persist(cliente);
+        entityManager.flush();
+
+        List<UUID> ids = cliente.getVeiculos().stream().map(Veiculo::getId).toList();
+        ids.forEach(id -> assertEquals(7, id.version()));
+        assertEquals(ids.stream().sorted(Comparator.comparing(UUID::toString)).toList(), ids);
+    }
+}
@@ -0,0 +1,314 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.application.dto.ClienteBuscaLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteRequestDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClientePageResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoRequestDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoResponseDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.exception.ConflictException;
+import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.customerservice.application.service.ClienteLoteApplicationService;
+import br.com.grupo99.customerservice.application.service.CustomerApplicationService;
+import br.com.grupo99.customerservice.application.service.VeiculoApplicationService;
+import br.com.grupo99.customerservice.config.QueryCounter;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.model.Placa;
+import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoFiltro;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ClienteRepositoryAdapter.class, VeiculoRepositoryAdapter.class, ReadCache.class,
+        CachingClienteReadRepository.class, CachingVeiculoReadRepository.class, CustomerApplicationService.class,
+        ClienteLoteApplicationService.class, VeiculoApplicationService.class, SimpleMeterRegistry.class})
+@ActiveProfiles("test")
+@DisplayName("Plano de busca de Cliente - contagem de consultas")
+class ClienteQueryCountTest {
+
+    @Autowired
+    private CustomerApplicationService service;
+
+    @Autowired
+    private ClienteLoteApplicationService loteService;
+
+    @Autowired
+    private VeiculoApplicationService veiculoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private VeiculoReadRepository veiculoReadRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @ParameterizedTest(name = "{0} clientes")
+    @ValueSource(ints = {1, 5, 15})
+    @DisplayName("Listagem paginada deve usar duas consultas independente da quantidade de clientes")
+    void listagemDeveUsarDuasConsultas(int quantidade) {
+        criarClientes(quantidade, 2);
+
+        List<ClienteResponseDTO> itens = new ArrayList<>();
+        queryCounter.assertQueries(2, () -> {
+            ClientePageResponseDTO pagina = service.listarPagina(null, 20);
+            itens.addAll(pagina.items());
+        });
+
+        assertEquals(quantidade, itens.size());
+        itens.forEach(item -> assertEquals(2, item.veiculos().size()));
+    }
+
+    @Test
+    @DisplayName("Detalhe do cliente deve vir numa consulta, com a versão lida junto com os veículos")
+    void detalheDeveUsarUmaConsulta() {
+        List<UUID> pessoaIds = criarClientes(2, 3);
+        UUID semVeiculos = criarClientes(1, 0).get(0);
+        long versao = clienteRepository.findVersion(pessoaIds.get(0)).orElseThrow();
+
+        List<ClienteResponseDTO> detalhes = new ArrayList<>();
+        queryCounter.assertQueries(1, () -> detalhes.add(service.buscarPorId(pessoaIds.get(0))));
+        queryCounter.assertQueries(1, () -> detalhes.add(service.buscarPorId(semVeiculos)));
+
+        assertEquals(3, detalhes.get(0).veiculos().size());
+        detalhes.get(0).veiculos().forEach(veiculo -> assertNotNull(veiculo.version()));
+        assertEquals(versao, detalhes.get(0).version());
+        assertTrue(detalhes.get(1).veiculos().isEmpty());
+        assertEquals(semVeiculos, detalhes.get(1).pessoaId());
+    }
+
+    @Test
+    @DisplayName("Busca em lote deve usar duas consultas e devolver os itens na ordem pedida")
+    void buscaEmLoteDeveUsarDuasConsultas() {
+        List<UUID> existentes = criarClientes(30, 2);
+        List<UUID> pessoaIds = new ArrayList<>(existentes);
+        Collections.reverse(pessoaIds);
+        UUID ausente = UUID.randomUUID();
+        pessoaIds.add(5, ausente);
+        pessoaIds.add(existentes.get(0));
+
+        List<ClienteBuscaLoteResponseDTO> resultado = new ArrayList<>();
+        queryCounter.assertQueries(2,
+                () -> resultado.add(service.buscarEmLote(new ClienteLoteRequestDTO(pessoaIds))));
+
+        List<ClienteBuscaLoteResponseDTO.Item> itens = resultado.get(0).itens();
+        assertEquals(pessoaIds, itens.stream().map(ClienteBuscaLoteResponseDTO.Item::pessoaId).toList());
+        assertEquals(31, resultado.get(0).encontrados());
+        assertEquals(ClienteBuscaLoteResponseDTO.Status.NAO_ENCONTRADO, itens.get(5).status());
+        itens.stream().filter(item -> item.cliente() != null)
+                .forEach(item -> assertEquals(2, item.cliente().veiculos().size()));
+    }
+
+    @Test
+    @DisplayName("Busca por placas deve casar formatos diferentes numa única consulta")
+    void buscaPorPlacasDeveUsarUmaConsulta() {
+        Cliente cliente = new Cliente(UUID.randomUUID());
+        cliente.adicionarVeiculo(new Veiculo("abc-1234", "Fiat", "Uno", 2015));
+        cliente.adicionarVeiculo(new Veiculo("BRA2E19", "Fiat", "Mobi", 2020));
+        entityManager.persist(cliente);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Map<String, VeiculoView>> resultado = new ArrayList<>();
+        queryCounter.assertQueries(1, () -> resultado.add(veiculoReadRepository.findViewsByPlacas(
+                List.of(Placa.normalizar("ABC1C34"), Placa.normalizar("bra 2e19"), Placa.normalizar("ZZZ0000")))));
+
+        assertEquals(Set.of("ABC1C34", "BRA2E19"), resultado.get(0).keySet());
+        assertEquals("abc-1234", resultado.get(0).get("ABC1C34").placa());
+    }
+
+    @Test
+    @DisplayName("Pesquisa de veículos deve filtrar no banco e paginar por ID, uma consulta por página")
+    void pesquisaDeVeiculosDeveUsarUmaConsultaPorPagina() {
+        Cliente cliente = new Cliente(UUID.randomUUID());
+        cliente.adicionarVeiculo(new Veiculo("AAA1111", "Fiat", "Uno", 2012));
+        cliente.adicionarVeiculo(new Veiculo("AAA2222", "Fiat", "Uno", 2016));
+        cliente.adicionarVeiculo(new Veiculo("AAA3333", "Fiat", "Uno", 2018));
+        cliente.adicionarVeiculo(new Veiculo("AAA4444", "Fiat", "Uno", 2005));
+        cliente.adicionarVeiculo(new Veiculo("AAA5555", "Fiat", "Mobi", 2016));
+        entityManager.persist(cliente);
+        entityManager.flush();
+        entityManager.clear();
+        VeiculoFiltro filtro = new VeiculoFiltro("Fiat", "Uno", 2010, 2020, null, null, null);
+
+        List<List<VeiculoView>> paginas = new ArrayList<>();
+        queryCounter.assertQueries(1, () -> paginas.add(veiculoReadRepository.findViewPage(filtro, null, 2)));
+        UUID ultimo = paginas.get(0).get(1).id();
+        queryCounter.assertQueries(1, () -> paginas.add(veiculoReadRepository.findViewPage(filtro, ultimo, 2)));
+
+        List<VeiculoView> encontrados = paginas.stream().flatMap(List::stream).toList();
+        assertEquals(List.of("AAA1111", "AAA2222", "AAA3333"),
+                encontrados.stream().map(VeiculoView::placa).sorted().toList());
+        // o H2 e o PostgreSQL ordenam UUID byte a byte, como a forma textual
+        List<String> ids = encontrados.stream().map(veiculo -> veiculo.id().toString()).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertEquals(1, paginas.get(1).size());
+        encontrados.forEach(veiculo -> assertEquals(cliente.getPessoaId(), veiculo.clientePessoaId()));
+    }
+
+    @Test
+    @DisplayName("Atualização da placa deve manter a placa normalizada")
+    void atualizacaoDeveManterPlacaNormalizada() {
+        UUID pessoaId = criarClientes(1, 1).get(0);
+        VeiculoResponseDTO veiculo = veiculoService.listarVeiculosDoCliente(pessoaId).veiculos().get(0);
+
+        veiculoService.atualizarVeiculo(pessoaId, veiculo.id(),
+                new VeiculoRequestDTO("xyz-9876", "Fiat", "Uno", 2015, null, null, null, veiculo.version()));
+        entityManager.clear();
+
+        assertEquals(veiculo.id(), veiculoReadRepository.findViewsByPlacas(List.of("XYZ9I76")).get("XYZ9I76").id());
+        assertTrue(veiculoReadRepository.findViewsByPlacas(List.of(Placa.normalizar(veiculo.placa()))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Criação em lote deve checar duplicidade por conjunto e inserir num INSERT de várias linhas")
+    void loteDeveInserirNumInsertDeVariasLinhas() {
+        List<UUID> pessoaIds = new ArrayList<>(criarClientes(5, 0));
+        for (int i = 0; i < 45; i++) {
+            pessoaIds.add(UUID.randomUUID());
+        }
+
+        // 1 SELECT ... IN para duplicidade + 1 INSERT ... ON CONFLICT DO NOTHING
+        List<ClienteLoteResponseDTO> resultado = new ArrayList<>();
+        queryCounter.assertQueries(2,
+                () -> resultado.add(loteService.criarClientes(new ClienteLoteRequestDTO(pessoaIds))));
+
+        assertEquals(45, resultado.get(0).criados());
+        assertEquals(5, resultado.get(0).ignorados());
+        assertEquals(50L, entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(c) FROM Cliente c", Long.class).getSingleResult());
+    }
+
+    @Test
+    @DisplayName("Criação em lote com pessoaId inserido depois da checagem deve refazer o bloco linha a linha")
+    void loteComConflitoDeveRefazerOBlocoLinhaALinha() {
+        UUID concorrente = criarClientes(1, 0).get(0);
+        List<Cliente> novos = List.of(new Cliente(UUID.randomUUID()), new Cliente(concorrente),
+                new Cliente(UUID.randomUUID()));
+
+        // o INSERT do bloco + um INSERT por linha depois do rollback ao savepoint
+        List<Set<UUID>> inseridos = new ArrayList<>();
+        queryCounter.assertQueries(4, () -> inseridos.add(clienteRepository.insertAllIfAbsent(novos)));
+
+        assertEquals(Set.of(novos.get(0).getPessoaId(), novos.get(2).getPessoaId()), inseridos.get(0));
+        assertNotNull(novos.get(0).getCreatedAt());
+        assertNull(novos.get(1).getCreatedAt());
+        assertEquals(3L, entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(c) FROM Cliente c", Long.class).getSingleResult());
+    }
+
+    @Test
+    @DisplayName("Remoção de cliente deve apagar cliente e veículos num único DELETE")
+    void remocaoDeClienteDeveUsarUmDelete() {
+        UUID pessoaId = criarClientes(1, 3).get(0);
+
+        // os veículos saem pelo ON DELETE CASCADE da FK
+        queryCounter.assertQueries(1, () -> service.deletarCliente(pessoaId));
+
+        assertEquals(0L, entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(v) FROM Veiculo v WHERE v.cliente.pessoaId = :pessoaId", Long.class)
+                .setParameter("pessoaId", pessoaId).getSingleResult());
+    }
+
+    @Test
+    @DisplayName("Remoção de veículo deve usar um DELETE e o incremento da versão do cliente, sem carregá-lo")
+    void remocaoDeVeiculoDeveUsarUmDelete() {
+        UUID pessoaId = criarClientes(1, 2).get(0);
+        UUID veiculoId = entityManager.getEntityManager()
+                .createQuery("SELECT v.id FROM Veiculo v WHERE v.cliente.pessoaId = :pessoaId", UUID.class)
+                .setParameter("pessoaId", pessoaId).setMaxResults(1).getSingleResult();
+
+        long versao = service.versaoDoCliente(pessoaId);
+        queryCounter.assertQueries(2, () -> veiculoService.deletarVeiculo(pessoaId, veiculoId));
+        assertEquals(versao + 1, service.versaoDoCliente(pessoaId));
+
+        // veículo de outro cliente não é apagado pela rota deste
+        UUID outro = criarClientes(1, 0).get(0);
+        assertThrows(ResourceNotFoundException.class, () -> veiculoService.deletarVeiculo(outro, veiculoId));
+        assertEquals(1, service.buscarPorId(pessoaId).veiculos().size());
+    }
+
+    @Test
+    @DisplayName("Atualização de veículo deve ler a projeção e gravar com um UPDATE condicional à versão")
+    void atualizacaoDeVeiculoDeveUsarUmUpdate() {
+        UUID pessoaId = criarClientes(1, 2).get(0);
+        List<VeiculoResponseDTO> veiculos = service.buscarPorId(pessoaId).veiculos();
+        VeiculoResponseDTO veiculo = veiculos.get(0);
+        VeiculoRequestDTO alteracao = new VeiculoRequestDTO(veiculo.placa(), "Fiat", "Mobi", 2020, null, "Azul",
+                null, veiculo.version());
+
+        List<VeiculoResponseDTO> resultado = new ArrayList<>();
+        // leitura + UPDATE condicional + incremento da versão do cliente (ETag da lista)
+        queryCounter.assertQueries(3,
+                () -> resultado.add(veiculoService.atualizarVeiculo(pessoaId, veiculo.id(), alteracao)));
+        assertEquals(veiculo.version() + 1, resultado.get(0).version());
+
+        // mesmo payload com a versão nova: nada a gravar, só a leitura
+        VeiculoRequestDTO repetido = new VeiculoRequestDTO(veiculo.placa(), "Fiat", "Mobi", 2020, null, null, null,
+                resultado.get(0).version());
+        queryCounter.assertQueries(1, () -> veiculoService.atualizarVeiculo(pessoaId, veiculo.id(), repetido));
+
+        assertThrows(ConflictException.class,
+                () -> veiculoService.atualizarVeiculo(pessoaId, veiculo.id(), alteracao));
+        VeiculoRequestDTO placaDoOutro = new VeiculoRequestDTO(veiculos.get(1).placa(), "Fiat", "Mobi", 2020, null,
+                null, null, null);
+        assertThrows(BusinessException.class,
+                () -> veiculoService.atualizarVeiculo(pessoaId, veiculo.id(), placaDoOutro));
+
+        VeiculoResponseDTO gravado = service.buscarPorId(pessoaId).veiculos().stream()
+                .filter(v -> v.id().equals(veiculo.id())).findFirst().orElseThrow();
+        assertEquals("Mobi", gravado.modelo());
+        assertEquals("Azul", gravado.cor());
+        assertEquals(veiculo.version() + 1, gravado.version());
+    }
+
+    private List<UUID> criarClientes(int quantidade, int veiculosPorCliente) {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            Cliente cliente = new Cliente(UUID.randomUUID());
+            for (int v = 0; v < veiculosPorCliente; v++) {
+                cliente.adicionarVeiculo(new Veiculo(String.format("Q%02d%04d", i, v), "Fiat", "Uno", 2015));
+            }
+            ids.add(entityManager.persist(cliente).getPessoaId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.grupo99.customerservice.adapter.repository;
 
 import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.repository.ClienteKeyset;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,12 +10,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +30,9 @@ class ClienteRepositoryAdapterTest {
     @Mock
     private ClienteJpaRepository jpaRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ClienteRepositoryAdapter adapter;
 
@@ -47,7 +57,7 @@ class ClienteRepositoryAdapterTest {
     @Test
     @DisplayName("Deve buscar por pessoaId")
     void deveBuscarPorPessoaId() {
-        when(jpaRepository.findByPessoaId(pessoaId)).thenReturn(Optional.of(cliente));
+        when(jpaRepository.findWithVeiculosByPessoaId(pessoaId)).thenReturn(Optional.of(cliente));
         Optional<Cliente> result = adapter.findByPessoaId(pessoaId);
         assertTrue(result.isPresent());
         assertEquals(cliente, result.get());
@@ -63,14 +73,14 @@ class ClienteRepositoryAdapterTest {
     @Test
     @DisplayName("Deve deletar por pessoaId")
     void deveDeletarPorPessoaId() {
-        adapter.deleteByPessoaId(pessoaId);
-        verify(jpaRepository).deleteByPessoaId(pessoaId);
+        when(jpaRepository.deleteByPessoaId(pessoaId)).thenReturn(1);
+        assertTrue(adapter.deleteByPessoaId(pessoaId));
     }
 
     @Test
     @DisplayName("Deve buscar por id")
     void deveBuscarPorId() {
-        when(jpaRepository.findById(pessoaId)).thenReturn(Optional.of(cliente));
+        when(jpaRepository.findWithVeiculosByPessoaId(pessoaId)).thenReturn(Optional.of(cliente));
         Optional<Cliente> result = adapter.findById(pessoaId);
         assertTrue(result.isPresent());
     }
@@ -83,6 +93,46 @@ class ClienteRepositoryAdapterTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    @DisplayName("Deve buscar primeira página e páginas seguintes por keyset")
+    void deveBuscarPaginaPorKeyset() {
+        ClienteKeyset posicao = new ClienteKeyset(LocalDateTime.now(), pessoaId);
+        when(jpaRepository.findFirstPage(Limit.of(10))).thenReturn(List.of(cliente));
+        when(jpaRepository.findPageAfter(posicao.createdAt(), pessoaId, Limit.of(10))).thenReturn(List.of());
+
+        assertEquals(1, adapter.findPage(null, 10).size());
+        assertTrue(adapter.findPage(posicao, 10).isEmpty());
+        verify(jpaRepository, times(1)).fetchVeiculos(List.of(pessoaId));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer clientes carregando veículos por bloco e limpando o contexto")
+    void devePercorrerClientesPorBloco() {
+        Cliente outro = new Cliente(UUID.randomUUID());
+        when(jpaRepository.streamAll()).thenReturn(Stream.of(cliente, outro));
+        List<Cliente> consumidos = new ArrayList<>();
+
+        adapter.forEach(consumidos::add);
+
+        assertEquals(List.of(cliente, outro), consumidos);
+        verify(jpaRepository).fetchVeiculos(List.of(pessoaId, outro.getPessoaId()));
+        verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("Deve dividir a busca de projeções por IDs em listas IN de até BULK_CHUNK_SIZE")
+    void deveBuscarProjecoesEmBlocos() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(ClienteJpaRepository.BULK_CHUNK_SIZE * 2L + 1).toList();
+        when(jpaRepository.findViewsByPessoaIdIn(anyCollection())).thenReturn(List.of());
+
+        assertTrue(adapter.findViewsByIds(ids).isEmpty());
+
+        verify(jpaRepository).findViewsByPessoaIdIn(ids.subList(0, ClienteJpaRepository.BULK_CHUNK_SIZE));
+        verify(jpaRepository).findViewsByPessoaIdIn(
+                ids.subList(ClienteJpaRepository.BULK_CHUNK_SIZE, ClienteJpaRepository.BULK_CHUNK_SIZE * 2));
+        verify(jpaRepository).findViewsByPessoaIdIn(List.of(ids.get(ids.size() - 1)));
+    }
+
     @Test
     @DisplayName("Deve deletar por id")
     void deveDeletarPorId() {
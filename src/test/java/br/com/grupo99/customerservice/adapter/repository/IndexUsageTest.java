@@ -0,0 +1,170 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.config.SqlCaptor;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.VeiculoFiltro;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Roda {@code EXPLAIN} sobre o SQL que o Hibernate gera para as consultas
+ * dos repositórios, com o schema criado pelas migrações do Flyway.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.grupo99.customerservice.config.SqlCaptor")
+@Import(VeiculoRepositoryAdapter.class)
+@ActiveProfiles("test")
+@DisplayName("Uso de índices pelas consultas dos repositórios")
+class IndexUsageTest {
+
+    @Autowired
+    private ClienteJpaRepository clienteJpaRepository;
+
+    @Autowired
+    private VeiculoJpaRepository veiculoJpaRepository;
+
+    @Autowired
+    private VeiculoReadRepository veiculoReadRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID pessoaId;
+
+    @BeforeEach
+    void setUp() {
+        Cliente cliente = new Cliente(UUID.randomUUID());
+        cliente.adicionarVeiculo(new Veiculo("ABC1234", "Fiat", "Uno", 2015));
+        entityManager.persist(cliente);
+        entityManager.flush();
+        entityManager.clear();
+        pessoaId = cliente.getPessoaId();
+    }
+
+    @Test
+    @DisplayName("Migrações devem criar os índices de cliente_id e de ordenação da paginação")
+    void migracoesCriamIndices() {
+        assertEquals(List.of("CLIENTE_ID"), colunasDoIndice("IDX_VEICULOS_CLIENTE_ID"));
+        assertEquals(List.of("CREATED_AT", "PESSOA_ID"), colunasDoIndice("IDX_CLIENTES_CREATED_AT_PESSOA_ID"));
+        assertEquals(List.of("MARCA", "MODELO", "ID"), colunasDoIndice("IDX_VEICULOS_MARCA_MODELO_ID"));
+        assertEquals(List.of("CHASSI"), colunasDoIndice("IDX_VEICULOS_CHASSI"));
+    }
+
+    @Test
+    @DisplayName("Veículos por cliente devem buscar pelo índice de cliente_id")
+    void veiculosPorClienteUsamIndice() {
+        // O H2 cria sozinho um índice para a FK; o PostgreSQL não, e ali o
+        // índice usado é o idx_veiculos_cliente_id. Basta não varrer a tabela.
+        String plano = plano(() -> veiculoJpaRepository.findByClientePessoaId(pessoaId), pessoaId);
+        assertBuscaPorClienteId(plano);
+
+        plano = plano(() -> veiculoJpaRepository.findViewsByClientePessoaIdIn(List.of(pessoaId)), pessoaId);
+        assertBuscaPorClienteId(plano);
+    }
+
+    @Test
+    @DisplayName("Primeira página de clientes deve vir ordenada pelo índice, sem ordenação extra")
+    void primeiraPaginaUsaIndiceDeOrdenacao() {
+        assertOrdenadoPeloIndice(plano(() -> clienteJpaRepository.findFirstPage(Limit.of(20)), 20));
+        assertOrdenadoPeloIndice(plano(() -> clienteJpaRepository.findFirstViewPage(Limit.of(20)), 20));
+    }
+
+    @Test
+    @DisplayName("Páginas seguintes devem partir do keyset pelo índice, sem ordenação extra")
+    void proximasPaginasUsamIndiceDeOrdenacao() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        assertOrdenadoPeloIndice(plano(() -> clienteJpaRepository.findPageAfter(createdAt, pessoaId, Limit.of(20)),
+                createdAt, pessoaId, 20));
+        assertOrdenadoPeloIndice(plano(
+                () -> clienteJpaRepository.findViewPageAfter(createdAt, pessoaId, Limit.of(20)),
+                createdAt, pessoaId, 20));
+    }
+
+    @Test
+    @DisplayName("Pesquisa de veículos por marca e modelo deve partir do índice (marca, modelo, id)")
+    void pesquisaPorMarcaEModeloUsaIndice() {
+        // O H2 só dispensa a ordenação quando o ORDER BY é prefixo do índice;
+        // o PostgreSQL também a dispensa com marca e modelo fixados por
+        // igualdade, e lê a página direto do índice a partir do cursor.
+        VeiculoFiltro filtro = new VeiculoFiltro("Fiat", "Uno", 2010, null, "Prata", null, null);
+        UUID afterId = UUID.randomUUID();
+
+        String plano = plano(() -> veiculoReadRepository.findViewPage(filtro, null, 21),
+                "Fiat", "Uno", 2010, "Prata", 21);
+        assertEquals(Set.of("MARCA = ?1", "MODELO = ?2"), condicoesDoIndice(plano, "IDX_VEICULOS_MARCA_MODELO_ID"));
+
+        plano = plano(() -> veiculoReadRepository.findViewPage(filtro, afterId, 21),
+                "Fiat", "Uno", 2010, "Prata", afterId, 21);
+        assertEquals(Set.of("MARCA = ?1", "MODELO = ?2", "ID > ?5"),
+                condicoesDoIndice(plano, "IDX_VEICULOS_MARCA_MODELO_ID"));
+    }
+
+    @Test
+    @DisplayName("Pesquisa de veículos por chassi ou renavam deve buscar pelo índice")
+    void pesquisaPorChassiOuRenavamUsaIndice() {
+        String plano = plano(() -> veiculoReadRepository.findViewPage(
+                new VeiculoFiltro(null, null, null, null, null, null, "9BWZZZ377VT004251"), null, 21),
+                "9BWZZZ377VT004251", 21);
+        assertTrue(plano.contains("/* PUBLIC.IDX_VEICULOS_CHASSI"), plano);
+
+        plano = plano(() -> veiculoReadRepository.findViewPage(
+                new VeiculoFiltro(null, null, null, null, null, "12345678901", null), null, 21),
+                "12345678901", 21);
+        assertFalse(plano.contains("tableScan"), plano);
+    }
+
+    private String plano(Runnable consulta, Object... parametros) {
+        SqlCaptor.clear();
+        consulta.run();
+        return jdbcTemplate.queryForObject("EXPLAIN " + SqlCaptor.single(), String.class, parametros);
+    }
+
+    private List<String> colunasDoIndice(String indice) {
+        return jdbcTemplate.queryForList("SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                + "WHERE INDEX_NAME = ? ORDER BY ORDINAL_POSITION", String.class, indice);
+    }
+
+    /**
+     * Condições que o H2 resolve pelo índice, lidas do comentário com o nome
+     * do índice no plano.
+     */
+    private static Set<String> condicoesDoIndice(String plano, String indice) {
+        String inicio = "/* PUBLIC." + indice + ": ";
+        int de = plano.indexOf(inicio);
+        assertTrue(de >= 0, plano);
+        String condicoes = plano.substring(de + inicio.length(), plano.indexOf("*/", de));
+        return Arrays.stream(condicoes.split("\\s+AND\\s+")).map(String::trim).collect(Collectors.toSet());
+    }
+
+    private static void assertBuscaPorClienteId(String plano) {
+        assertFalse(plano.contains("tableScan"), plano);
+        assertTrue(plano.matches("(?s).*/\\* PUBLIC\\.\\w+: CLIENTE_ID (=|IN) .*"), plano);
+    }
+
+    private static void assertOrdenadoPeloIndice(String plano) {
+        assertTrue(plano.contains("/* PUBLIC.IDX_CLIENTES_CREATED_AT_PESSOA_ID"), plano);
+        assertTrue(plano.contains("/* index sorted */"), plano);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.model.Placa;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A migração que recalcula {@code placa_normalizada} precisa gerar a mesma
+ * chave que {@link Placa#normalizar(String)} gera na busca.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Migração da placa normalizada")
+class PlacaNormalizadaMigracaoTest {
+
+    private static final List<String> PLACAS = List.of("abc-1234", "BRA 2E19", "XYZ\t9876", "QW\r\n4321",
+            "JKL\f1C34", "MNO\0135678", "RST1U23");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("V9 deve produzir a mesma forma canônica que Placa.normalizar")
+    void migracaoDeveSeguirARegraDoJava() {
+        UUID clienteId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO clientes (pessoa_id, created_at, updated_at, version) "
+                + "VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)", clienteId);
+        for (String placa : PLACAS) {
+            jdbcTemplate.update("INSERT INTO veiculos (id, placa, placa_normalizada, marca, modelo, ano, cliente_id, "
+                    + "version) VALUES (?, ?, 'X', 'Fiat', 'Uno', 2015, ?, 0)", UUID.randomUUID(), placa, clienteId);
+        }
+
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V9__veiculos_placa_normalizada_espacos.sql")).execute(dataSource);
+
+        for (String placa : PLACAS) {
+            assertEquals(Placa.normalizar(placa), jdbcTemplate.queryForObject(
+                    "SELECT placa_normalizada FROM veiculos WHERE placa = ?", String.class, placa), placa);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.CustomerServiceApplication;
+import br.com.grupo99.customerservice.application.dto.ClienteResponseDTO;
+import br.com.grupo99.customerservice.application.service.CustomerApplicationService;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura de clientes carregando entidades gerenciadas e convertendo com
+ * {@code fromDomain} contra as projeções de {@code ClienteReadRepository} e
+ * {@code VeiculoReadRepository}, no detalhe e numa página de 20 clientes.
+ * Sobe o contexto com o perfil "test" (H2 em memória): os números isolam o
+ * custo do Hibernate, não a latência de um PostgreSQL real.
+ *
+ * Execução (alocação com {@code -prof gc}): {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=br.com.grupo99.customerservice.adapter.repository.ProjectionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    private static final int CLIENTES = 200;
+    private static final int VEICULOS_POR_CLIENTE = 3;
+    private static final int PAGINA = 20;
+
+    private ConfigurableApplicationContext context;
+    private ClienteRepository clienteRepository;
+    private CustomerApplicationService service;
+    private TransactionTemplate readOnly;
+    private UUID pessoaId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CustomerServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.properties.hibernate.generate_statistics=false",
+                        "clientes.cache.enabled=false",
+                        "logging.level.br.com.grupo99.customerservice=WARN")
+                .run();
+        clienteRepository = context.getBean(ClienteRepository.class);
+        service = context.getBean(CustomerApplicationService.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        for (int i = 0; i < CLIENTES; i++) {
+            Cliente cliente = new Cliente(UUID.randomUUID());
+            for (int v = 0; v < VEICULOS_POR_CLIENTE; v++) {
+                cliente.adicionarVeiculo(new Veiculo(String.format("B%03d%03d", i, v), "Fiat", "Uno", 2015));
+            }
+            clienteRepository.save(cliente);
+            pessoaId = cliente.getPessoaId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ClienteResponseDTO detalheEntidade() {
+        return readOnly.execute(status -> ClienteResponseDTO.fromDomain(clienteRepository.findById(pessoaId).orElseThrow()));
+    }
+
+    @Benchmark
+    public ClienteResponseDTO detalheProjecao() {
+        return service.buscarPorId(pessoaId);
+    }
+
+    @Benchmark
+    public List<ClienteResponseDTO> paginaEntidade() {
+        return readOnly.execute(status -> clienteRepository.findPage(null, PAGINA + 1).stream()
+                .limit(PAGINA)
+                .map(ClienteResponseDTO::fromDomain)
+                .toList());
+    }
+
+    @Benchmark
+    public List<ClienteResponseDTO> paginaProjecao() {
+        return service.listarPagina(null, PAGINA).items();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProjectionBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,344 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.repository.ClienteDetalheView;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import br.com.grupo99.customerservice.infrastructure.datasource.ReadYourWritesTracker;
+import br.com.grupo99.customerservice.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReadCache Tests")
+class ReadCacheTest {
+
+    private static final long TTL_MS = 60000;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private SimpleMeterRegistry meterRegistry;
+    private ClienteRepositoryAdapter clienteAdapter;
+    private VeiculoRepositoryAdapter veiculoAdapter;
+    private ReadCache readCache;
+    private CachingClienteReadRepository clientes;
+    private CachingVeiculoReadRepository veiculos;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clienteAdapter = mock(ClienteRepositoryAdapter.class);
+        veiculoAdapter = mock(VeiculoRepositoryAdapter.class);
+        usarCache(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ir ao banco apenas na primeira leitura do cliente e publicar o hit ratio")
+    void deveLerClienteDoCache() {
+        ClienteView view = clienteView(UUID.randomUUID());
+        when(clienteAdapter.findViewById(view.pessoaId())).thenReturn(Optional.of(view));
+
+        assertSame(view, clientes.findViewById(view.pessoaId()).orElseThrow());
+        assertSame(view, clientes.findViewById(view.pessoaId()).orElseThrow());
+
+        verify(clienteAdapter, times(1)).findViewById(view.pessoaId());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", ReadCache.CLIENTES)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(0.5, meterRegistry.get(ReadCache.HIT_RATIO).tag("cache", ReadCache.CLIENTES)
+                .gauge().value());
+    }
+
+    @Test
+    @DisplayName("Cliente inexistente não deve ser guardado")
+    void naoDeveGuardarAusente() {
+        UUID pessoaId = UUID.randomUUID();
+        when(clienteAdapter.findViewById(pessoaId)).thenReturn(Optional.empty());
+
+        assertTrue(clientes.findViewById(pessoaId).isEmpty());
+        assertTrue(clientes.findViewById(pessoaId).isEmpty());
+
+        verify(clienteAdapter, times(2)).findViewById(pessoaId);
+    }
+
+    @Test
+    @DisplayName("Busca em lote deve levar ao banco só os clientes ausentes do cache")
+    void buscaEmLoteDeveCarregarSoOsFaltantes() {
+        ClienteView emCache = clienteView(UUID.randomUUID());
+        ClienteView novo = clienteView(UUID.randomUUID());
+        UUID inexistente = UUID.randomUUID();
+        when(clienteAdapter.findViewById(emCache.pessoaId())).thenReturn(Optional.of(emCache));
+        when(clienteAdapter.findViewsByIds(List.of(novo.pessoaId(), inexistente))).thenReturn(List.of(novo));
+        clientes.findViewById(emCache.pessoaId());
+
+        List<ClienteView> resultado = clientes.findViewsByIds(List.of(novo.pessoaId(), emCache.pessoaId(), inexistente));
+
+        assertEquals(2, resultado.size());
+        assertTrue(resultado.containsAll(List.of(emCache, novo)));
+        assertSame(novo, readCache.clientes().getIfPresent(novo.pessoaId()));
+        assertNull(readCache.clientes().getIfPresent(inexistente));
+        verify(clienteAdapter).findViewsByIds(List.of(novo.pessoaId(), inexistente));
+    }
+
+    @Test
+    @DisplayName("Entrada deve expirar após o TTL")
+    void deveExpirarAposTtl() {
+        VeiculoView view = veiculoView(UUID.randomUUID(), UUID.randomUUID());
+        when(veiculoAdapter.findViewById(view.id())).thenReturn(Optional.of(view));
+
+        veiculos.findViewById(view.id());
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS + 1));
+        veiculos.findViewById(view.id());
+
+        verify(veiculoAdapter, times(2)).findViewById(view.id());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tamanho máximo e publicar as remoções")
+    void deveLimitarTamanho() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReadCache pequeno = new ReadCache(true, 1, TTL_MS, registry, ticker);
+
+        pequeno.clientes().put(UUID.randomUUID(), clienteView(UUID.randomUUID()));
+        pequeno.clientes().put(UUID.randomUUID(), clienteView(UUID.randomUUID()));
+        pequeno.clientes().cleanUp();
+
+        assertEquals(1, pequeno.clientes().estimatedSize());
+        assertEquals(1.0, registry.get("cache.evictions").tag("cache", ReadCache.CLIENTES)
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve carregar numa única consulta apenas os clientes que faltam no cache")
+    void deveCarregarSoOsFaltantes() {
+        UUID comVeiculo = UUID.randomUUID();
+        UUID semVeiculo = UUID.randomUUID();
+        UUID novo = UUID.randomUUID();
+        VeiculoView veiculo = veiculoView(UUID.randomUUID(), comVeiculo);
+        VeiculoView outro = veiculoView(UUID.randomUUID(), novo);
+        when(veiculoAdapter.findViewsByClientePessoaIds(List.of(comVeiculo, semVeiculo)))
+                .thenReturn(List.of(veiculo));
+        when(veiculoAdapter.findViewsByClientePessoaIds(List.of(novo))).thenReturn(List.of(outro));
+
+        assertEquals(List.of(veiculo), veiculos.findViewsByClientePessoaIds(List.of(comVeiculo, semVeiculo)));
+        assertEquals(List.of(outro, veiculo),
+                veiculos.findViewsByClientePessoaIds(List.of(novo, semVeiculo, comVeiculo)));
+
+        verify(veiculoAdapter).findViewsByClientePessoaIds(List.of(comVeiculo, semVeiculo));
+        verify(veiculoAdapter).findViewsByClientePessoaIds(List.of(novo));
+        verifyNoMoreInteractions(veiculoAdapter);
+    }
+
+    @Test
+    @DisplayName("Placa já lida deve ser resolvida pelo cache, sem ir ao banco")
+    void placaDeveVirDoCache() {
+        VeiculoView veiculo = veiculoView(UUID.randomUUID(), UUID.randomUUID());
+        when(veiculoAdapter.findViewsByPlacas(List.of("ABC1C34", "XYZ9J99")))
+                .thenReturn(Map.of("ABC1C34", veiculo));
+
+        assertEquals(Map.of("ABC1C34", veiculo), veiculos.findViewsByPlacas(List.of("ABC1C34", "XYZ9J99")));
+        assertEquals(Map.of("ABC1C34", veiculo), veiculos.findViewsByPlacas(List.of("ABC1C34")));
+
+        verify(veiculoAdapter, times(1)).findViewsByPlacas(any());
+        assertSame(veiculo, veiculos.findViewById(veiculo.id()).orElseThrow());
+        verify(veiculoAdapter, never()).findViewById(any());
+    }
+
+    @Test
+    @DisplayName("Placa de veículo alterado ou removido deve voltar ao banco")
+    void placaDeVeiculoAlteradoDeveVoltarAoBanco() {
+        UUID clientePessoaId = UUID.randomUUID();
+        VeiculoView veiculo = veiculoView(UUID.randomUUID(), clientePessoaId);
+        when(veiculoAdapter.findViewsByPlacas(List.of("ABC1C34")))
+                .thenReturn(Map.of("ABC1C34", veiculo)).thenReturn(Map.of());
+        veiculos.findViewsByPlacas(List.of("ABC1C34"));
+
+        readCache.evictVeiculo(veiculo.id(), clientePessoaId);
+
+        assertTrue(veiculos.findViewsByPlacas(List.of("ABC1C34")).isEmpty());
+        verify(veiculoAdapter, times(2)).findViewsByPlacas(List.of("ABC1C34"));
+    }
+
+    @Test
+    @DisplayName("Remoção do cliente deve invalidar o cliente, a lista e os veículos dele")
+    void evictClienteDeveRemoverVeiculos() {
+        UUID pessoaId = UUID.randomUUID();
+        ClienteView cliente = clienteView(pessoaId);
+        VeiculoView veiculo = veiculoView(UUID.randomUUID(), pessoaId);
+        VeiculoView deOutro = veiculoView(UUID.randomUUID(), UUID.randomUUID());
+        readCache.clientes().put(pessoaId, cliente);
+        readCache.veiculosPorCliente().put(pessoaId, List.of(veiculo));
+        readCache.putVeiculo(veiculo);
+        readCache.putVeiculo(deOutro);
+
+        readCache.detalhes().put(pessoaId, new ClienteDetalheView(cliente, List.of(veiculo)));
+
+        readCache.evictCliente(pessoaId);
+
+        assertNull(readCache.clientes().getIfPresent(pessoaId));
+        assertNull(readCache.detalhes().getIfPresent(pessoaId));
+        assertNull(readCache.veiculosPorCliente().getIfPresent(pessoaId));
+        assertNull(readCache.veiculos().getIfPresent(veiculo.id()));
+        assertSame(deOutro, readCache.veiculos().getIfPresent(deOutro.id()));
+    }
+
+    @Test
+    @DisplayName("Detalhe do cliente deve vir do cache e sair dele quando um veículo do cliente muda")
+    void detalheDeveSairComAlteracaoDeVeiculo() {
+        UUID pessoaId = UUID.randomUUID();
+        VeiculoView veiculo = veiculoView(UUID.randomUUID(), pessoaId);
+        ClienteDetalheView detalhe = new ClienteDetalheView(clienteView(pessoaId), List.of(veiculo));
+        when(clienteAdapter.findDetalheById(pessoaId)).thenReturn(Optional.of(detalhe));
+        assertSame(detalhe, clientes.findDetalheById(pessoaId).orElseThrow());
+        assertSame(detalhe, clientes.findDetalheById(pessoaId).orElseThrow());
+        readCache.clientes().put(pessoaId, detalhe.cliente());
+
+        readCache.evictVeiculo(veiculo.id(), pessoaId);
+
+        // a versão do cliente, que é a ETag do detalhe, muda com o veículo
+        assertNull(readCache.detalhes().getIfPresent(pessoaId));
+        assertNull(readCache.clientes().getIfPresent(pessoaId));
+        verify(clienteAdapter, times(1)).findDetalheById(pessoaId);
+    }
+
+    @Test
+    @DisplayName("Remoção do cliente deve alcançar os veículos lidos por ID e por placa, inclusive os recolocados antes do commit")
+    void evictClienteDeveUsarOIndicePorCliente() {
+        UUID pessoaId = UUID.randomUUID();
+        VeiculoView porId = veiculoView(UUID.randomUUID(), pessoaId);
+        VeiculoView porPlaca = new VeiculoView(UUID.randomUUID(), pessoaId, "XYZ9876", null, "VW", "Gol", 2018,
+                null, null, 0L);
+        when(veiculoAdapter.findViewById(porId.id())).thenReturn(Optional.of(porId));
+        when(veiculoAdapter.findViewsByPlacas(List.of("XYZ9876"))).thenReturn(Map.of("XYZ9876", porPlaca));
+        veiculos.findViewById(porId.id());
+        veiculos.findViewsByPlacas(List.of("XYZ9876"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        readCache.evictCliente(pessoaId);
+        assertNull(readCache.veiculos().getIfPresent(porId.id()));
+        assertNull(readCache.veiculos().getIfPresent(porPlaca.id()));
+        // leitura concorrente recoloca o veículo antes do commit
+        readCache.putVeiculo(porId);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertNull(readCache.veiculos().getIfPresent(porId.id()));
+    }
+
+    @Test
+    @DisplayName("Em transação de escrita não deve guardar e deve invalidar de novo ao fim")
+    void transacaoDeEscrita() {
+        ClienteView view = clienteView(UUID.randomUUID());
+        when(clienteAdapter.findViewById(view.pessoaId())).thenReturn(Optional.of(view));
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        clientes.findViewById(view.pessoaId());
+        assertNull(readCache.clientes().getIfPresent(view.pessoaId()));
+
+        readCache.evictCliente(view.pessoaId());
+        // leitura concorrente recoloca o valor antigo antes do commit
+        readCache.clientes().put(view.pessoaId(), view);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertNull(readCache.clientes().getIfPresent(view.pessoaId()));
+    }
+
+    @Test
+    @DisplayName("Com réplica, deve carregar o cache miss do primário e não guardar leitura feita na réplica")
+    void naoDeveGuardarLeituraDaReplica() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(banco("primary"), banco("replica"),
+                new ReadYourWritesTracker(Duration.ofSeconds(2)));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate leitura = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        leitura.setReadOnly(true);
+        List<String> origens = new ArrayList<>();
+        ClienteView view = clienteView(UUID.randomUUID());
+        when(clienteAdapter.findViewById(view.pessoaId())).thenAnswer(invocation -> {
+            origens.add(jdbcTemplate.queryForObject("SELECT nome FROM origem", String.class));
+            return Optional.of(view);
+        });
+
+        // a transação já abriu a conexão na réplica antes do cache miss
+        leitura.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT nome FROM origem", String.class);
+            clientes.findViewById(view.pessoaId());
+        });
+        assertNull(readCache.clientes().getIfPresent(view.pessoaId()));
+
+        leitura.executeWithoutResult(status -> clientes.findViewById(view.pessoaId()));
+        assertSame(view, readCache.clientes().getIfPresent(view.pessoaId()));
+        assertEquals(List.of("replica", "primary"), origens);
+    }
+
+    @Test
+    @DisplayName("Com o cache desligado deve sempre delegar")
+    void desligadoDeveDelegar() {
+        usarCache(false);
+        ClienteView view = clienteView(UUID.randomUUID());
+        when(clienteAdapter.findViewById(view.pessoaId())).thenReturn(Optional.of(view));
+
+        clientes.findViewById(view.pessoaId());
+        clientes.findViewById(view.pessoaId());
+        readCache.evictCliente(view.pessoaId());
+
+        verify(clienteAdapter, times(2)).findViewById(view.pessoaId());
+        assertEquals(0, readCache.clientes().estimatedSize());
+    }
+
+    private void usarCache(boolean enabled) {
+        readCache = new ReadCache(enabled, 100, TTL_MS, meterRegistry, ticker);
+        clientes = new CachingClienteReadRepository(clienteAdapter, readCache);
+        veiculos = new CachingVeiculoReadRepository(veiculoAdapter, readCache);
+    }
+
+    private static DataSource banco(String nome) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + nome + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE origem (nome VARCHAR(20))");
+        jdbc.update("INSERT INTO origem VALUES (?)", nome);
+        return dataSource;
+    }
+
+    private static ClienteView clienteView(UUID pessoaId) {
+        LocalDateTime agora = LocalDateTime.now();
+        return new ClienteView(pessoaId, agora, agora, 0L);
+    }
+
+    private static VeiculoView veiculoView(UUID id, UUID clientePessoaId) {
+        return new VeiculoView(id, clientePessoaId, "ABC1234", null, "Fiat", "Uno", 2015, null, null, 0L);
+    }
+}
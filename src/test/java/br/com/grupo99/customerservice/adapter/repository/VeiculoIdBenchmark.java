@@ -0,0 +1,129 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.domain.model.UuidV7;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * INSERTs em lote numa tabela com a chave primária {@code uuid} de
+ * {@code veiculos}, com ids do gerador antigo ({@code GenerationType.UUID},
+ * v4 aleatório) e do {@link UuidV7}. A tabela começa com {@code preCarga}
+ * linhas, para que o índice já seja maior que as páginas quentes. Ao fim
+ * imprime o tamanho do índice da chave primária e os bytes por linha.
+ * <p>
+ * Por padrão roda no H2 em memória, que só mede o custo de inserir; tamanho
+ * do índice e divisões de página só aparecem num PostgreSQL, por exemplo o
+ * primário de {@code docker-compose.replica.yml}:
+ * {@code -Dbenchmark.url=jdbc:postgresql://localhost:5433/customer_db
+ * -Dbenchmark.user=postgres -Dbenchmark.password=postgres123}
+ *
+ * Execução: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=br.com.grupo99.customerservice.adapter.repository.VeiculoIdBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VeiculoIdBenchmark {
+
+    private static final String URL = System.getProperty("benchmark.url",
+            "jdbc:h2:mem:veiculo-id;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    private static final String USER = System.getProperty("benchmark.user", "sa");
+    private static final String PASSWORD = System.getProperty("benchmark.password", "");
+
+    @Param({"v4", "v7"})
+    public String gerador;
+
+    @Param("100")
+    public int lote;
+
+    @Param("200000")
+    public int preCarga;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    private String tabela;
+    private long linhas;
+
+    @Setup
+    public void setUp() throws SQLException {
+        ids = "v7".equals(gerador) ? UuidV7::gerar : UUID::randomUUID;
+        tabela = "bench_veiculos_" + gerador;
+        connection = DriverManager.getConnection(URL, USER, PASSWORD);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + tabela);
+            statement.execute("CREATE TABLE " + tabela + " (id UUID PRIMARY KEY, cliente_id UUID NOT NULL, "
+                    + "placa VARCHAR(8) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + tabela + " (id, cliente_id, placa) VALUES (?, ?, ?)");
+        for (int i = 0; i < preCarga; i += lote) {
+            inserirLote();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        Long tamanho = tamanhoDoIndice();
+        if (tamanho == null) {
+            System.out.printf("%n%s: %d linhas; tamanho do índice só no PostgreSQL%n", gerador, linhas);
+        } else {
+            System.out.printf("%n%s: %d linhas, índice da PK com %d KiB (%.1f bytes por linha)%n",
+                    gerador, linhas, tamanho / 1024, (double) tamanho / linhas);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + tabela);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public int inserirLote() throws SQLException {
+        UUID clienteId = UUID.randomUUID();
+        for (int i = 0; i < lote; i++) {
+            insert.setObject(1, ids.get());
+            insert.setObject(2, clienteId);
+            insert.setString(3, "B" + (linhas + i) % 10_000_000);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        linhas += lote;
+        return lote;
+    }
+
+    private Long tamanhoDoIndice() throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return null;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_relation_size(?::regclass)")) {
+            statement.setString(1, tabela + "_pkey");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VeiculoIdBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
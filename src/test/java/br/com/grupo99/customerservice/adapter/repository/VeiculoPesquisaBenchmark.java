@@ -0,0 +1,177 @@
+package br.com.grupo99.customerservice.adapter.repository;
+
+import br.com.grupo99.customerservice.CustomerServiceApplication;
+import br.com.grupo99.customerservice.application.dto.VeiculoFiltroDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoPageResponseDTO;
+import br.com.grupo99.customerservice.application.service.VeiculoPesquisaApplicationService;
+import br.com.grupo99.customerservice.domain.model.Placa;
+import br.com.grupo99.customerservice.domain.model.UuidV7;
+import br.com.grupo99.customerservice.domain.model.Veiculo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pesquisa de veículos do back office sobre {@code linhas} veículos: o
+ * caminho antigo, {@code findAll()} e filtro em memória, contra a pesquisa
+ * de {@link VeiculoPesquisaApplicationService}, que filtra e pagina no banco
+ * pelos índices de {@code V7}. Mede a primeira página e a seguinte de
+ * marca + modelo + faixa de ano, e a busca por chassi.
+ * <p>
+ * Por padrão sobe o contexto com o perfil "test" (H2 em memória); os planos
+ * do PostgreSQL aparecem com, por exemplo, o primário de
+ * {@code docker-compose.replica.yml}:
+ * {@code -Dbenchmark.url=jdbc:postgresql://localhost:5433/customer_db
+ * -Dbenchmark.user=postgres -Dbenchmark.password=postgres123}. A carga
+ * apaga os veículos e clientes existentes nesse banco.
+ *
+ * Execução: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=br.com.grupo99.customerservice.adapter.repository.VeiculoPesquisaBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class VeiculoPesquisaBenchmark {
+
+    private static final String[] MARCAS = {"Fiat", "Volkswagen", "Chevrolet", "Ford", "Toyota", "Honda",
+            "Hyundai", "Renault", "Jeep", "Nissan"};
+    private static final String[] CORES = {"Prata", "Preto", "Branco", "Cinza", "Vermelho", "Azul"};
+    private static final int MODELOS_POR_MARCA = 5;
+    private static final int VEICULOS_POR_CLIENTE = 5;
+    private static final int LOTE = 10_000;
+    private static final int PAGINA = 20;
+
+    private static final VeiculoFiltroDTO FILTRO = new VeiculoFiltroDTO("Fiat", "Fiat 3", 2010, 2015, null, null,
+            null);
+
+    @Param("1000000")
+    public int linhas;
+
+    private ConfigurableApplicationContext context;
+    private VeiculoJpaRepository veiculoJpaRepository;
+    private VeiculoPesquisaApplicationService service;
+    private TransactionTemplate readOnly;
+    private String segundaPagina;
+    private VeiculoFiltroDTO porChassi;
+
+    @Setup
+    public void setUp() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CustomerServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.properties.hibernate.generate_statistics=false",
+                        "clientes.cache.enabled=false",
+                        "logging.level.br.com.grupo99.customerservice=WARN");
+        String url = System.getProperty("benchmark.url");
+        if (url != null) {
+            builder.properties("spring.datasource.url=" + url,
+                    "spring.datasource.username=" + System.getProperty("benchmark.user", "postgres"),
+                    "spring.datasource.password=" + System.getProperty("benchmark.password", ""));
+        }
+        context = builder.run();
+        veiculoJpaRepository = context.getBean(VeiculoJpaRepository.class);
+        service = context.getBean(VeiculoPesquisaApplicationService.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        carregar(context.getBean(JdbcTemplate.class));
+        segundaPagina = service.pesquisar(FILTRO, null, PAGINA).nextCursor();
+        porChassi = new VeiculoFiltroDTO(null, null, null, null, null, null, chassi(linhas / 2));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Veiculo> findAllEmMemoria() {
+        return readOnly.execute(status -> veiculoJpaRepository.findAll().stream()
+                .filter(veiculo -> FILTRO.marca().equals(veiculo.getMarca())
+                        && FILTRO.modelo().equals(veiculo.getModelo())
+                        && veiculo.getAno() >= FILTRO.anoMin()
+                        && veiculo.getAno() <= FILTRO.anoMax())
+                .sorted(Comparator.comparing(veiculo -> veiculo.getId().toString()))
+                .limit(PAGINA)
+                .toList());
+    }
+
+    @Benchmark
+    public VeiculoPageResponseDTO pesquisaPrimeiraPagina() {
+        return service.pesquisar(FILTRO, null, PAGINA);
+    }
+
+    @Benchmark
+    public VeiculoPageResponseDTO pesquisaPaginaSeguinte() {
+        return service.pesquisar(FILTRO, segundaPagina, PAGINA);
+    }
+
+    @Benchmark
+    public VeiculoPageResponseDTO pesquisaPorChassi() {
+        return service.pesquisar(porChassi, null, PAGINA);
+    }
+
+    /**
+     * Insere os clientes e veículos por JDBC em lotes, sem passar pelo
+     * Hibernate; marca, modelo, ano e cor variam de forma que cada
+     * marca + modelo tenha {@code linhas / 50} veículos.
+     */
+    private void carregar(JdbcTemplate jdbc) {
+        jdbc.update("DELETE FROM veiculos");
+        jdbc.update("DELETE FROM clientes");
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> clientes = new ArrayList<>(LOTE);
+        List<Object[]> veiculos = new ArrayList<>(LOTE);
+        UUID clienteId = null;
+        for (int i = 0; i < linhas; i++) {
+            if (i % VEICULOS_POR_CLIENTE == 0) {
+                clienteId = UUID.randomUUID();
+                clientes.add(new Object[] {clienteId, agora});
+            }
+            String placa = String.format("P%07d", i);
+            String marca = MARCAS[i % MARCAS.length];
+            String modelo = marca + " " + (i / MARCAS.length) % MODELOS_POR_MARCA;
+            veiculos.add(new Object[] {UuidV7.gerar(), placa, Placa.normalizar(placa), String.format("%011d", i),
+                    marca, modelo, 2000 + (i / 7) % 25, CORES[i % CORES.length], chassi(i), clienteId});
+            if (veiculos.size() == LOTE || i == linhas - 1) {
+                jdbc.batchUpdate("INSERT INTO clientes (pessoa_id, created_at) VALUES (?, ?)", clientes);
+                jdbc.batchUpdate("INSERT INTO veiculos (id, placa, placa_normalizada, renavam, marca, modelo, ano, "
+                        + "cor, chassi, cliente_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", veiculos);
+                clientes.clear();
+                veiculos.clear();
+            }
+        }
+        if ("PostgreSQL".equals(jdbc.execute((Connection c) -> c.getMetaData().getDatabaseProductName()))) {
+            jdbc.execute("ANALYZE veiculos");
+        }
+    }
+
+    private static String chassi(int i) {
+        return String.format("9BW%014d", i);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VeiculoPesquisaBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.grupo99.customerservice.adapter.repository;
 
 import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.VeiculoFiltro;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,7 +12,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -89,4 +92,39 @@ class VeiculoRepositoryAdapterTest {
         List<Veiculo> result = adapter.findAll();
         assertEquals(1, result.size());
     }
+
+    @Test
+    @DisplayName("Não deve consultar projeções de veículos sem clientes")
+    void naoDeveConsultarProjecoesSemClientes() {
+        assertTrue(adapter.findViewsByClientePessoaIds(List.of()).isEmpty());
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar pesquisa sem filtro indexado")
+    void deveRecusarPesquisaSemIndice() {
+        VeiculoFiltro semIndice = new VeiculoFiltro("Fiat", null, 2010, 2020, "Prata", null, null);
+        assertThrows(IllegalArgumentException.class, () -> adapter.findViewPage(semIndice, null, 20));
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve dividir a checagem de placas e renavams existentes em listas IN de até BULK_CHUNK_SIZE")
+    void deveChecarExistentesEmBlocos() {
+        List<String> placas = IntStream.range(0, ClienteJpaRepository.BULK_CHUNK_SIZE + 1)
+                .mapToObj(i -> String.format("P%07d", i)).toList();
+        when(jpaRepository.findExistingPlacas(anyCollection())).thenReturn(List.of());
+        when(jpaRepository.findExistingPlacas(List.of(placas.get(placas.size() - 1))))
+                .thenReturn(List.of(placas.get(placas.size() - 1)));
+        when(jpaRepository.findExistingRenavams(anyCollection())).thenReturn(List.of());
+
+        assertEquals(Set.of(placas.get(placas.size() - 1)), adapter.findExistingPlacas(placas));
+        assertTrue(adapter.findExistingRenavams(placas).isEmpty());
+        assertTrue(adapter.findExistingPlacas(List.of()).isEmpty());
+
+        verify(jpaRepository).findExistingPlacas(placas.subList(0, ClienteJpaRepository.BULK_CHUNK_SIZE));
+        verify(jpaRepository, times(2)).findExistingPlacas(anyCollection());
+        verify(jpaRepository).findExistingRenavams(placas.subList(0, ClienteJpaRepository.BULK_CHUNK_SIZE));
+        verify(jpaRepository).findExistingRenavams(List.of(placas.get(placas.size() - 1)));
+    }
 }
@@ -0,0 +1,125 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.dto.ClienteLoteRequestDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO.Item;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteResponseDTO.Status;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteLoteApplicationService Tests")
+class ClienteLoteApplicationServiceTest {
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    private SimpleMeterRegistry registry;
+    private ClienteLoteApplicationService service;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        service = new ClienteLoteApplicationService(clienteRepository, registry, 5);
+    }
+
+    @Test
+    @DisplayName("Deve criar apenas os novos e reportar o resultado de cada item na ordem da requisição")
+    @SuppressWarnings("unchecked")
+    void deveCriarNovosEReportarCadaItem() {
+        // Arrange
+        UUID novo = UUID.randomUUID();
+        UUID existente = UUID.randomUUID();
+        when(clienteRepository.findExistingPessoaIds(any())).thenReturn(Set.of(existente));
+        when(clienteRepository.insertAllIfAbsent(any())).thenReturn(Set.of(novo));
+
+        // Act
+        ClienteLoteResponseDTO resultado = service.criarClientes(
+                new ClienteLoteRequestDTO(Arrays.asList(novo, existente, novo, null)));
+
+        // Assert
+        assertEquals(1, resultado.criados());
+        assertEquals(3, resultado.ignorados());
+        assertEquals(List.of(new Item(novo, Status.CRIADO), new Item(existente, Status.JA_EXISTE),
+                new Item(novo, Status.REPETIDO_NO_LOTE), new Item(null, Status.INVALIDO)), resultado.itens());
+
+        ArgumentCaptor<List<Cliente>> salvos = ArgumentCaptor.forClass(List.class);
+        verify(clienteRepository).insertAllIfAbsent(salvos.capture());
+        assertEquals(List.of(novo), salvos.getValue().stream().map(Cliente::getPessoaId).toList());
+        verify(clienteRepository, never()).existsByPessoaId(any());
+        verify(clienteRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("pessoaId inserido em paralelo depois da checagem deve sair como já existente, sem falhar o lote")
+    void deveReportarConflitoConcorrenteComoJaExiste() {
+        // Arrange
+        UUID novo = UUID.randomUUID();
+        UUID concorrente = UUID.randomUUID();
+        when(clienteRepository.findExistingPessoaIds(any())).thenReturn(Set.of());
+        when(clienteRepository.insertAllIfAbsent(any())).thenReturn(Set.of(novo));
+
+        // Act
+        ClienteLoteResponseDTO resultado = service.criarClientes(
+                new ClienteLoteRequestDTO(List.of(novo, concorrente)));
+
+        // Assert
+        assertEquals(1, resultado.criados());
+        assertEquals(1, resultado.ignorados());
+        assertEquals(List.of(new Item(novo, Status.CRIADO), new Item(concorrente, Status.JA_EXISTE)),
+                resultado.itens());
+        assertEquals(1, registry.get(ClienteLoteApplicationService.LOTE_ITENS).tag("status", "ja_existe")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve publicar duração, tamanho do lote e itens por resultado")
+    void devePublicarMetricas() {
+        // Arrange
+        List<UUID> pessoaIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(clienteRepository.findExistingPessoaIds(any())).thenReturn(Set.of());
+        when(clienteRepository.insertAllIfAbsent(any())).thenReturn(Set.copyOf(pessoaIds));
+
+        // Act
+        service.criarClientes(new ClienteLoteRequestDTO(pessoaIds));
+
+        // Assert
+        assertEquals(1, registry.get(ClienteLoteApplicationService.LOTE_TIMER).timer().count());
+        assertEquals(2, registry.get(ClienteLoteApplicationService.LOTE_TAMANHO).summary().totalAmount());
+        assertEquals(2, registry.get(ClienteLoteApplicationService.LOTE_ITENS).tag("status", "criado")
+                .counter().count());
+        assertEquals(0, registry.get(ClienteLoteApplicationService.LOTE_ITENS).tag("status", "ja_existe")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote vazio ou acima do máximo sem acessar o banco")
+    void deveRejeitarLoteInvalido() {
+        List<UUID> grande = new ArrayList<>(Collections.nCopies(6, UUID.randomUUID()));
+
+        assertThrows(BusinessException.class, () -> service.criarClientes(new ClienteLoteRequestDTO(List.of())));
+        assertThrows(BusinessException.class, () -> service.criarClientes(new ClienteLoteRequestDTO(null)));
+        assertThrows(BusinessException.class, () -> service.criarClientes(new ClienteLoteRequestDTO(grande)));
+        verifyNoInteractions(clienteRepository);
+    }
+}
@@ -1,25 +1,43 @@
 package br.com.grupo99.customerservice.application.service;
 
+import br.com.grupo99.customerservice.application.dto.ClienteBuscaLoteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ClienteBuscaLoteResponseDTO.Status;
+import br.com.grupo99.customerservice.application.dto.ClienteLoteRequestDTO;
+import br.com.grupo99.customerservice.application.dto.ClientePageResponseDTO;
 import br.com.grupo99.customerservice.application.dto.ClienteRequestDTO;
 import br.com.grupo99.customerservice.application.dto.ClienteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoResponseDTO;
 import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.exception.PreconditionFailedException;
 import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
 import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.repository.ClienteDetalheView;
+import br.com.grupo99.customerservice.domain.repository.ClienteKeyset;
+import br.com.grupo99.customerservice.domain.repository.ClienteReadRepository;
 import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import br.com.grupo99.customerservice.domain.repository.ReadCacheInvalidator;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,7 +47,15 @@ class CustomerApplicationServiceTest {
     @Mock
     private ClienteRepository clienteRepository;
 
-    @InjectMocks
+    @Mock
+    private ClienteReadRepository clienteReadRepository;
+
+    @Mock
+    private VeiculoReadRepository veiculoReadRepository;
+
+    @Mock
+    private ReadCacheInvalidator readCacheInvalidator;
+
     private CustomerApplicationService service;
 
     private UUID pessoaId;
@@ -37,6 +63,8 @@ class CustomerApplicationServiceTest {
 
     @BeforeEach
     void setup() {
+        service = new CustomerApplicationService(clienteRepository, clienteReadRepository, veiculoReadRepository,
+                readCacheInvalidator, 2, 3, 4);
         pessoaId = UUID.randomUUID();
         validRequestDTO = new ClienteRequestDTO(pessoaId);
     }
@@ -45,14 +73,12 @@ class CustomerApplicationServiceTest {
     @DisplayName("Deve criar cliente com sucesso")
     void testCriarClienteComSucesso() {
         // Arrange
-        when(clienteRepository.existsByPessoaId(pessoaId)).thenReturn(false);
-
-        // Configure mock to simulate @PrePersist
+        // Configure mock to simulate the native insert
         doAnswer(invocation -> {
             Cliente cliente = invocation.getArgument(0);
-            setTimestamps(cliente);
-            return cliente;
-        }).when(clienteRepository).save(any(Cliente.class));
+            cliente.registrarInsercao(LocalDateTime.now());
+            return true;
+        }).when(clienteRepository).insertIfAbsent(any(Cliente.class));
 
         // Act
         ClienteResponseDTO response = service.criarCliente(validRequestDTO);
@@ -61,28 +87,30 @@ class CustomerApplicationServiceTest {
         assertNotNull(response);
         assertEquals(pessoaId, response.pessoaId());
         assertNotNull(response.createdAt());
-        verify(clienteRepository, times(1)).save(any(Cliente.class));
+        verify(clienteRepository, times(1)).insertIfAbsent(any(Cliente.class));
+        verify(clienteRepository, never()).existsByPessoaId(any());
+        verify(clienteRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Deve falhar ao criar cliente com pessoaId duplicado")
     void testCriarClienteComPessoaIdDuplicado() {
         // Arrange
-        when(clienteRepository.existsByPessoaId(pessoaId)).thenReturn(true);
+        when(clienteRepository.insertIfAbsent(any(Cliente.class))).thenReturn(false);
 
         // Act & Assert
-        assertThrows(BusinessException.class, () -> service.criarCliente(validRequestDTO));
-        verify(clienteRepository, never()).save(any());
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> service.criarCliente(validRequestDTO));
+        assertEquals("Já existe um cliente para esta pessoa", exception.getMessage());
     }
 
     @Test
     @DisplayName("Deve buscar cliente por pessoaId com sucesso")
     void testBuscarPorIdComSucesso() {
         // Arrange
-        Cliente cliente = new Cliente(pessoaId);
-        setTimestamps(cliente);
-
-        when(clienteRepository.findById(pessoaId)).thenReturn(Optional.of(cliente));
+        LocalDateTime agora = LocalDateTime.now();
+        when(clienteReadRepository.findDetalheById(pessoaId)).thenReturn(Optional.of(new ClienteDetalheView(
+                new ClienteView(pessoaId, agora, agora, 3L), List.of(veiculo(pessoaId, "ABC1234")))));
 
         // Act
         ClienteResponseDTO response = service.buscarPorId(pessoaId);
@@ -90,32 +118,201 @@ class CustomerApplicationServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals(pessoaId, response.pessoaId());
+        assertEquals(3L, response.version());
+        assertEquals(List.of("ABC1234"), response.veiculos().stream().map(VeiculoResponseDTO::placa).toList());
+        verifyNoInteractions(veiculoReadRepository);
     }
 
     @Test
     @DisplayName("Deve falhar ao buscar cliente inexistente")
     void testBuscarPorIdNaoEncontrado() {
         // Arrange
-        when(clienteRepository.findById(pessoaId)).thenReturn(Optional.empty());
+        when(clienteReadRepository.findDetalheById(pessoaId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> service.buscarPorId(pessoaId));
+        verifyNoInteractions(veiculoReadRepository);
     }
 
     @Test
     @DisplayName("Deve deletar cliente com sucesso")
     void testDeletarClienteComSucesso() {
         // Arrange
-        Cliente cliente = new Cliente(pessoaId);
-        setTimestamps(cliente);
-
-        when(clienteRepository.findById(pessoaId)).thenReturn(Optional.of(cliente));
+        when(clienteRepository.deleteByPessoaId(pessoaId)).thenReturn(true);
 
         // Act
         service.deletarCliente(pessoaId);
 
         // Assert
-        verify(clienteRepository, times(1)).deleteById(pessoaId);
+        verify(clienteRepository, never()).findById(pessoaId);
+        verify(readCacheInvalidator).evictCliente(pessoaId);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao deletar cliente inexistente")
+    void testDeletarClienteInexistente() {
+        when(clienteRepository.deleteByPessoaId(pessoaId)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> service.deletarCliente(pessoaId));
+        verify(readCacheInvalidator, never()).evictCliente(any());
+    }
+
+    @Test
+    @DisplayName("If-Match no DELETE deve distinguir versão antiga de cliente inexistente")
+    void testDeletarClienteComIfMatch() {
+        when(clienteRepository.deleteByPessoaIdAndVersion(pessoaId, 2L)).thenReturn(false);
+        when(clienteRepository.findVersion(pessoaId)).thenReturn(Optional.of(3L));
+        assertThrows(PreconditionFailedException.class, () -> service.deletarCliente(pessoaId, 2L));
+
+        when(clienteRepository.findVersion(pessoaId)).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> service.deletarCliente(pessoaId, 2L));
+        verify(clienteRepository, never()).deleteByPessoaId(any());
+        verify(readCacheInvalidator, never()).evictCliente(any());
+    }
+
+    @Test
+    @DisplayName("Deve paginar clientes e devolver cursor da próxima página")
+    void testListarPaginaComProximaPagina() {
+        // Arrange
+        List<ClienteView> clientes = views(3);
+        UUID primeiro = clientes.get(0).pessoaId();
+        UUID segundo = clientes.get(1).pessoaId();
+        when(clienteReadRepository.findViewPage(null, 3)).thenReturn(clientes);
+        when(veiculoReadRepository.findViewsByClientePessoaIds(List.of(primeiro, segundo)))
+                .thenReturn(List.of(veiculo(segundo, "BBB2222"), veiculo(primeiro, "AAA1111"), veiculo(segundo, "CCC3333")));
+
+        // Act
+        ClientePageResponseDTO pagina = service.listarPagina(null, null);
+
+        // Assert
+        assertEquals(List.of(primeiro, segundo), pagina.items().stream().map(ClienteResponseDTO::pessoaId).toList());
+        assertEquals(1, pagina.items().get(0).veiculos().size());
+        assertEquals(2, pagina.items().get(1).veiculos().size());
+        assertNotNull(pagina.nextCursor());
+        ClienteView ultimo = clientes.get(1);
+        assertEquals(new ClienteKeyset(ultimo.createdAt(), ultimo.pessoaId()),
+                ClienteCursor.decode(pagina.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Deve buscar clientes em lote na ordem pedida, marcando ausentes e inválidos")
+    void testBuscarEmLote() {
+        // Arrange
+        List<ClienteView> clientes = views(2);
+        UUID primeiro = clientes.get(0).pessoaId();
+        UUID segundo = clientes.get(1).pessoaId();
+        UUID ausente = UUID.randomUUID();
+        when(clienteReadRepository.findViewsByIds(Set.of(segundo, ausente, primeiro)))
+                .thenReturn(List.of(clientes.get(1), clientes.get(0)));
+        when(veiculoReadRepository.findViewsByClientePessoaIds(List.of(segundo, primeiro)))
+                .thenReturn(List.of(veiculo(primeiro, "AAA1111")));
+
+        // Act
+        ClienteBuscaLoteResponseDTO resultado = service.buscarEmLote(
+                new ClienteLoteRequestDTO(Arrays.asList(segundo, ausente, null, primeiro)));
+
+        // Assert
+        assertEquals(2, resultado.encontrados());
+        assertEquals(2, resultado.naoEncontrados());
+        assertEquals(Arrays.asList(segundo, ausente, null, primeiro),
+                resultado.itens().stream().map(ClienteBuscaLoteResponseDTO.Item::pessoaId).toList());
+        assertEquals(List.of(Status.ENCONTRADO, Status.NAO_ENCONTRADO, Status.INVALIDO, Status.ENCONTRADO),
+                resultado.itens().stream().map(ClienteBuscaLoteResponseDTO.Item::status).toList());
+        assertNull(resultado.itens().get(1).cliente());
+        assertEquals(1, resultado.itens().get(3).cliente().veiculos().size());
+        assertTrue(resultado.itens().get(0).cliente().veiculos().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar busca em lote vazia ou acima do máximo configurado")
+    void testBuscarEmLoteInvalido() {
+        List<UUID> grande = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID());
+
+        assertThrows(BusinessException.class, () -> service.buscarEmLote(null));
+        assertThrows(BusinessException.class, () -> service.buscarEmLote(new ClienteLoteRequestDTO(List.of())));
+        assertThrows(BusinessException.class, () -> service.buscarEmLote(new ClienteLoteRequestDTO(grande)));
+        verifyNoInteractions(clienteReadRepository, veiculoReadRepository);
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor e encerrar na última página")
+    void testListarPaginaAPartirDoCursor() {
+        // Arrange
+        ClienteKeyset posicao = new ClienteKeyset(LocalDateTime.now(), UUID.randomUUID());
+        when(clienteReadRepository.findViewPage(posicao, 3)).thenReturn(views(1));
+
+        // Act
+        ClientePageResponseDTO pagina = service.listarPagina(ClienteCursor.encode(posicao), null);
+
+        // Assert
+        assertEquals(1, pagina.items().size());
+        assertNull(pagina.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo configurado")
+    void testListarPaginaLimitaTamanho() {
+        // Arrange
+        when(clienteReadRepository.findViewPage(null, 4)).thenReturn(List.of());
+
+        // Act
+        service.listarPagina(null, 1000);
+
+        // Assert
+        verify(clienteReadRepository).findViewPage(null, 4);
+        verifyNoInteractions(veiculoReadRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido e tamanho de página não positivo")
+    void testListarPaginaComParametrosInvalidos() {
+        assertThrows(BusinessException.class, () -> service.listarPagina("não-é-cursor", null));
+        assertThrows(BusinessException.class, () -> service.listarPagina(null, 0));
+        verify(clienteReadRepository, never()).findViewPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve exportar clientes convertidos para DTO um a um")
+    void testExportarTodos() {
+        // Arrange
+        List<Cliente> clientes = clientes(2);
+        doAnswer(invocation -> {
+            Consumer<Cliente> action = invocation.getArgument(0);
+            clientes.forEach(action);
+            return null;
+        }).when(clienteRepository).forEach(any());
+        List<ClienteResponseDTO> exportados = new ArrayList<>();
+
+        // Act
+        service.exportarTodos(exportados::add);
+
+        // Assert
+        assertEquals(clientes.stream().map(Cliente::getPessoaId).toList(),
+                exportados.stream().map(ClienteResponseDTO::pessoaId).toList());
+    }
+
+    private List<Cliente> clientes(int quantidade) {
+        List<Cliente> clientes = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            Cliente cliente = new Cliente(UUID.randomUUID());
+            setTimestamps(cliente);
+            clientes.add(cliente);
+        }
+        return clientes;
+    }
+
+    private List<ClienteView> views(int quantidade) {
+        LocalDateTime base = LocalDateTime.now();
+        List<ClienteView> views = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            views.add(new ClienteView(UUID.randomUUID(), base.plusSeconds(i), base.plusSeconds(i), 0L));
+        }
+        return views;
+    }
+
+    private VeiculoView veiculo(UUID clientePessoaId, String placa) {
+        return new VeiculoView(UUID.randomUUID(), clientePessoaId, placa, null, "Fiat", "Uno", 2015, null, null, 0L);
     }
 
     private void setTimestamps(Cliente cliente) {
@@ -2,12 +2,21 @@ package br.com.grupo99.customerservice.application.service;
 
 import br.com.grupo99.customerservice.application.dto.VeiculoRequestDTO;
 import br.com.grupo99.customerservice.application.dto.VeiculoResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculosDoClienteDTO;
 import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.exception.ConflictException;
+import br.com.grupo99.customerservice.application.exception.PreconditionFailedException;
 import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
 import br.com.grupo99.customerservice.domain.model.Cliente;
 import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.ClienteDetalheView;
+import br.com.grupo99.customerservice.domain.repository.ClienteReadRepository;
 import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import br.com.grupo99.customerservice.domain.repository.ClienteView;
+import br.com.grupo99.customerservice.domain.repository.ReadCacheInvalidator;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
 import br.com.grupo99.customerservice.domain.repository.VeiculoRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,9 +41,18 @@ class VeiculoApplicationServiceTest {
     @Mock
     private VeiculoRepository veiculoRepository;
 
+    @Mock
+    private VeiculoReadRepository veiculoReadRepository;
+
     @Mock
     private ClienteRepository clienteRepository;
 
+    @Mock
+    private ClienteReadRepository clienteReadRepository;
+
+    @Mock
+    private ReadCacheInvalidator readCacheInvalidator;
+
     @InjectMocks
     private VeiculoApplicationService service;
 
@@ -53,7 +72,8 @@ class VeiculoApplicationServiceTest {
                 2023,
                 "12345678901234",
                 "Preto",
-                "ABCD1234EFGH5678");
+                "ABCD1234EFGH5678",
+                null);
         cliente = new Cliente(pessoaId);
     }
 
@@ -61,7 +81,8 @@ class VeiculoApplicationServiceTest {
     @DisplayName("Deve criar veículo com sucesso")
     void testCriarVeiculoComSucesso() {
         // Arrange
-        when(clienteRepository.findById(pessoaId)).thenReturn(Optional.of(cliente));
+        when(clienteRepository.incrementVersion(pessoaId)).thenReturn(true);
+        when(clienteRepository.getReference(pessoaId)).thenReturn(cliente);
         when(veiculoRepository.existsByPlaca(validRequestDTO.placa())).thenReturn(false);
 
         Veiculo veiculo = new Veiculo(
@@ -81,25 +102,27 @@ class VeiculoApplicationServiceTest {
         assertEquals(validRequestDTO.placa(), response.placa());
         assertEquals(validRequestDTO.marca(), response.marca());
         verify(veiculoRepository, times(1)).save(any(Veiculo.class));
+        verify(clienteRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Deve falhar ao criar veículo com cliente inexistente")
     void testCriarVeiculoClienteInexistente() {
         // Arrange
-        when(clienteRepository.findById(pessoaId)).thenReturn(Optional.empty());
+        when(clienteRepository.incrementVersion(pessoaId)).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class,
                 () -> service.criarVeiculo(pessoaId, validRequestDTO));
         verify(veiculoRepository, never()).save(any());
+        verifyNoInteractions(readCacheInvalidator);
     }
 
     @Test
     @DisplayName("Deve falhar ao criar veículo com placa duplicada")
     void testCriarVeiculoComPlacaDuplicada() {
         // Arrange
-        when(clienteRepository.findById(pessoaId)).thenReturn(Optional.of(cliente));
+        when(clienteRepository.incrementVersion(pessoaId)).thenReturn(true);
         when(veiculoRepository.existsByPlaca(validRequestDTO.placa())).thenReturn(true);
 
         // Act & Assert
@@ -112,14 +135,10 @@ class VeiculoApplicationServiceTest {
     @DisplayName("Deve buscar veículo por ID com sucesso")
     void testBuscarVeiculoPorIdComSucesso() {
         // Arrange
-        Veiculo veiculo = new Veiculo(
-                validRequestDTO.placa(),
-                validRequestDTO.marca(),
-                validRequestDTO.modelo(),
-                validRequestDTO.ano());
-        veiculo.setId(veiculoId);
+        VeiculoView veiculo = new VeiculoView(veiculoId, pessoaId, validRequestDTO.placa(), null,
+                validRequestDTO.marca(), validRequestDTO.modelo(), validRequestDTO.ano(), null, null, 0L);
 
-        when(veiculoRepository.findById(veiculoId)).thenReturn(Optional.of(veiculo));
+        when(veiculoReadRepository.findViewById(veiculoId)).thenReturn(Optional.of(veiculo));
 
         // Act
         VeiculoResponseDTO response = service.buscarPorId(veiculoId);
@@ -133,7 +152,7 @@ class VeiculoApplicationServiceTest {
     @DisplayName("Deve falhar ao buscar veículo inexistente")
     void testBuscarVeiculoInexistente() {
         // Arrange
-        when(veiculoRepository.findById(veiculoId)).thenReturn(Optional.empty());
+        when(veiculoReadRepository.findViewById(veiculoId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class,
@@ -144,39 +163,173 @@ class VeiculoApplicationServiceTest {
     @DisplayName("Deve listar veículos de um cliente")
     void testListarVeiculosDoCliente() {
         // Arrange
-        Veiculo veiculo1 = new Veiculo("ABC1234", "Toyota", "Corolla", 2023);
-        Veiculo veiculo2 = new Veiculo("XYZ5678", "Honda", "Civic", 2022);
+        VeiculoView veiculo1 = new VeiculoView(UUID.randomUUID(), pessoaId, "ABC1234", null, "Toyota", "Corolla", 2023,
+                null, null, 0L);
+        VeiculoView veiculo2 = new VeiculoView(UUID.randomUUID(), pessoaId, "XYZ5678", null, "Honda", "Civic", 2022,
+                null, null, 0L);
 
-        when(clienteRepository.findById(pessoaId)).thenReturn(Optional.of(cliente));
-        when(veiculoRepository.findByClientePessoaId(pessoaId)).thenReturn(List.of(veiculo1, veiculo2));
+        when(clienteReadRepository.findDetalheById(pessoaId)).thenReturn(Optional.of(new ClienteDetalheView(
+                new ClienteView(pessoaId, null, null, 5L), List.of(veiculo1, veiculo2))));
 
         // Act
-        List<VeiculoResponseDTO> response = service.listarVeiculosDoCliente(pessoaId);
+        VeiculosDoClienteDTO response = service.listarVeiculosDoCliente(pessoaId);
 
         // Assert
-        assertNotNull(response);
-        assertEquals(2, response.size());
+        assertEquals(5L, response.version());
+        assertEquals(2, response.veiculos().size());
+        verifyNoInteractions(veiculoReadRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao listar veículos de cliente inexistente")
+    void testListarVeiculosDeClienteInexistente() {
+        // Arrange
+        when(clienteReadRepository.findDetalheById(pessoaId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                () -> service.listarVeiculosDoCliente(pessoaId));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar veículo com um UPDATE condicional à versão lida")
+    void testAtualizarVeiculo() {
+        // Arrange
+        VeiculoView atual = new VeiculoView(veiculoId, pessoaId, "OLD0000", "12345678901234", "Toyota", "Corolla",
+                2020, "Preto", "ABCD1234EFGH5678", 3L);
+        when(veiculoRepository.findViewById(veiculoId)).thenReturn(Optional.of(atual));
+        when(veiculoRepository.updateIfVersion(any(), eq(3L))).thenReturn(true);
+
+        // Act
+        VeiculoResponseDTO response = service.atualizarVeiculo(pessoaId, veiculoId, validRequestDTO);
+
+        // Assert
+        assertEquals("ABC1234", response.placa());
+        assertEquals(2023, response.ano());
+        assertEquals(4L, response.version());
+        verify(veiculoRepository, never()).existsByPlaca(any());
+        verify(clienteRepository).incrementVersion(pessoaId);
+        verify(readCacheInvalidator).evictVeiculo(veiculoId, pessoaId);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar quando o payload não altera o veículo")
+    void testAtualizarVeiculoSemAlteracao() {
+        // Arrange: campos opcionais vazios mantêm o valor atual
+        VeiculoView atual = new VeiculoView(veiculoId, pessoaId, "ABC1234", "12345678901234", "Toyota", "Corolla",
+                2023, "Preto", "ABCD1234EFGH5678", 3L);
+        when(veiculoRepository.findViewById(veiculoId)).thenReturn(Optional.of(atual));
+        VeiculoRequestDTO mesmo = new VeiculoRequestDTO("ABC1234", "Toyota", "Corolla", 2023, null, "", null, 3L);
+
+        // Act
+        VeiculoResponseDTO response = service.atualizarVeiculo(pessoaId, veiculoId, mesmo);
+
+        // Assert
+        assertEquals(3L, response.version());
+        verify(veiculoRepository, never()).updateIfVersion(any(), anyLong());
+        verify(readCacheInvalidator, never()).evictVeiculo(any(), any());
+    }
+
+    @Test
+    @DisplayName("Versão desatualizada ou escrita concorrente devem gerar conflito")
+    void testAtualizarVeiculoComConflito() {
+        VeiculoView atual = new VeiculoView(veiculoId, pessoaId, "OLD0000", null, "Toyota", "Corolla",
+                2020, null, null, 3L);
+        when(veiculoRepository.findViewById(veiculoId)).thenReturn(Optional.of(atual));
+
+        VeiculoRequestDTO desatualizado = new VeiculoRequestDTO("ABC1234", "Toyota", "Corolla", 2023, null, null,
+                null, 2L);
+        assertThrows(ConflictException.class, () -> service.atualizarVeiculo(pessoaId, veiculoId, desatualizado));
+        verify(veiculoRepository, never()).updateIfVersion(any(), anyLong());
+
+        when(veiculoRepository.updateIfVersion(any(), eq(3L))).thenReturn(false);
+        assertThrows(ConflictException.class, () -> service.atualizarVeiculo(pessoaId, veiculoId, validRequestDTO));
+    }
+
+    @Test
+    @DisplayName("Placa repetida na atualização deve vir da restrição única como erro de negócio")
+    void testAtualizarVeiculoComPlacaRepetida() {
+        VeiculoView atual = new VeiculoView(veiculoId, pessoaId, "OLD0000", null, "Toyota", "Corolla",
+                2020, null, null, 0L);
+        when(veiculoRepository.findViewById(veiculoId)).thenReturn(Optional.of(atual));
+        when(veiculoRepository.updateIfVersion(any(), eq(0L)))
+                .thenThrow(new DataIntegrityViolationException("violates unique constraint \"uk_veiculos_placa\""));
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> service.atualizarVeiculo(pessoaId, veiculoId, validRequestDTO));
+        assertEquals("Já existe um veículo com essa placa", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Veículo de outro cliente deve ser tratado como inexistente na atualização")
+    void testAtualizarVeiculoDeOutroCliente() {
+        VeiculoView deOutro = new VeiculoView(veiculoId, UUID.randomUUID(), "OLD0000", null, "Toyota", "Corolla",
+                2020, null, null, 0L);
+        when(veiculoRepository.findViewById(veiculoId)).thenReturn(Optional.of(deOutro));
+        when(clienteRepository.existsByPessoaId(pessoaId)).thenReturn(true);
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> service.atualizarVeiculo(pessoaId, veiculoId, validRequestDTO));
+        assertTrue(ex.getMessage().startsWith("Veículo"));
+    }
+
+    @Test
+    @DisplayName("If-Match com versão antiga deve falhar a atualização com 412, sem gravar")
+    void testAtualizarVeiculoComIfMatchDesatualizado() {
+        VeiculoView atual = new VeiculoView(veiculoId, pessoaId, "OLD0000", null, "Toyota", "Corolla",
+                2020, null, null, 3L);
+        when(veiculoRepository.findViewById(veiculoId)).thenReturn(Optional.of(atual));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> service.atualizarVeiculo(pessoaId, veiculoId, validRequestDTO, 2L));
+        verify(veiculoRepository, never()).updateIfVersion(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("If-Match no DELETE deve distinguir versão antiga de veículo inexistente")
+    void testDeletarVeiculoComIfMatch() {
+        when(veiculoRepository.deleteByIdAndClientePessoaIdAndVersion(veiculoId, pessoaId, 2L)).thenReturn(false);
+        when(veiculoRepository.findViewById(veiculoId)).thenReturn(Optional.of(new VeiculoView(veiculoId, pessoaId,
+                "ABC1234", null, "Toyota", "Corolla", 2020, null, null, 3L)));
+
+        assertThrows(PreconditionFailedException.class, () -> service.deletarVeiculo(pessoaId, veiculoId, 2L));
+
+        when(veiculoRepository.findViewById(veiculoId)).thenReturn(Optional.empty());
+        when(clienteRepository.existsByPessoaId(pessoaId)).thenReturn(true);
+        assertThrows(ResourceNotFoundException.class, () -> service.deletarVeiculo(pessoaId, veiculoId, 2L));
+        verify(clienteRepository, never()).incrementVersion(any());
     }
 
     @Test
     @DisplayName("Deve deletar veículo com sucesso")
     void testDeletarVeiculoComSucesso() {
         // Arrange
-        Veiculo veiculo = new Veiculo(
-                validRequestDTO.placa(),
-                validRequestDTO.marca(),
-                validRequestDTO.modelo(),
-                validRequestDTO.ano());
-        veiculo.setId(veiculoId);
-        veiculo.setCliente(cliente);
-
-        when(clienteRepository.findById(pessoaId)).thenReturn(Optional.of(cliente));
-        when(veiculoRepository.findById(veiculoId)).thenReturn(Optional.of(veiculo));
+        when(veiculoRepository.deleteByIdAndClientePessoaId(veiculoId, pessoaId)).thenReturn(true);
 
         // Act
         service.deletarVeiculo(pessoaId, veiculoId);
 
         // Assert
-        verify(veiculoRepository, times(1)).deleteById(veiculoId);
+        verify(clienteRepository).incrementVersion(pessoaId);
+        verify(clienteRepository, never()).findById(any());
+        verify(readCacheInvalidator).evictVeiculo(veiculoId, pessoaId);
+    }
+
+    @Test
+    @DisplayName("Deve distinguir cliente e veículo inexistentes ao deletar veículo")
+    void testDeletarVeiculoInexistente() {
+        when(veiculoRepository.deleteByIdAndClientePessoaId(veiculoId, pessoaId)).thenReturn(false);
+
+        when(clienteRepository.existsByPessoaId(pessoaId)).thenReturn(false);
+        ResourceNotFoundException semCliente = assertThrows(ResourceNotFoundException.class,
+                () -> service.deletarVeiculo(pessoaId, veiculoId));
+        assertTrue(semCliente.getMessage().startsWith("Cliente"));
+
+        when(clienteRepository.existsByPessoaId(pessoaId)).thenReturn(true);
+        ResourceNotFoundException semVeiculo = assertThrows(ResourceNotFoundException.class,
+                () -> service.deletarVeiculo(pessoaId, veiculoId));
+        assertTrue(semVeiculo.getMessage().startsWith("Veículo"));
+
+        verify(readCacheInvalidator, never()).evictVeiculo(any(), any());
     }
 }
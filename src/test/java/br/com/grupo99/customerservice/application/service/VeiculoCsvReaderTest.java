@@ -0,0 +1,63 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoRequestDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VeiculoCsvReader Tests")
+class VeiculoCsvReaderTest {
+
+    @Test
+    @DisplayName("Deve ler colunas pelo cabeçalho, com ponto e vírgula, aspas e BOM")
+    void deveLerColunasPeloCabecalho() throws IOException {
+        VeiculoCsvReader reader = reader("\uFEFFAno;Placa;Modelo;Marca;Cor\n"
+                + "2020;ABC1234;\"Onix; LT\";Chevrolet;\n"
+                + "\n"
+                + "2019;XYZ9876;\"Uno \"\"Mille\"\"\";Fiat;Prata\n");
+
+        VeiculoCsvReader.Linha primeira = reader.next();
+        assertEquals(2, primeira.numero());
+        assertEquals(new VeiculoRequestDTO("ABC1234", "Chevrolet", "Onix; LT", 2020, null, null, null, null),
+                primeira.dados());
+
+        VeiculoCsvReader.Linha segunda = reader.next();
+        assertEquals(4, segunda.numero());
+        assertEquals("Uno \"Mille\"", segunda.dados().modelo());
+        assertEquals("Prata", segunda.dados().cor());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Deve reportar linha com ano inválido ou aspas abertas sem interromper a leitura")
+    void deveReportarLinhasInvalidas() throws IOException {
+        VeiculoCsvReader reader = reader("placa,marca,modelo,ano\n"
+                + "ABC1234,Fiat,Uno,dois mil\n"
+                + "XYZ9876,\"Fiat,Uno,2010\n"
+                + "DEF5678,Fiat,Uno,2010\n");
+
+        VeiculoCsvReader.Linha anoInvalido = reader.next();
+        assertEquals("ABC1234", anoInvalido.placa());
+        assertNotNull(anoInvalido.erro());
+        assertNotNull(reader.next().erro());
+        assertNull(reader.next().erro());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo sem cabeçalho ou sem coluna obrigatória")
+    void deveRejeitarCabecalhoInvalido() {
+        assertThrows(BusinessException.class, () -> reader(""));
+        assertThrows(BusinessException.class, () -> reader("placa,marca,modelo\nABC1234,Fiat,Uno\n"));
+    }
+
+    private VeiculoCsvReader reader(String conteudo) throws IOException {
+        return new VeiculoCsvReader(new BufferedReader(new StringReader(conteudo)));
+    }
+}
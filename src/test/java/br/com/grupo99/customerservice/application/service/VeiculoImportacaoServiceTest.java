@@ -0,0 +1,219 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.adapter.repository.ClienteRepositoryAdapter;
+import br.com.grupo99.customerservice.adapter.repository.ImportacaoVeiculosRepositoryAdapter;
+import br.com.grupo99.customerservice.adapter.repository.ReadCache;
+import br.com.grupo99.customerservice.adapter.repository.VeiculoRepositoryAdapter;
+import br.com.grupo99.customerservice.application.dto.ImportacaoVeiculosResponseDTO;
+import br.com.grupo99.customerservice.application.dto.ImportacaoVeiculosResponseDTO.ErroLinha;
+import br.com.grupo99.customerservice.application.dto.ImportacaoVeiculosResponseDTO.Status;
+import br.com.grupo99.customerservice.application.exception.PayloadTooLargeException;
+import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.customerservice.application.exception.ServiceUnavailableException;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.model.ImportacaoVeiculos;
+import br.com.grupo99.customerservice.domain.model.Veiculo;
+import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import br.com.grupo99.customerservice.domain.repository.ImportacaoVeiculosRepository;
+import br.com.grupo99.customerservice.domain.repository.ReadCacheInvalidator;
+import br.com.grupo99.customerservice.domain.repository.VeiculoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ClienteRepositoryAdapter.class, VeiculoRepositoryAdapter.class, ImportacaoVeiculosRepositoryAdapter.class,
+        ReadCache.class, SimpleMeterRegistry.class})
+@ActiveProfiles("test")
+@DisplayName("VeiculoImportacaoService Tests")
+class VeiculoImportacaoServiceTest {
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private VeiculoRepository veiculoRepository;
+
+    @Autowired
+    private ImportacaoVeiculosRepository importacaoRepository;
+
+    @Autowired
+    private ReadCache readCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private VeiculoImportacaoService service;
+    private UUID pessoaId;
+
+    @BeforeEach
+    void setUp() {
+        // executor síncrono e blocos de 3 linhas para exercitar a divisão em blocos
+        service = new VeiculoImportacaoService(clienteRepository, veiculoRepository, importacaoRepository, readCache,
+                transactionManager, Runnable::run, 3, 2, 1024, Duration.ofMinutes(10));
+        Cliente cliente = new Cliente(UUID.randomUUID());
+        cliente.adicionarVeiculo(new Veiculo("EXI0001", "Fiat", "Uno", 2010));
+        pessoaId = entityManager.persist(cliente).getPessoaId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve importar as linhas válidas em blocos e reportar os erros por linha")
+    void deveImportarEmBlocosEReportarErros() {
+        String csv = "placa,marca,modelo,ano,renavam\n"
+                + "NEW0001,Fiat,Uno,2015,11111111111\n"   // linha 2: ok
+                + "EXI0001,Fiat,Uno,2015,\n"              // linha 3: placa já cadastrada
+                + "NEW0002,Fiat,,2015,\n"                 // linha 4: sem modelo
+                + "NEW0003,VW,Gol,2018,\n"                // linha 5: ok (segundo bloco)
+                + "NEW0003,VW,Gol,2018,\n"                // linha 6: repetida no bloco
+                + "NEW0001,VW,Gol,2018,\n"                // linha 7: repetida de um bloco anterior
+                + "NEW0004,VW,Fox,2012,11111111111\n";    // linha 8: renavam já importado
+
+        ImportacaoVeiculosResponseDTO inicial = service.iniciar(pessoaId, csv(csv));
+        // a consulta lê o andamento gravado no banco, não o objeto da thread que processou
+        entityManager.flush();
+        entityManager.clear();
+        ImportacaoVeiculosResponseDTO resultado = service.consultar(pessoaId, inicial.id());
+
+        assertEquals(Status.CONCLUIDA, resultado.status());
+        assertEquals(7, resultado.linhasProcessadas());
+        assertEquals(2, resultado.importados());
+        assertEquals(5, resultado.rejeitados());
+        // limite de 2 erros detalhados
+        assertTrue(resultado.errosTruncados());
+        assertEquals(List.of(
+                new ErroLinha(4, "NEW0002", "Modelo é obrigatório"),
+                new ErroLinha(3, "EXI0001", "Já existe um veículo com essa placa")), resultado.erros());
+        assertEquals(List.of("EXI0001", "NEW0001", "NEW0003"), veiculoRepository.findByClientePessoaId(pessoaId)
+                .stream().map(Veiculo::getPlaca).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Deve falhar a importação com cabeçalho inválido sem gravar nada")
+    void deveFalharComCabecalhoInvalido() {
+        ImportacaoVeiculosResponseDTO resultado = service.iniciar(pessoaId, csv("placa;marca\nABC1234;Fiat\n"));
+
+        assertEquals(Status.FALHOU, service.consultar(pessoaId, resultado.id()).status());
+        assertEquals(1, veiculoRepository.findByClientePessoaId(pessoaId).size());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cliente inexistente e esconder importação de outro cliente")
+    void deveRestringirAoCliente() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> service.iniciar(UUID.randomUUID(), csv("placa,marca,modelo,ano\n")));
+
+        ImportacaoVeiculosResponseDTO resultado = service.iniciar(pessoaId, csv("placa,marca,modelo,ano\n"));
+        assertThrows(ResourceNotFoundException.class, () -> service.consultar(UUID.randomUUID(), resultado.id()));
+    }
+
+    @Test
+    @DisplayName("Deve recusar arquivo acima do tamanho máximo")
+    void deveRecusarArquivoGrandeDemais() {
+        String csv = "placa,marca,modelo,ano\n" + "NEW0001,Fiat,Uno,2015\n".repeat(100);
+
+        assertThrows(PayloadTooLargeException.class, () -> service.iniciar(pessoaId, csv(csv)));
+        assertEquals(1, veiculoRepository.findByClientePessoaId(pessoaId).size());
+    }
+
+    @Test
+    @DisplayName("Deve responder indisponível com a fila cheia sem deixar importação registrada")
+    void deveRecusarComFilaCheia() {
+        VeiculoImportacaoService lotado = new VeiculoImportacaoService(clienteRepository, veiculoRepository,
+                importacaoRepository, readCache, transactionManager,
+                tarefa -> { throw new RejectedExecutionException("fila cheia"); }, 3, 2, 1024, Duration.ofMinutes(10));
+
+        assertThrows(ServiceUnavailableException.class, () -> lotado.iniciar(pessoaId, csv("placa,marca,modelo,ano\n")));
+        assertEquals(0L, entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(i) FROM ImportacaoVeiculos i", Long.class).getSingleResult());
+    }
+
+    @Test
+    @DisplayName("Deve marcar como falha a importação que parou de avançar")
+    void deveMarcarImportacaoInterrompida() {
+        // executor que nunca roda a tarefa, como uma instância que caiu
+        VeiculoImportacaoService interrompido = new VeiculoImportacaoService(clienteRepository, veiculoRepository,
+                importacaoRepository, readCache, transactionManager, tarefa -> { }, 3, 2, 1024, Duration.ofMinutes(10));
+        ImportacaoVeiculosResponseDTO inicial = interrompido.iniciar(pessoaId, csv("placa,marca,modelo,ano\n"));
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE importacoes_veiculos SET atualizada_em = :antes")
+                .setParameter("antes", LocalDateTime.now().minusMinutes(11))
+                .executeUpdate();
+        entityManager.clear();
+
+        interrompido.expirar();
+
+        ImportacaoVeiculosResponseDTO resultado = service.consultar(pessoaId, inicial.id());
+        assertEquals(Status.FALHOU, resultado.status());
+        assertNotNull(resultado.concluidaEm());
+    }
+
+    @Test
+    @DisplayName("Deve parar sem reabrir a importação marcada como falha por outra instância")
+    void devePararImportacaoMarcadaComoFalha() {
+        List<Runnable> tarefas = new ArrayList<>();
+        // depois do primeiro bloco, outra instância marca a importação como interrompida
+        ReadCacheInvalidator expiraNoPrimeiroBloco = new ReadCacheInvalidator() {
+            @Override
+            public void evictCliente(UUID pessoaId) {
+            }
+
+            @Override
+            public void evictVeiculo(UUID veiculoId, UUID clientePessoaId) {
+                entityManager.getEntityManager()
+                        .createQuery("UPDATE ImportacaoVeiculos i SET i.status = :falhou, i.mensagem = 'interrompida'")
+                        .setParameter("falhou", ImportacaoVeiculos.Status.FALHOU)
+                        .executeUpdate();
+            }
+        };
+        VeiculoImportacaoService lento = new VeiculoImportacaoService(clienteRepository, veiculoRepository,
+                importacaoRepository, expiraNoPrimeiroBloco, transactionManager, tarefas::add, 3, 2, 1024,
+                Duration.ofMinutes(10));
+        String csv = "placa,marca,modelo,ano\n"
+                + "NEW0001,Fiat,Uno,2015\n"
+                + "NEW0002,Fiat,Uno,2015\n"
+                + "NEW0003,Fiat,Uno,2015\n"
+                + "NEW0004,VW,Gol,2018\n";   // segundo bloco
+        ImportacaoVeiculosResponseDTO inicial = lento.iniciar(pessoaId, csv(csv));
+        entityManager.flush();
+        entityManager.clear();
+
+        tarefas.forEach(Runnable::run);
+        entityManager.flush();
+        entityManager.clear();
+
+        ImportacaoVeiculosResponseDTO resultado = service.consultar(pessoaId, inicial.id());
+        assertEquals(Status.FALHOU, resultado.status());
+        assertEquals("interrompida", resultado.mensagem());
+        assertEquals(0, resultado.linhasProcessadas());
+        assertFalse(veiculoRepository.findByClientePessoaId(pessoaId).stream()
+                .anyMatch(veiculo -> veiculo.getPlaca().equals("NEW0004")));
+    }
+
+    private ByteArrayInputStream csv(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
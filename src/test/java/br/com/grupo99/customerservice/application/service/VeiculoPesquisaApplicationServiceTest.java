@@ -0,0 +1,99 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoFiltroDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoPageResponseDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.domain.repository.VeiculoFiltro;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VeiculoPesquisaApplicationService Tests")
+class VeiculoPesquisaApplicationServiceTest {
+
+    private static final VeiculoFiltro FIAT_UNO = new VeiculoFiltro("Fiat", "Uno", 2010, 2020, null, null, null);
+
+    @Mock
+    private VeiculoReadRepository veiculoReadRepository;
+
+    private VeiculoPesquisaApplicationService service;
+
+    @BeforeEach
+    void setup() {
+        service = new VeiculoPesquisaApplicationService(veiculoReadRepository, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Deve pesquisar pelos filtros informados e devolver cursor quando há próxima página")
+    void devePesquisarComProximaPagina() {
+        // Arrange
+        List<VeiculoView> veiculos = Stream.generate(VeiculoPesquisaApplicationServiceTest::veiculo).limit(3).toList();
+        when(veiculoReadRepository.findViewPage(FIAT_UNO, null, 3)).thenReturn(veiculos);
+
+        // Act
+        VeiculoPageResponseDTO pagina = service.pesquisar(
+                new VeiculoFiltroDTO(" Fiat ", "Uno", 2010, 2020, " ", "", null), null, null);
+
+        // Assert
+        assertEquals(2, pagina.items().size());
+        assertEquals(veiculos.get(0).clientePessoaId(), pagina.items().get(0).clientePessoaId());
+        assertEquals(veiculos.get(1).id(), pagina.items().get(1).veiculo().id());
+        assertNotNull(pagina.nextCursor());
+
+        // a próxima página parte do último veículo devolvido
+        when(veiculoReadRepository.findViewPage(FIAT_UNO, veiculos.get(1).id(), 3))
+                .thenReturn(List.of(veiculos.get(2)));
+        VeiculoPageResponseDTO proxima = service.pesquisar(
+                new VeiculoFiltroDTO("Fiat", "Uno", 2010, 2020, null, null, null), pagina.nextCursor(), null);
+        assertEquals(1, proxima.items().size());
+        assertNull(proxima.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo configurado")
+    void deveLimitarTamanhoDaPagina() {
+        VeiculoFiltro porChassi = new VeiculoFiltro(null, null, null, null, null, null, "9BWZZZ377VT004251");
+        when(veiculoReadRepository.findViewPage(porChassi, null, 4)).thenReturn(List.of());
+
+        VeiculoPageResponseDTO pagina = service.pesquisar(
+                new VeiculoFiltroDTO(null, null, null, null, null, null, "9BWZZZ377VT004251"), null, 50);
+
+        assertTrue(pagina.items().isEmpty());
+        assertNull(pagina.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar filtros sem índice, faixa de ano invertida, página vazia e cursor inválido")
+    void deveRejeitarPesquisasInvalidas() {
+        assertThrows(BusinessException.class, () -> service.pesquisar(null, null, null));
+        assertThrows(BusinessException.class, () -> service.pesquisar(
+                new VeiculoFiltroDTO("Fiat", null, 2010, 2020, "Prata", null, null), null, null));
+        assertThrows(BusinessException.class, () -> service.pesquisar(
+                new VeiculoFiltroDTO("Fiat", "Uno", 2020, 2010, null, null, null), null, null));
+        assertThrows(BusinessException.class, () -> service.pesquisar(
+                new VeiculoFiltroDTO("Fiat", "Uno", null, null, null, null, null), null, 0));
+        assertThrows(BusinessException.class, () -> service.pesquisar(
+                new VeiculoFiltroDTO("Fiat", "Uno", null, null, null, null, null), "não é cursor", null));
+        verify(veiculoReadRepository, never()).findViewPage(any(), any(), anyInt());
+    }
+
+    private static VeiculoView veiculo() {
+        return new VeiculoView(UUID.randomUUID(), UUID.randomUUID(), "ABC1234", null, "Fiat", "Uno", 2015, null,
+                null, 0L);
+    }
+}
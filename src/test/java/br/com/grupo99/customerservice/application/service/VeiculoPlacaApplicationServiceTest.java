@@ -0,0 +1,116 @@
+package br.com.grupo99.customerservice.application.service;
+
+import br.com.grupo99.customerservice.application.dto.VeiculoBuscaPlacasResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoBuscaPlacasResponseDTO.Item;
+import br.com.grupo99.customerservice.application.dto.VeiculoBuscaPlacasResponseDTO.Status;
+import br.com.grupo99.customerservice.application.dto.VeiculoComClienteResponseDTO;
+import br.com.grupo99.customerservice.application.dto.VeiculoPlacasRequestDTO;
+import br.com.grupo99.customerservice.application.exception.BusinessException;
+import br.com.grupo99.customerservice.application.exception.ResourceNotFoundException;
+import br.com.grupo99.customerservice.domain.repository.VeiculoReadRepository;
+import br.com.grupo99.customerservice.domain.repository.VeiculoView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VeiculoPlacaApplicationService Tests")
+class VeiculoPlacaApplicationServiceTest {
+
+    @Mock
+    private VeiculoReadRepository veiculoReadRepository;
+
+    private VeiculoPlacaApplicationService service;
+
+    @BeforeEach
+    void setup() {
+        service = new VeiculoPlacaApplicationService(veiculoReadRepository, 4);
+    }
+
+    @Test
+    @DisplayName("Deve buscar pela placa em qualquer formato e devolver o dono")
+    void deveBuscarPorPlaca() {
+        // Arrange
+        VeiculoView veiculo = veiculo("ABC1234");
+        when(veiculoReadRepository.findViewsByPlacas(List.of("ABC1C34"))).thenReturn(Map.of("ABC1C34", veiculo));
+
+        // Act
+        VeiculoComClienteResponseDTO resultado = service.buscarPorPlaca("abc-1234");
+
+        // Assert
+        assertEquals(veiculo.clientePessoaId(), resultado.clientePessoaId());
+        assertEquals(veiculo.id(), resultado.veiculo().id());
+        assertEquals("ABC1234", resultado.veiculo().placa());
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 para placa sem veículo e rejeitar placa em branco")
+    void deveTratarPlacaAusenteOuEmBranco() {
+        when(veiculoReadRepository.findViewsByPlacas(List.of("ZZZ9J99"))).thenReturn(Map.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.buscarPorPlaca("ZZZ9999"));
+        assertThrows(BusinessException.class, () -> service.buscarPorPlaca(" "));
+        verify(veiculoReadRepository, times(1)).findViewsByPlacas(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar as placas de uma vez, na ordem pedida, marcando ausentes e inválidas")
+    void deveBuscarPorPlacas() {
+        // Arrange
+        VeiculoView veiculo = veiculo("BRA2E19");
+        when(veiculoReadRepository.findViewsByPlacas(Set.of("BRA2E19", "QQQ1B11")))
+                .thenReturn(Map.of("BRA2E19", veiculo));
+
+        // Act
+        VeiculoBuscaPlacasResponseDTO resultado = service.buscarPorPlacas(
+                new VeiculoPlacasRequestDTO(Arrays.asList("bra-2e19", "QQQ1111", null, "BRA2E19")));
+
+        // Assert
+        assertEquals(2, resultado.encontrados());
+        assertEquals(2, resultado.naoEncontrados());
+        assertEquals(Arrays.asList("bra-2e19", "QQQ1111", null, "BRA2E19"),
+                resultado.itens().stream().map(Item::placa).toList());
+        assertEquals(List.of(Status.ENCONTRADO, Status.NAO_ENCONTRADO, Status.INVALIDO, Status.ENCONTRADO),
+                resultado.itens().stream().map(Item::status).toList());
+        assertEquals(veiculo.id(), resultado.itens().get(3).resultado().veiculo().id());
+        assertNull(resultado.itens().get(1).resultado());
+        verify(veiculoReadRepository, times(1)).findViewsByPlacas(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote vazio ou acima do máximo configurado")
+    void deveRejeitarLoteInvalido() {
+        assertThrows(BusinessException.class, () -> service.buscarPorPlacas(null));
+        assertThrows(BusinessException.class, () -> service.buscarPorPlacas(new VeiculoPlacasRequestDTO(List.of())));
+        assertThrows(BusinessException.class, () -> service.buscarPorPlacas(
+                new VeiculoPlacasRequestDTO(List.of("A", "B", "C", "D", "E"))));
+        verifyNoInteractions(veiculoReadRepository);
+    }
+
+    @Test
+    @DisplayName("Lote só com placas em branco não deve ir ao repositório")
+    void loteSemPlacasValidas() {
+        VeiculoBuscaPlacasResponseDTO resultado = service.buscarPorPlacas(
+                new VeiculoPlacasRequestDTO(Arrays.asList(null, " ")));
+
+        assertEquals(0, resultado.encontrados());
+        assertTrue(resultado.itens().stream().allMatch(item -> item.status() == Status.INVALIDO));
+        verifyNoInteractions(veiculoReadRepository);
+    }
+
+    private static VeiculoView veiculo(String placa) {
+        return new VeiculoView(UUID.randomUUID(), UUID.randomUUID(), placa, null, "Fiat", "Uno", 2015, null, null, 0L);
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.grupo99.customerservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Conta os statements SQL emitidos pelo Hibernate, a partir das estatísticas
+ * habilitadas em {@code application-test.properties}.
+ */
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Executa {@code action} e verifica quantos statements foram preparados.
+     */
+    public void assertQueries(long expected, Runnable action) {
+        reset();
+        action.run();
+        assertEquals(expected, count(), "Quantidade de consultas SQL");
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.grupo99.customerservice.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Guarda o SQL gerado pelo Hibernate na thread atual. Registrado com
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class SqlCaptor implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURADOS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURADOS.get().add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        CAPTURADOS.get().clear();
+    }
+
+    /**
+     * @return o único SQL emitido desde o último {@link #clear()}
+     */
+    public static String single() {
+        List<String> capturados = CAPTURADOS.get();
+        if (capturados.size() != 1) {
+            throw new IllegalStateException("Esperado um único SQL, capturados: " + capturados);
+        }
+        return capturados.get(0);
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.grupo99.customerservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Placa Tests")
+class PlacaTest {
+
+    @Test
+    @DisplayName("Placa antiga e sua versão Mercosul devem ter a mesma forma canônica")
+    void antigaEMercosulDevemCoincidir() {
+        assertEquals("ABC1C34", Placa.normalizar("ABC1234"));
+        assertEquals("ABC1C34", Placa.normalizar("ABC1C34"));
+        assertEquals("ABC1A00", Placa.normalizar("abc-1000"));
+        assertEquals("XYZ9J99", Placa.normalizar("xyz 9999"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar maiúsculas, hífen e espaços")
+    void deveIgnorarFormatacao() {
+        assertEquals("BRA2E19", Placa.normalizar(" bra-2e19 "));
+        assertEquals(Placa.normalizar("BRA2E19"), Placa.normalizar("b r a 2 e 1 9"));
+        assertEquals("BRA2E19", Placa.normalizar("BRA\t2E19\r\n"));
+    }
+
+    @Test
+    @DisplayName("Espaços Unicode não são removidos, como na migração V9")
+    void espacosUnicodeNaoSaoRemovidos() {
+        assertEquals("BRA\u20032E19", Placa.normalizar("BRA\u20032E19"));
+    }
+
+    @Test
+    @DisplayName("Fora do formato de 7 caracteres deve apenas limpar a formatação")
+    void foraDoFormatoDeveApenasLimpar() {
+        assertEquals("AB1234", Placa.normalizar("ab-1234"));
+        assertEquals("ABCD12345", Placa.normalizar("abcd12345"));
+    }
+
+    @Test
+    @DisplayName("Placa nula ou em branco não tem forma canônica")
+    void nulaOuEmBranco() {
+        assertNull(Placa.normalizar(null));
+        assertNull(Placa.normalizar(" - "));
+    }
+}
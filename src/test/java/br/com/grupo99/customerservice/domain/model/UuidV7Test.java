@@ -0,0 +1,67 @@
+package br.com.grupo99.customerservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidV7 Tests")
+class UuidV7Test {
+
+    private static final long AGORA = 1_760_000_000_000L;
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7, variante RFC, com o instante nos 48 bits altos")
+    void deveGerarVersao7() {
+        UUID uuid = new UuidV7(() -> AGORA).proximo();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(AGORA, UuidV7.epochMillis(uuid));
+    }
+
+    @Test
+    @DisplayName("Ids devem crescer mesmo no mesmo milissegundo e com o relógio voltando")
+    void deveSerMonotonico() {
+        AtomicLong relogio = new AtomicLong(AGORA);
+        UuidV7 gerador = new UuidV7(relogio::get);
+
+        List<UUID> gerados = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                relogio.set(AGORA - 1_000);
+            }
+            gerados.add(gerador.proximo());
+        }
+
+        for (int i = 1; i < gerados.size(); i++) {
+            assertTrue(gerados.get(i - 1).toString().compareTo(gerados.get(i).toString()) < 0,
+                    "fora de ordem na posição " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Contador esgotado no milissegundo deve avançar o instante")
+    void deveAvancarInstanteQuandoContadorEstoura() {
+        UuidV7 gerador = new UuidV7(() -> AGORA);
+
+        UUID ultimo = null;
+        for (int i = 0; i <= 0xFFF + 1; i++) {
+            ultimo = gerador.proximo();
+        }
+
+        assertEquals(AGORA + 1, UuidV7.epochMillis(ultimo));
+    }
+
+    @Test
+    @DisplayName("Deve recusar UUID de outra versão")
+    void deveRecusarOutraVersao() {
+        UUID v4 = UUID.randomUUID();
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.epochMillis(v4));
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.grupo99.customerservice.infrastructure.datasource;
+
+import br.com.grupo99.customerservice.application.service.CustomerApplicationService;
+import br.com.grupo99.customerservice.domain.model.Cliente;
+import br.com.grupo99.customerservice.domain.repository.ClienteRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sobe a aplicação com a réplica ligada. Primário e réplica apontam para o
+ * mesmo banco H2, que faz o papel de uma réplica sem atraso.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "datasource.replica.enabled=true",
+        "spring.datasource.hikari.connection-timeout=12345",
+        "spring.datasource.hikari.maximum-pool-size=7",
+        "datasource.replica.hikari.jdbc-url=jdbc:h2:mem:replica-routing;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "datasource.replica.hikari.maximum-pool-size=3",
+        "clientes.cache.enabled=false"})
+@ActiveProfiles("test")
+@DisplayName("ReadReplicaDataSourceConfig Tests")
+class ReadReplicaDataSourceConfigTest {
+
+    @Autowired
+    private CustomerApplicationService service;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replica;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Pool da réplica deve herdar spring.datasource.hikari.* e aceitar sobrescritas próprias")
+    void replicaHerdaConfiguracaoDoPool() {
+        assertEquals(12345, replica.getConnectionTimeout());
+        assertEquals(3, replica.getMaximumPoolSize());
+        assertEquals("replica", replica.getPoolName());
+    }
+
+    @Test
+    @DisplayName("Leituras do serviço devem usar o pool da réplica, com métricas por pool")
+    void leituraPelaReplica() {
+        UUID pessoaId = UUID.randomUUID();
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> clienteRepository.save(new Cliente(pessoaId)));
+        // o pool Hikari só é iniciado na primeira conexão pedida a ele
+        assertNull(replica.getHikariPoolMXBean());
+
+        assertEquals(pessoaId, service.buscarPorId(pessoaId).pessoaId());
+
+        assertNotNull(replica.getHikariPoolMXBean());
+        assertTrue(replica.isReadOnly());
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge());
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.grupo99.customerservice.infrastructure.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final long JANELA_MS = 2000;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private DataSource primary;
+    private DataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+
+    @BeforeEach
+    void setUp() {
+        primary = banco("primary");
+        replica = banco("replica");
+        usarInstancia(novoTracker());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Transação somente leitura deve ir à réplica")
+    void leituraNaReplica() {
+        assertEquals("replica", leitura.execute(status -> origem()));
+    }
+
+    @Test
+    @DisplayName("Transação de escrita e acesso fora de transação devem ir ao primário")
+    void escritaNoPrimario() {
+        assertEquals("primary", escrita.execute(status -> origem()));
+        assertEquals("primary", origem());
+    }
+
+    @Test
+    @DisplayName("Após escrever, o mesmo chamador deve ler do primário durante a janela")
+    void deveLerAsPropriasEscritas() {
+        autenticar("ana");
+        escrita.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origem SET escritas = escritas + 1"));
+
+        assertEquals("primary", leitura.execute(status -> origem()));
+
+        autenticar("bruno");
+        assertEquals("replica", leitura.execute(status -> origem()));
+
+        autenticar("ana");
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(JANELA_MS + 1));
+        assertEquals("replica", leitura.execute(status -> origem()));
+    }
+
+    @Test
+    @DisplayName("A marca da escrita deve voltar no cookie e valer em outra instância durante a janela")
+    void marcaDaEscritaDeveValerEmOutraInstancia() {
+        MockHttpServletResponse resposta = new MockHttpServletResponse();
+        emRequisicao(new MockHttpServletRequest(), resposta);
+        escrita.executeWithoutResult(status -> jdbcTemplate.update("UPDATE origem SET escritas = escritas + 1"));
+        Cookie marca = resposta.getCookie(ReadYourWritesTracker.COOKIE);
+        assertNotNull(marca);
+        assertTrue(marca.isHttpOnly());
+
+        // outra instância, sem a janela em memória; o IP muda, como atrás de um proxy
+        usarInstancia(novoTracker());
+        MockHttpServletRequest seguinte = new MockHttpServletRequest();
+        seguinte.setRemoteAddr("10.0.0.9");
+        seguinte.setCookies(marca);
+        emRequisicao(seguinte, new MockHttpServletResponse());
+        assertEquals("primary", leitura.execute(status -> origem()));
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(JANELA_MS + 1));
+        assertEquals("replica", leitura.execute(status -> origem()));
+
+        seguinte.setCookies(new Cookie(ReadYourWritesTracker.COOKIE, "invalido"));
+        assertEquals("replica", leitura.execute(status -> origem()));
+    }
+
+    @Test
+    @DisplayName("Deve informar a leitura na réplica e ler do primário quando pedido")
+    void deveExporARota() {
+        assertEquals(Boolean.TRUE, leitura.execute(status -> {
+            origem();
+            return ReplicaRoutingDataSource.leuDaReplica();
+        }));
+        assertFalse(ReplicaRoutingDataSource.leuDaReplica());
+
+        assertEquals("primary", leitura.execute(status -> {
+            String origem = ReplicaRoutingDataSource.noPrimario(this::origem);
+            assertFalse(ReplicaRoutingDataSource.leuDaReplica());
+            return origem;
+        }));
+
+        // a conexão já foi aberta na réplica: o pedido não muda a rota
+        assertEquals("replica", leitura.execute(status -> {
+            origem();
+            String origem = ReplicaRoutingDataSource.noPrimario(this::origem);
+            assertTrue(ReplicaRoutingDataSource.leuDaReplica());
+            return origem;
+        }));
+    }
+
+    @Test
+    @DisplayName("Escrita desfeita não deve abrir a janela")
+    void rollbackNaoAbreJanela() {
+        autenticar("ana");
+        escrita.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE origem SET escritas = escritas + 1");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", leitura.execute(status -> origem()));
+    }
+
+    private ReadYourWritesTracker novoTracker() {
+        return new ReadYourWritesTracker(Duration.ofMillis(JANELA_MS), nanos::get,
+                () -> TimeUnit.NANOSECONDS.toMillis(nanos.get()));
+    }
+
+    private void usarInstancia(ReadYourWritesTracker tracker) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, tracker);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    private static void emRequisicao(MockHttpServletRequest request, MockHttpServletResponse response) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    private String origem() {
+        return jdbcTemplate.queryForObject("SELECT nome FROM origem", String.class);
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(usuario, null, "ROLE_USER"));
+    }
+
+    private static DataSource banco(String nome) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + nome + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE origem (nome VARCHAR(20), escritas INT)");
+        jdbc.update("INSERT INTO origem VALUES (?, 0)", nome);
+        return dataSource;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.grupo99.customerservice.infrastructure.security.authorization;
+
+import br.com.grupo99.customerservice.infrastructure.config.SecurityConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de autorização por requisição: as comparações de string do filtro
+ * antigo contra uma busca na {@link RoutePermissionTable} compilada. Os
+ * {@code @PreAuthorize} do controller não entram: sem method security
+ * habilitado, nunca foram avaliados.
+ *
+ * Execução: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=br.com.grupo99.customerservice.infrastructure.security.authorization.RoutePermissionTableBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutePermissionTableBenchmark {
+
+    @Param({"/api/v1/clientes/2f7c1d1e-0000-0000-0000-000000000001/veiculos/7a1b", "/api/v1/execucoes"})
+    private String path;
+
+    @Param({"CLIENTE", "MECANICO"})
+    private String perfil;
+
+    private final String method = "GET";
+    private RoutePermissionTable table;
+
+    @Setup
+    public void setUp() {
+        table = SecurityConfig.routePermissionTable();
+    }
+
+    @Benchmark
+    public boolean comparacoesDeString() {
+        // filtro antigo
+        if ("MECANICO".equals(perfil) || "ADMIN".equals(perfil)) {
+            return true;
+        }
+        if ("CLIENTE".equals(perfil)) {
+            if ("/api/v1/execucoes".equals(path) || "/api/v1/execution".equals(path)) {
+                return false;
+            }
+            return "GET".equals(method);
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean tabelaCompilada() {
+        return table.isAllowed(method, path, perfil);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RoutePermissionTableBenchmark.class.getSimpleName()).build()).run();
+    }
+}
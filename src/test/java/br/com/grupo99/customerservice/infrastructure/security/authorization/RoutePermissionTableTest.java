@@ -0,0 +1,91 @@
+package br.com.grupo99.customerservice.infrastructure.security.authorization;
+
+import br.com.grupo99.customerservice.infrastructure.config.SecurityConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RoutePermissionTable Tests")
+class RoutePermissionTableTest {
+
+    private static final String VEICULOS = "/api/v1/clientes/2f7c1d1e-0000-0000-0000-000000000001/veiculos";
+
+    private final RoutePermissionTable table = SecurityConfig.routePermissionTable();
+
+    @Test
+    @DisplayName("Deve permitir qualquer método para ADMIN e MECANICO")
+    void devePermitirAdminEMecanico() {
+        assertTrue(table.isAllowed("POST", "/api/v1/clientes", "ADMIN"));
+        assertTrue(table.isAllowed("DELETE", "/api/v1/clientes/123", "MECANICO"));
+        assertTrue(table.isAllowed("GET", "/api/v1/execucoes", "MECANICO"));
+        assertTrue(table.isAllowed("POST", "/actuator/refresh", "MECANICO"));
+    }
+
+    @Test
+    @DisplayName("Deve restringir CLIENTE a consultas")
+    void deveRestringirClienteAConsultas() {
+        assertTrue(table.isAllowed("GET", "/api/v1/clientes/123", "CLIENTE"));
+        assertFalse(table.isAllowed("POST", "/api/v1/clientes", "CLIENTE"));
+        assertFalse(table.isAllowed("GET", "/api/v1/execucoes", "CLIENTE"));
+        assertFalse(table.isAllowed("GET", "/api/v1/execution/", "CLIENTE"));
+        assertTrue(table.isAllowed("GET", "/api/v1/execucoes/42", "CLIENTE"));
+        assertFalse(table.isAllowed("GET", "/api/v1/clientes/export", "CLIENTE"));
+        assertFalse(table.isAllowed("GET", "/api/v1/clientes/export", "MECANICO"));
+        assertTrue(table.isAllowed("GET", "/api/v1/clientes/export", "ADMIN"));
+        assertFalse(table.isAllowed("POST", "/api/v1/clientes/lote", "MECANICO"));
+        assertTrue(table.isAllowed("POST", "/api/v1/clientes/lote", "ADMIN"));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as regras de veículos por perfil")
+    void deveAplicarRegrasDeVeiculos() {
+        assertTrue(table.isAllowed("PUT", VEICULOS + "/abc", "ADMIN"));
+        assertTrue(table.isAllowed("GET", VEICULOS, "CLIENTE"));
+        assertTrue(table.isAllowed("GET", VEICULOS + "/abc", "CLIENTE"));
+        assertFalse(table.isAllowed("DELETE", VEICULOS + "/abc", "CLIENTE"));
+        assertTrue(table.isAllowed("GET", VEICULOS, "MECANICO"));
+        assertTrue(table.isAllowed("DELETE", VEICULOS + "/abc", "MECANICO"));
+        assertTrue(table.isAllowed("GET", "/api/v1/veiculos/placas/ABC1D23", "ADMIN"));
+        assertFalse(table.isAllowed("GET", "/api/v1/veiculos/placas/ABC1D23", "CLIENTE"));
+        assertFalse(table.isAllowed("POST", "/api/v1/veiculos/placas/busca", "MECANICO"));
+        assertTrue(table.isAllowed("GET", "/api/v1/veiculos", "ADMIN"));
+        assertFalse(table.isAllowed("GET", "/api/v1/veiculos", "CLIENTE"));
+    }
+
+    @Test
+    @DisplayName("Deve liberar perfis fora da tabela e restringir CLIENTE a consultas também fora da API")
+    void deveTratarPerfisDesconhecidosERotasForaDaApi() {
+        assertTrue(table.isAllowed("DELETE", "/api/v1/clientes/123", "ATENDENTE"));
+        assertTrue(table.isAllowed("GET", "/api/v1/clientes/export", "ATENDENTE"));
+        assertTrue(table.isAllowed("GET", "/actuator/prometheus", "CLIENTE"));
+        assertFalse(table.isAllowed("POST", "/actuator/refresh", "CLIENTE"));
+    }
+
+    @Test
+    @DisplayName("Deve preferir literal a variável e voltar ao curinga quando o método não casa")
+    void devePreferirRegraMaisEspecifica() {
+        RoutePermissionTable custom = RoutePermissionTable.builder()
+                .allow("*", "/a/**", "X")
+                .allow("GET", "/a/{id}", "Y")
+                .allow("GET", "/a/fixo", "Z")
+                .build();
+
+        assertEquals(Set.of("Z"), custom.resolve("GET", "/a/fixo"));
+        assertEquals(Set.of("Y"), custom.resolve("GET", "/a/outro"));
+        assertEquals(Set.of("X"), custom.resolve("POST", "/a/fixo"));
+        assertEquals(Set.of("X"), custom.resolve("GET", "/a"));
+        assertNull(custom.resolve("GET", "/b"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar templates inválidos e regras duplicadas")
+    void deveRejeitarTemplatesInvalidos() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RoutePermissionTable.builder().allow("GET", "/a/**/b", "X"));
+        assertThrows(IllegalArgumentException.class,
+                () -> RoutePermissionTable.builder().allow("GET", "/a", "X").allow("get", "/a", "Y"));
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AuthFailureLogger Tests")
+class AuthFailureLoggerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AuthFailureLogger failureLogger = new AuthFailureLogger(60000, nanos::get);
+
+    @Test
+    @DisplayName("Deve permitir uma linha de log por motivo a cada intervalo")
+    void devePermitirUmaLinhaPorIntervalo() {
+        assertTrue(failureLogger.tryAcquire(JwtAuthMetrics.Reason.EXPIRED));
+        assertFalse(failureLogger.tryAcquire(JwtAuthMetrics.Reason.EXPIRED));
+        assertTrue(failureLogger.tryAcquire(JwtAuthMetrics.Reason.BAD_SIGNATURE));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertTrue(failureLogger.tryAcquire(JwtAuthMetrics.Reason.EXPIRED));
+    }
+
+    @Test
+    @DisplayName("Resumo deve agregar as ocorrências por motivo e zerar os contadores")
+    void resumoDeveAgregarEZerar() {
+        for (int i = 0; i < 5; i++) {
+            failureLogger.record(JwtAuthMetrics.Reason.BAD_SIGNATURE, "assinatura inválida");
+        }
+        failureLogger.record(JwtAuthMetrics.Reason.EXPIRED, "expirado");
+        failureLogger.recordUnexpected(new IllegalStateException("falha"));
+
+        assertEquals(Map.of(JwtAuthMetrics.Reason.BAD_SIGNATURE, 5L, JwtAuthMetrics.Reason.EXPIRED, 1L,
+                JwtAuthMetrics.Reason.OTHER, 1L), failureLogger.drain());
+        assertTrue(failureLogger.drain().isEmpty());
+    }
+}
@@ -1,31 +1,38 @@
 package br.com.grupo99.customerservice.infrastructure.security.jwt;
 
+import br.com.grupo99.customerservice.infrastructure.config.SecurityConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Map;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("JwtAuthorizationFilter Tests")
 class JwtAuthorizationFilterTest {
 
-    @Mock
-    private JwtUtil jwtUtil;
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LXdpdGgtbWluaW11bS0yNTYtYml0cy1mb3ItSFMyNTYtc2lnbmluZy1hbGdvcml0aG0=";
 
-    @InjectMocks
     private JwtAuthorizationFilter filter;
 
     @Mock
@@ -38,66 +45,68 @@ class JwtAuthorizationFilterTest {
     @BeforeEach
     void setUp() {
         SecurityContextHolder.clearContext();
+        filter = new JwtAuthorizationFilter(SecurityConfig.routePermissionTable(),
+                new JwtAuthMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
-    @DisplayName("Deve continuar sem header Authorization")
-    void deveContinuarSemHeader() throws Exception {
-        when(request.getHeader("Authorization")).thenReturn(null);
+    @DisplayName("Deve continuar sem autenticação")
+    void deveContinuarSemAutenticacao() throws Exception {
         filter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
     }
 
     @Test
-    @DisplayName("Deve continuar com header sem Bearer")
-    void deveContinuarSemBearer() throws Exception {
-        when(request.getHeader("Authorization")).thenReturn("Basic xyz");
+    @DisplayName("Deve continuar quando o principal não vem de um JWT")
+    void deveContinuarComPrincipalNaoJwt() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user", null, java.util.Collections.emptyList()));
         filter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(response);
     }
 
     @Test
-    @DisplayName("Deve continuar sem autenticação")
-    void deveContinuarSemAutenticacao() throws Exception {
-        when(request.getHeader("Authorization")).thenReturn("Bearer token");
-        // No authentication in context
+    @DisplayName("Deve permitir acesso para ADMIN")
+    void devePermitirAcessoParaAdmin() throws Exception {
+        setupAuthenticatedContext("ADMIN", UUID.randomUUID().toString());
+        when(request.getRequestURI()).thenReturn("/api/v1/clientes/" + UUID.randomUUID() + "/veiculos");
+        when(request.getMethod()).thenReturn("POST");
+
         filter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
     }
 
     @Test
-    @DisplayName("Deve permitir acesso para ADMIN")
-    void devePermitirAcessoParaAdmin() throws Exception {
-        setupAuthenticatedContext();
-        when(request.getHeader("Authorization")).thenReturn("Bearer token");
-        when(jwtUtil.extractPerfil("token")).thenReturn("ADMIN");
-        when(jwtUtil.extractPessoaId("token")).thenReturn(java.util.UUID.randomUUID().toString());
+    @DisplayName("Deve permitir acesso para MECANICO")
+    void devePermitirAcessoParaMecanico() throws Exception {
+        setupAuthenticatedContext("MECANICO", UUID.randomUUID().toString());
+        when(request.getRequestURI()).thenReturn("/api/v1/execucoes");
+        when(request.getMethod()).thenReturn("GET");
 
         filter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
     }
 
     @Test
-    @DisplayName("Deve permitir acesso para MECANICO")
-    void devePermitirAcessoParaMecanico() throws Exception {
-        setupAuthenticatedContext();
-        when(request.getHeader("Authorization")).thenReturn("Bearer token");
-        when(jwtUtil.extractPerfil("token")).thenReturn("MECANICO");
-        when(jwtUtil.extractPessoaId("token")).thenReturn(java.util.UUID.randomUUID().toString());
+    @DisplayName("Deve deixar passar perfil que não aparece na tabela, como o filtro anterior")
+    void devePermitirPerfilForaDaTabela() throws Exception {
+        setupAuthenticatedContext("ATENDENTE", UUID.randomUUID().toString());
+        when(request.getRequestURI()).thenReturn("/api/v1/clientes/" + UUID.randomUUID());
+        when(request.getMethod()).thenReturn("DELETE");
 
         filter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
+        verify(request, never()).setAttribute(anyString(), any());
     }
 
     @Test
     @DisplayName("Deve negar acesso CLIENTE para listar execuções")
     void deveNegarAcessoClienteListarExecucoes() throws Exception {
-        setupAuthenticatedContext();
+        setupAuthenticatedContext("CLIENTE", UUID.randomUUID().toString());
         StringWriter sw = new StringWriter();
-        when(request.getHeader("Authorization")).thenReturn("Bearer token");
-        when(jwtUtil.extractPerfil("token")).thenReturn("CLIENTE");
-        when(jwtUtil.extractPessoaId("token")).thenReturn(java.util.UUID.randomUUID().toString());
         when(request.getRequestURI()).thenReturn("/api/v1/execucoes");
+        when(request.getMethod()).thenReturn("GET");
         when(response.getWriter()).thenReturn(new PrintWriter(sw));
 
         filter.doFilterInternal(request, response, filterChain);
@@ -107,12 +116,10 @@ class JwtAuthorizationFilterTest {
     @Test
     @DisplayName("Deve negar acesso CLIENTE para listar execution")
     void deveNegarAcessoClienteListarExecution() throws Exception {
-        setupAuthenticatedContext();
+        setupAuthenticatedContext("CLIENTE", UUID.randomUUID().toString());
         StringWriter sw = new StringWriter();
-        when(request.getHeader("Authorization")).thenReturn("Bearer token");
-        when(jwtUtil.extractPerfil("token")).thenReturn("CLIENTE");
-        when(jwtUtil.extractPessoaId("token")).thenReturn(java.util.UUID.randomUUID().toString());
         when(request.getRequestURI()).thenReturn("/api/v1/execution");
+        when(request.getMethod()).thenReturn("GET");
         when(response.getWriter()).thenReturn(new PrintWriter(sw));
 
         filter.doFilterInternal(request, response, filterChain);
@@ -122,11 +129,8 @@ class JwtAuthorizationFilterTest {
     @Test
     @DisplayName("Deve negar acesso CLIENTE para métodos não-GET")
     void deveNegarAcessoClienteMetodoNaoGet() throws Exception {
-        setupAuthenticatedContext();
+        setupAuthenticatedContext("CLIENTE", UUID.randomUUID().toString());
         StringWriter sw = new StringWriter();
-        when(request.getHeader("Authorization")).thenReturn("Bearer token");
-        when(jwtUtil.extractPerfil("token")).thenReturn("CLIENTE");
-        when(jwtUtil.extractPessoaId("token")).thenReturn(java.util.UUID.randomUUID().toString());
         when(request.getRequestURI()).thenReturn("/api/v1/something");
         when(request.getMethod()).thenReturn("POST");
         when(response.getWriter()).thenReturn(new PrintWriter(sw));
@@ -135,14 +139,23 @@ class JwtAuthorizationFilterTest {
         verify(response).setStatus(HttpServletResponse.SC_FORBIDDEN);
     }
 
+    @Test
+    @DisplayName("Deve permitir acesso MECANICO aos veículos do cliente")
+    void devePermitirAcessoMecanicoVeiculos() throws Exception {
+        setupAuthenticatedContext("MECANICO", UUID.randomUUID().toString());
+        when(request.getRequestURI()).thenReturn("/api/v1/clientes/" + UUID.randomUUID() + "/veiculos");
+        when(request.getMethod()).thenReturn("POST");
+
+        filter.doFilterInternal(request, response, filterChain);
+        verify(filterChain).doFilter(request, response);
+        verify(response, never()).setStatus(anyInt());
+    }
+
     @Test
     @DisplayName("Deve permitir acesso CLIENTE para método GET")
     void devePermitirAcessoClienteMetodoGet() throws Exception {
-        setupAuthenticatedContext();
-        String pessoaId = java.util.UUID.randomUUID().toString();
-        when(request.getHeader("Authorization")).thenReturn("Bearer token");
-        when(jwtUtil.extractPerfil("token")).thenReturn("CLIENTE");
-        when(jwtUtil.extractPessoaId("token")).thenReturn(pessoaId);
+        String pessoaId = UUID.randomUUID().toString();
+        setupAuthenticatedContext("CLIENTE", pessoaId);
         when(request.getRequestURI()).thenReturn("/api/v1/something");
         when(request.getMethod()).thenReturn("GET");
 
@@ -152,8 +165,35 @@ class JwtAuthorizationFilterTest {
         verify(request).setAttribute("perfil", "CLIENTE");
     }
 
-    private void setupAuthenticatedContext() {
-        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken("user", null, java.util.Collections.emptyList());
+    @Test
+    @DisplayName("Cadeia de autenticação deve fazer um único parse do token por requisição")
+    void cadeiaDeveFazerUmUnicoParsePorRequisicao() throws Exception {
+        JwtUtil jwtUtil = spy(new JwtUtil(new JwtKeyRing(SECRET, "", "", event -> {
+        }), 3600000L));
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100, 10000, new SimpleMeterRegistry());
+        JwtRequestFilter requestFilter = new JwtRequestFilter(jwtUtil, cache,
+                new JwtAuthMetrics(new SimpleMeterRegistry()), new AuthFailureLogger(60000));
+        String pessoaId = UUID.randomUUID().toString();
+        String token = jwtUtil.generateToken(
+                Map.of("pessoaId", pessoaId, "numeroDocumento", "12345678901", "tipoPessoa", "FISICA",
+                        "perfil", "CLIENTE"),
+                JwtUserDetails.from("user", pessoaId, "12345678901", "FISICA", null, "CLIENTE"));
+        clearInvocations(jwtUtil);
+
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest("GET", "/api/v1/clientes/" + pessoaId);
+        httpRequest.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse httpResponse = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {
+        }, requestFilter, filter).doFilter(httpRequest, httpResponse);
+
+        verify(jwtUtil, times(1)).parseToken(anyString());
+        assertEquals(pessoaId, httpRequest.getAttribute("pessoaId"));
+    }
+
+    private void setupAuthenticatedContext(String perfil, String pessoaId) {
+        JwtUserDetails userDetails = JwtUserDetails.from("user", pessoaId, "12345678901", "FISICA", null, perfil);
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(userDetails, null,
+                userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(auth);
     }
 }
@@ -0,0 +1,152 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtKeyRing Tests")
+class JwtKeyRingTest {
+
+    private static final String DEFAULT_SECRET = segredo('d');
+    private static final String SECRET_A = segredo('a');
+    private static final String SECRET_B = segredo('b');
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Object> eventos = new ArrayList<>();
+
+    @Test
+    @DisplayName("Deve usar jwt.secret para tokens sem kid")
+    void deveUsarSecretPadraoSemKid() {
+        JwtKeyRing keyRing = new JwtKeyRing(DEFAULT_SECRET, "", "", eventos::add);
+        JwtUtil jwtUtil = new JwtUtil(keyRing, 60000L);
+
+        assertEquals("user", jwtUtil.parseToken(token(DEFAULT_SECRET, null)).subject());
+        assertNull(keyRing.activeKid());
+    }
+
+    @Test
+    @DisplayName("Deve selecionar a chave pelo kid")
+    void deveSelecionarChavePeloKid() throws Exception {
+        Path arquivo = escreverChaves("a=" + SECRET_A + "\nb=" + SECRET_B + "\n");
+        JwtUtil jwtUtil = new JwtUtil(new JwtKeyRing(DEFAULT_SECRET, arquivo.toString(), "b", eventos::add), 60000L);
+
+        assertEquals("user", jwtUtil.parseToken(token(SECRET_A, "a")).subject());
+        assertEquals("user", jwtUtil.parseToken(token(SECRET_B, "b")).subject());
+        assertThrows(SignatureException.class, () -> jwtUtil.parseToken(token(SECRET_A, "b")));
+        assertThrows(SignatureException.class, () -> jwtUtil.parseToken(token(SECRET_A, "x")));
+    }
+
+    @Test
+    @DisplayName("Deve assinar novos tokens com a chave ativa")
+    void deveAssinarComChaveAtiva() throws Exception {
+        Path arquivo = escreverChaves("b=" + SECRET_B + "\n");
+        JwtKeyRing keyRing = new JwtKeyRing(DEFAULT_SECRET, arquivo.toString(), "b", eventos::add);
+        JwtUtil jwtUtil = new JwtUtil(keyRing, 60000L);
+        String pessoaId = UUID.randomUUID().toString();
+
+        String token = jwtUtil.generateToken(JwtUserDetails.from("user", pessoaId, "1", "FISICA", null, "ADMIN"));
+
+        assertEquals("b", Jwts.parserBuilder().setSigningKeyResolver(keyRing).build().parseClaimsJws(token)
+                .getHeader().getKeyId());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar chaves sem restart e avisar sobre revogação")
+    void deveRecarregarChaves() throws Exception {
+        Path arquivo = escreverChaves("a=" + SECRET_A + "\n");
+        JwtKeyRing keyRing = new JwtKeyRing(DEFAULT_SECRET, arquivo.toString(), "", eventos::add);
+        JwtUtil jwtUtil = new JwtUtil(keyRing, 60000L);
+        assertThrows(SignatureException.class, () -> jwtUtil.parseToken(token(SECRET_B, "b")));
+
+        Files.writeString(arquivo, "b=" + SECRET_B + "\n");
+        Files.setLastModifiedTime(arquivo, FileTime.from(Instant.now().plusSeconds(5)));
+        keyRing.reload();
+
+        assertEquals("user", jwtUtil.parseToken(token(SECRET_B, "b")).subject());
+        assertThrows(SignatureException.class, () -> jwtUtil.parseToken(token(SECRET_A, "a")));
+        assertEquals(2, eventos.size());
+        assertInstanceOf(JwtKeyRing.KeysRevokedEvent.class, eventos.get(0));
+        assertInstanceOf(JwtKeyRing.KeysAddedEvent.class, eventos.get(1));
+    }
+
+    @Test
+    @DisplayName("Troca do segredo mantendo o kid deve revogar a chave antiga")
+    void trocaDeSegredoComMesmoKidDeveRevogar() throws Exception {
+        Path arquivo = escreverChaves("a=" + SECRET_A + "\n");
+        JwtKeyRing keyRing = new JwtKeyRing(DEFAULT_SECRET, arquivo.toString(), "", eventos::add);
+        JwtUtil jwtUtil = new JwtUtil(keyRing, 60000L);
+
+        Files.writeString(arquivo, "a=" + SECRET_B + "\n");
+        Files.setLastModifiedTime(arquivo, FileTime.from(Instant.now().plusSeconds(5)));
+        keyRing.reload();
+
+        assertThrows(SignatureException.class, () -> jwtUtil.parseToken(token(SECRET_A, "a")));
+        assertEquals("user", jwtUtil.parseToken(token(SECRET_B, "a")).subject());
+        assertInstanceOf(JwtKeyRing.KeysRevokedEvent.class, eventos.get(0));
+    }
+
+    @Test
+    @DisplayName("Segredo curto no arquivo deve manter as chaves anteriores")
+    void segredoCurtoDeveManterChavesAnteriores() throws Exception {
+        Path arquivo = escreverChaves("a=" + SECRET_A + "\n");
+        JwtKeyRing keyRing = new JwtKeyRing(DEFAULT_SECRET, arquivo.toString(), "", eventos::add);
+        JwtUtil jwtUtil = new JwtUtil(keyRing, 60000L);
+
+        Files.writeString(arquivo, "a=" + Base64.getEncoder().encodeToString("curto".getBytes()) + "\n");
+        Files.setLastModifiedTime(arquivo, FileTime.from(Instant.now().plusSeconds(5)));
+        keyRing.reload();
+
+        assertEquals("user", jwtUtil.parseToken(token(SECRET_A, "a")).subject());
+        assertTrue(eventos.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve falhar na inicialização se a chave ativa não existir")
+    void deveFalharSemChaveAtiva() throws Exception {
+        Path arquivo = escreverChaves("a=" + SECRET_A + "\n");
+        assertThrows(IllegalStateException.class,
+                () -> new JwtKeyRing(DEFAULT_SECRET, arquivo.toString(), "z", eventos::add));
+    }
+
+    private Path escreverChaves(String conteudo) throws Exception {
+        Path arquivo = tempDir.resolve("jwt-keys.properties");
+        Files.writeString(arquivo, conteudo);
+        return arquivo;
+    }
+
+    private static String token(String secret, String kid) {
+        var builder = Jwts.builder().setSubject("user")
+                .claim("pessoaId", UUID.randomUUID().toString())
+                .claim("numeroDocumento", "12345678901")
+                .claim("tipoPessoa", "FISICA")
+                .claim("perfil", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000));
+        if (kid != null) {
+            builder.setHeaderParam("kid", kid);
+        }
+        return builder.signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static String segredo(char c) {
+        return Base64.getEncoder().encodeToString(String.valueOf(c).repeat(32).getBytes());
+    }
+}
@@ -1,5 +1,8 @@
 package br.com.grupo99.customerservice.infrastructure.security.jwt;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -9,9 +12,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +29,17 @@ class JwtRequestFilterTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Spy
+    private VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(false, 100, 10000, new SimpleMeterRegistry());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private JwtAuthMetrics metrics = new JwtAuthMetrics(meterRegistry);
+
+    @Spy
+    private AuthFailureLogger failureLogger = new AuthFailureLogger(60000);
+
     @InjectMocks
     private JwtRequestFilter filter;
 
@@ -50,33 +69,37 @@ class JwtRequestFilterTest {
         when(request.getHeader("Authorization")).thenReturn("Basic xxx");
         filter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
+        assertEquals(1.0, falhas("malformed_header"));
     }
 
     @Test
     @DisplayName("Deve autenticar com token válido")
     void deveAutenticarComTokenValido() throws Exception {
         String token = "valid-token";
-        JwtUserDetails userDetails = JwtUserDetails.from("user", java.util.UUID.randomUUID().toString(), "12345678901", "FISICA", "MECANICO", "ADMIN");
-        
+        JwtClaims claims = new JwtClaims("user", java.util.UUID.randomUUID().toString(), "12345678901", "FISICA", "MECANICO", "ADMIN", null, null);
+        JwtUserDetails userDetails = JwtUserDetails.from(claims);
+
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.extractUserDetails(token)).thenReturn(userDetails);
-        when(jwtUtil.isTokenValid(token, userDetails)).thenReturn(true);
+        when(jwtUtil.parseToken(token)).thenReturn(claims);
+        when(jwtUtil.isTokenValid(claims, userDetails)).thenReturn(true);
 
         filter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil).isTokenValid(token, userDetails);
+        verify(jwtUtil, times(1)).parseToken(token);
+        verify(jwtUtil).isTokenValid(claims, userDetails);
     }
 
     @Test
     @DisplayName("Deve limpar contexto com token inválido")
     void deveLimparContextoComTokenInvalido() throws Exception {
         String token = "invalid-token";
-        JwtUserDetails userDetails = JwtUserDetails.from("user", java.util.UUID.randomUUID().toString(), "12345678901", "FISICA", "MECANICO", "ADMIN");
-        
+        JwtClaims claims = new JwtClaims("user", java.util.UUID.randomUUID().toString(), "12345678901", "FISICA", "MECANICO", "ADMIN", null, null);
+        JwtUserDetails userDetails = JwtUserDetails.from(claims);
+
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.extractUserDetails(token)).thenReturn(userDetails);
-        when(jwtUtil.isTokenValid(token, userDetails)).thenReturn(false);
+        when(jwtUtil.parseToken(token)).thenReturn(claims);
+        when(jwtUtil.isTokenValid(claims, userDetails)).thenReturn(false);
 
         filter.doFilterInternal(request, response, filterChain);
 
@@ -84,22 +107,79 @@ class JwtRequestFilterTest {
     }
 
     @Test
-    @DisplayName("Deve tratar IllegalArgumentException")
-    void deveTratarIllegalArgumentException() throws Exception {
-        when(request.getHeader("Authorization")).thenReturn("Bearer bad-token");
-        when(jwtUtil.extractUserDetails("bad-token")).thenThrow(new IllegalArgumentException("invalid"));
+    @DisplayName("Token vazio deve contar como header malformado, sem verificar")
+    void deveTratarTokenVazio() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn("Bearer  ");
+
+        filter.doFilterInternal(request, response, filterChain);
+        verify(filterChain).doFilter(request, response);
+        verify(jwtUtil, never()).parseToken(anyString());
+        assertEquals(1.0, falhas("malformed_header"));
+    }
+
+    @Test
+    @DisplayName("Token assinado com pessoaId que não é UUID deve contar como claim inválida")
+    void deveTratarClaimInvalida() throws Exception {
+        JwtClaims claims = new JwtClaims("user", "nao-e-uuid", "12345678901", "FISICA", "MECANICO", "ADMIN", null, null);
+        when(request.getHeader("Authorization")).thenReturn("Bearer token-assinado");
+        when(jwtUtil.parseToken("token-assinado")).thenReturn(claims);
 
         filter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
+        assertEquals(1.0, falhas("invalid_claim"));
+        assertEquals(0.0, falhas("malformed_header"));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Deve contar falhas por motivo")
+    void deveContarFalhasPorMotivo() throws Exception {
+        when(request.getHeader("Authorization")).thenReturn("Bearer t1", "Bearer t2", "Bearer t3");
+        when(jwtUtil.parseToken("t1")).thenThrow(new ExpiredJwtException(null, null, "expirado"));
+        when(jwtUtil.parseToken("t2")).thenThrow(new SignatureException("assinatura"));
+        when(jwtUtil.parseToken("t3")).thenThrow(new MissingClaimException("perfil"));
+
+        filter.doFilterInternal(request, response, filterChain);
+        filter.doFilterInternal(request, response, filterChain);
+        filter.doFilterInternal(request, response, filterChain);
+
+        assertEquals(1.0, falhas("expired"));
+        assertEquals(1.0, falhas("bad_signature"));
+        assertEquals(1.0, falhas("missing_perfil"));
+        assertEquals(0.0, falhas("missing_pessoa_id"));
+        assertEquals(3, meterRegistry.get(JwtAuthMetrics.FILTER_TIMER).tag("filter", "authentication").timer()
+                .count());
     }
 
     @Test
     @DisplayName("Deve tratar exceção genérica")
     void deveTratarExcecaoGenerica() throws Exception {
         when(request.getHeader("Authorization")).thenReturn("Bearer bad-token");
-        when(jwtUtil.extractUserDetails("bad-token")).thenThrow(new RuntimeException("error"));
+        when(jwtUtil.parseToken("bad-token")).thenThrow(new RuntimeException("error"));
 
         filter.doFilterInternal(request, response, filterChain);
         verify(filterChain).doFilter(request, response);
     }
+
+    @Test
+    @DisplayName("Token recusado repetido deve ser rejeitado sem nova verificação")
+    void tokenRecusadoRepetidoNaoDeveSerVerificadoDeNovo() throws Exception {
+        JwtRequestFilter filterComCache = new JwtRequestFilter(jwtUtil,
+                new VerifiedTokenCache(true, 100, 10000, meterRegistry), metrics, failureLogger);
+        when(request.getHeader("Authorization")).thenReturn("Bearer lixo");
+        when(jwtUtil.parseToken("lixo")).thenThrow(new SignatureException("assinatura"));
+
+        for (int i = 0; i < 3; i++) {
+            filterComCache.doFilterInternal(request, response, filterChain);
+        }
+
+        verify(jwtUtil, times(1)).parseToken("lixo");
+        verify(filterChain, times(3)).doFilter(request, response);
+        assertEquals(3.0, falhas("bad_signature"));
+        verify(failureLogger, times(3)).record(eq(JwtAuthMetrics.Reason.BAD_SIGNATURE), anyString());
+    }
+
+    private double falhas(String reason) {
+        return meterRegistry.get(JwtAuthMetrics.FAILURES_COUNTER).tag("reason", reason).counter().count();
+    }
 }
@@ -0,0 +1,88 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de CPU da autenticação JWT por requisição: fluxo antigo (um parse por
+ * claim nos dois filtros) contra o fluxo com parse único, e verificação com
+ * chave/parser montados a cada chamada contra o parser compartilhado.
+ *
+ * Execução: {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=br.com.grupo99.customerservice.infrastructure.security.jwt.JwtUtilBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET =
+            "dGVzdC1zZWNyZXQta2V5LXdpdGgtbWluaW11bS0yNTYtYml0cy1mb3ItSFMyNTYtc2lnbmluZy1hbGdvcml0aG0=";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(new JwtKeyRing(SECRET, "", "", event -> {
+        }), 3600000L);
+        String pessoaId = UUID.randomUUID().toString();
+        token = jwtUtil.generateToken(
+                Map.of("pessoaId", pessoaId, "numeroDocumento", "12345678901", "tipoPessoa", "FISICA",
+                        "perfil", "CLIENTE"),
+                JwtUserDetails.from("user", pessoaId, "12345678901", "FISICA", null, "CLIENTE"));
+    }
+
+    @Benchmark
+    public void parsePorClaim(Blackhole bh) {
+        // JwtRequestFilter: uma verificação por claim + duas em isTokenValid
+        JwtUserDetails userDetails = JwtUserDetails.from(jwtUtil.extractUsername(token),
+                jwtUtil.extractPessoaId(token), jwtUtil.extractNumeroDocumento(token),
+                jwtUtil.extractTipoPessoa(token), jwtUtil.extractCargo(token), jwtUtil.extractPerfil(token));
+        bh.consume(jwtUtil.extractUsername(token).equals(userDetails.getUsername()));
+        bh.consume(jwtUtil.extractClaim(token, Claims::getExpiration));
+        // JwtAuthorizationFilter
+        bh.consume(jwtUtil.extractPerfil(token));
+        bh.consume(jwtUtil.extractPessoaId(token));
+    }
+
+    @Benchmark
+    public void parseUnico(Blackhole bh) {
+        JwtClaims claims = jwtUtil.parseToken(token);
+        JwtUserDetails userDetails = JwtUserDetails.from(claims);
+        bh.consume(jwtUtil.isTokenValid(claims, userDetails));
+        bh.consume(claims.perfil());
+        bh.consume(claims.pessoaId());
+    }
+
+    @Benchmark
+    public Claims verificacaoComParserPorChamada() {
+        // caminho antigo: decodifica a chave e monta um parser a cada verificação
+        Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public JwtClaims verificacaoComParserCompartilhado() {
+        return jwtUtil.parseToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtUtilBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtUtil Tests")
+class JwtUtilTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LXdpdGgtbWluaW11bS0yNTYtYml0cy1mb3ItSFMyNTYtc2lnbmluZy1hbGdvcml0aG0=";
+
+    private JwtUtil jwtUtil;
+    private UUID pessoaId;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(new JwtKeyRing(SECRET, "", "", event -> {
+        }), 3600000L);
+        pessoaId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve extrair todas as claims com um único parse")
+    void deveExtrairTodasAsClaims() {
+        String token = gerarToken(claimsCompletas());
+
+        JwtClaims claims = jwtUtil.parseToken(token);
+
+        assertEquals("user", claims.subject());
+        assertEquals(pessoaId.toString(), claims.pessoaId());
+        assertEquals("12345678901", claims.numeroDocumento());
+        assertEquals("FISICA", claims.tipoPessoa());
+        assertEquals("ATENDENTE", claims.cargo());
+        assertEquals("CLIENTE", claims.perfil());
+        assertNotNull(claims.issuedAt());
+        assertNotNull(claims.expiration());
+    }
+
+    @Test
+    @DisplayName("Deve montar JwtUserDetails a partir do snapshot")
+    void deveMontarUserDetails() {
+        String token = gerarToken(claimsCompletas());
+
+        JwtUserDetails userDetails = jwtUtil.extractUserDetails(token);
+
+        assertEquals(pessoaId, userDetails.getPessoaId());
+        assertEquals("CLIENTE", userDetails.getPerfil());
+        assertTrue(jwtUtil.isTokenValid(jwtUtil.parseToken(token), userDetails));
+        assertTrue(jwtUtil.isTokenValid(token, userDetails));
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando claim obrigatória está ausente")
+    void deveFalharSemClaimObrigatoria() {
+        Map<String, Object> claims = claimsCompletas();
+        claims.remove("perfil");
+        String token = gerarToken(claims);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> jwtUtil.parseToken(token));
+        assertTrue(ex.getMessage().contains("perfil"));
+    }
+
+    @Test
+    @DisplayName("Token de outro usuário não deve ser válido")
+    void tokenDeOutroUsuarioNaoDeveSerValido() {
+        JwtClaims claims = jwtUtil.parseToken(gerarToken(claimsCompletas()));
+        JwtUserDetails outro = JwtUserDetails.from("outro", pessoaId.toString(), "1", "FISICA", null, "ADMIN");
+
+        assertFalse(jwtUtil.isTokenValid(claims, outro));
+    }
+
+    private Map<String, Object> claimsCompletas() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("pessoaId", pessoaId.toString());
+        claims.put("numeroDocumento", "12345678901");
+        claims.put("tipoPessoa", "FISICA");
+        claims.put("cargo", "ATENDENTE");
+        claims.put("perfil", "CLIENTE");
+        return claims;
+    }
+
+    private String gerarToken(Map<String, Object> claims) {
+        return jwtUtil.generateToken(claims,
+                JwtUserDetails.from("user", pessoaId.toString(), "12345678901", "FISICA", null, "CLIENTE"));
+    }
+}
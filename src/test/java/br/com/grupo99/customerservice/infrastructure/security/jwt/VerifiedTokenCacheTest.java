@@ -0,0 +1,178 @@
+package br.com.grupo99.customerservice.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VerifiedTokenCache Tests")
+class VerifiedTokenCacheTest {
+
+    private static final Instant AGORA = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private final Clock clock = Clock.fixed(AGORA, ZoneOffset.UTC);
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger verificacoes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verificacoes = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve verificar o token apenas uma vez enquanto estiver no cache")
+    void deveVerificarUmaVez() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 10000, meterRegistry, clock, ticker);
+        Function<String, JwtClaims> verifier = verifier(AGORA.plusSeconds(60));
+
+        VerifiedTokenCache.VerifiedToken primeiro = cache.get("token", verifier);
+        VerifiedTokenCache.VerifiedToken segundo = cache.get("token", verifier);
+
+        assertSame(primeiro, segundo);
+        assertEquals(1, verificacoes.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Entrada deve expirar no exp do token")
+    void deveExpirarNoExp() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 10000, meterRegistry, clock, ticker);
+        Function<String, JwtClaims> verifier = verifier(AGORA.plusSeconds(60));
+
+        cache.get("token", verifier);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        cache.get("token", verifier);
+
+        assertEquals(2, verificacoes.get());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tamanho máximo")
+    void deveRespeitarTamanhoMaximo() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 2, 10000, meterRegistry, clock, ticker);
+        Function<String, JwtClaims> verifier = verifier(AGORA.plusSeconds(60));
+
+        for (int i = 0; i < 10; i++) {
+            cache.get("token-" + i, verifier);
+        }
+
+        assertTrue(cache.estimatedSize() <= 2);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar token sem exp")
+    void naoDeveGuardarTokenSemExp() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 10000, meterRegistry, clock, ticker);
+        Function<String, JwtClaims> verifier = verifier(null);
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertEquals(2, verificacoes.get());
+    }
+
+    @Test
+    @DisplayName("Cache desligado deve sempre verificar")
+    void cacheDesligadoDeveSempreVerificar() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100, 10000, meterRegistry, clock, ticker);
+        Function<String, JwtClaims> verifier = verifier(AGORA.plusSeconds(60));
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertEquals(2, verificacoes.get());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar token que falhou na verificação")
+    void naoDeveGuardarTokenInvalido() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 10000, meterRegistry, clock, ticker);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("token", token -> {
+            throw new IllegalArgumentException("assinatura inválida");
+        }));
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Token recusado deve ser rejeitado pelo cache negativo sem nova verificação")
+    void deveRejeitarPeloCacheNegativo() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 10000, meterRegistry, clock, ticker);
+        Function<String, JwtClaims> verifier = token -> {
+            verificacoes.incrementAndGet();
+            throw new MissingClaimException("pessoaId");
+        };
+
+        assertThrows(MissingClaimException.class, () -> cache.get("token", verifier));
+        RejectedTokenException rejeitado = assertThrows(RejectedTokenException.class,
+                () -> cache.get("token", verifier));
+
+        assertEquals(JwtAuthMetrics.Reason.MISSING_PESSOA_ID, rejeitado.getReason());
+        assertEquals(1, verificacoes.get());
+        assertEquals(1, cache.estimatedRejectedSize());
+    }
+
+    @Test
+    @DisplayName("Cache negativo deve expirar e ser limpo quando um kid novo é aceito")
+    void cacheNegativoDeveExpirarEReagirANovasChaves() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 10000, meterRegistry, clock, ticker);
+        Function<String, JwtClaims> verifier = token -> {
+            verificacoes.incrementAndGet();
+            throw new io.jsonwebtoken.security.SignatureException("kid desconhecido");
+        };
+
+        assertThrows(io.jsonwebtoken.security.SignatureException.class, () -> cache.get("token", verifier));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        assertThrows(io.jsonwebtoken.security.SignatureException.class, () -> cache.get("token", verifier));
+        cache.onKeysAdded(new JwtKeyRing.KeysAddedEvent(null));
+        assertThrows(io.jsonwebtoken.security.SignatureException.class, () -> cache.get("token", verifier));
+
+        assertEquals(3, verificacoes.get());
+    }
+
+    @Test
+    @DisplayName("Falha inesperada não deve ir para o cache negativo")
+    void falhaInesperadaNaoDeveSerMemorizada() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 10000, meterRegistry, clock, ticker);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("token", token -> {
+            throw new IllegalStateException("falha transitória");
+        }));
+        assertEquals(0, cache.estimatedRejectedSize());
+    }
+
+    @Test
+    @DisplayName("Digest deve ser determinístico e não conter o token")
+    void digestDeveSerDeterministico() {
+        String digest = VerifiedTokenCache.digest("abc.def.ghi");
+        assertEquals(digest, VerifiedTokenCache.digest("abc.def.ghi"));
+        assertNotEquals(digest, VerifiedTokenCache.digest("abc.def.ghj"));
+        assertFalse(digest.contains("abc"));
+    }
+
+    private Function<String, JwtClaims> verifier(Instant expiration) {
+        String pessoaId = UUID.randomUUID().toString();
+        return token -> {
+            verificacoes.incrementAndGet();
+            return new JwtClaims("user", pessoaId, "12345678901", "FISICA", null, "CLIENTE", AGORA, expiration);
+        };
+    }
+}